@@ -3,6 +3,7 @@ package com.snowfall.core;
 import com.snowfall.core.common.ArgumentsParser;
 import com.snowfall.core.configurations.ConfigurationProvider;
 import com.snowfall.core.dependencyinjection.ServiceProvider;
+import com.snowfall.core.diagnostics.VirtualThreadPinningMonitor;
 import com.snowfall.core.threading.AsyncTask;
 import com.snowfall.core.utilities.FileSystemUtilities;
 import com.snowfall.core.utilities.StringUtilities;
@@ -12,6 +13,7 @@ import org.apache.logging.log4j.LogManager;
 public class MainBase {
 
     private static final String DEFAULT_LOGS_DIRECTORY_PATH = "application-data/{{applicationName}}/{{instanceId}}/logs";
+    private static final int VIRTUAL_THREAD_PINNING_TOP_OFFENDER_COUNT = 10;
 
     protected String getDefaultLogsDirectoryPath() {
         return DEFAULT_LOGS_DIRECTORY_PATH;
@@ -94,6 +96,15 @@ public class MainBase {
         // getting the context...
         final var context = serviceProvider.get(ApplicationContextImpl.class);
         Application application = null;
+        // virtual thread pinning monitor is enabled via the command-line
+        // argument "virtualThreadPinningMonitorEnabled"...
+        final var virtualThreadPinningMonitor = ArgumentsParser.getArgumentAsBoolean(
+                "virtualThreadPinningMonitorEnabled", false)
+                ? VirtualThreadPinningMonitor.getInstance()
+                : null;
+
+        // if enabled, we shall start monitoring virtual thread pinning...
+        if (virtualThreadPinningMonitor != null) { virtualThreadPinningMonitor.start(); }
 
         try {
             // loads profile specific configuration from resource (JSON file)...
@@ -117,6 +128,16 @@ public class MainBase {
             // releases all the resources associated with the async task execution runtime...
             AsyncTask.dispose();
 
+            if (virtualThreadPinningMonitor != null) {
+                logger.log(Level.INFO, "Virtual thread pinned event count: {}, submit failed event count: {}, top offenders: {}",
+                        virtualThreadPinningMonitor.getPinnedEventCount(),
+                        virtualThreadPinningMonitor.getSubmitFailedEventCount(),
+                        virtualThreadPinningMonitor.getTopOffenders(VIRTUAL_THREAD_PINNING_TOP_OFFENDER_COUNT));
+
+                // stops monitoring virtual thread pinning...
+                virtualThreadPinningMonitor.close();
+            }
+
             // releases all the resources associated with the logger...
             // NOTE: THIS METHOD IS CALLED TO ENSURE THAT THE BUFFERED
             // CONTENT GETS FLUSHED TO DISK...
@@ -0,0 +1,65 @@
+package com.snowfall.core.caching;
+
+/**
+ * An intrusive doubly linked list of cache nodes ordered
+ * from the least recently used to the most recently used.
+ * @implNote This class is not thread-safe. It is guarded by the eviction lock.
+ */
+final class AccessOrderDeque<KeyType, ValueType> {
+
+    private CacheNode<KeyType, ValueType> first;
+    private CacheNode<KeyType, ValueType> last;
+
+    boolean isEmpty() {
+        return first == null;
+    }
+
+    CacheNode<KeyType, ValueType> peekFirst() {
+        return first;
+    }
+
+    CacheNode<KeyType, ValueType> peekLast() {
+        return last;
+    }
+
+    void addLast(final CacheNode<KeyType, ValueType> node) {
+        node.previous = last;
+        node.next = null;
+
+        if (last == null) { first = node; } else { last.next = node; }
+
+        last = node;
+    }
+
+    void remove(final CacheNode<KeyType, ValueType> node) {
+        final var previous = node.previous;
+        final var next = node.next;
+
+        if (previous == null) { first = next; } else { previous.next = next; }
+        if (next == null) { last = previous; } else { next.previous = previous; }
+
+        node.previous = null;
+        node.next = null;
+    }
+
+    void moveToLast(final CacheNode<KeyType, ValueType> node) {
+        // if the node is already the last one, we shall not proceed any further...
+        if (node == last) { return; }
+
+        remove(node);
+        addLast(node);
+    }
+
+    CacheNode<KeyType, ValueType> pollFirst() {
+        final var node = first;
+
+        if (node != null) { remove(node); }
+
+        return node;
+    }
+
+    void clear() {
+        first = null;
+        last = null;
+    }
+}
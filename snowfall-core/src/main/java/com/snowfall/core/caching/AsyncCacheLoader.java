@@ -0,0 +1,58 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.threading.AsyncTask;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Asynchronously loads the values of an {@link AsyncLoadingCache}.
+ * @param <KeyType> Type of the keys.
+ * @param <ValueType> Type of the values.
+ */
+public interface AsyncCacheLoader<KeyType, ValueType> {
+
+    /**
+     * Asynchronously loads the value associated with the key.
+     * @param key Key whose value shall be loaded.
+     * @return An AsyncTask object that holds the loaded value
+     * (or null if no value exists for the key).
+     */
+    AsyncTask<ValueType> load(final KeyType key);
+
+    /**
+     * Asynchronously loads the values associated with the keys.
+     * @implNote The default implementation loads every key concurrently
+     * using {@link #load(Object)}. Implementations that can fetch multiple
+     * keys in one round trip (e.g. batch queries) should override this method.
+     * @param keys Keys whose values shall be loaded.
+     * @return An AsyncTask object that holds the loaded values mapped by key.
+     * Keys for which no value exists may be omitted.
+     */
+    default AsyncTask<Map<KeyType, ValueType>> loadAll(final Collection<? extends KeyType> keys) {
+        final var keyList = new ArrayList<KeyType>(keys);
+        final var asyncTasks = new ArrayList<AsyncTask<ValueType>>(keyList.size());
+
+        // starts loading all the keys concurrently...
+        for (final var key : keyList) {
+            asyncTasks.add(load(key));
+        }
+
+        return AsyncTask.run(() -> {
+            final var valueMapByKey = new HashMap<KeyType, ValueType>(keyList.size());
+
+            for (var i = 0; i < keyList.size(); ++i) {
+                final var value = asyncTasks.get(i).await();
+
+                // keys without value are omitted...
+                if (value == null) { continue; }
+
+                valueMapByKey.put(keyList.get(i), value);
+            }
+
+            return valueMapByKey;
+        });
+    }
+}
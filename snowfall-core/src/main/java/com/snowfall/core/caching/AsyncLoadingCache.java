@@ -0,0 +1,97 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.threading.AsyncTask;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A cache that asynchronously loads missing values using an {@link AsyncCacheLoader}.
+ * Concurrent misses for the same key are coalesced into a single load. If
+ * refresh-after-write is configured, entries eligible for refresh are served
+ * while a background virtual thread reloads them (refresh-ahead).
+ * @implNote Implementations of this interface are thread-safe.
+ * @param <KeyType> Type of the keys.
+ * @param <ValueType> Type of the values.
+ */
+public interface AsyncLoadingCache<KeyType, ValueType> {
+
+    /**
+     * Gets the value associated with the key, loading it if necessary.
+     * @param key Key whose associated value shall be returned.
+     * @return An AsyncTask object that holds the value. If the value is
+     * cached, the AsyncTask object is already completed.
+     */
+    AsyncTask<ValueType> get(final KeyType key);
+
+    /**
+     * Gets the values associated with the keys. Missing keys that are already
+     * being loaded join the in-flight loads. All the other missing keys are loaded
+     * using a single {@link AsyncCacheLoader#loadAll(Collection)} call which
+     * concurrent callers for the same keys join.
+     * @param keys Keys whose associated values shall be returned.
+     * @return An AsyncTask object that holds the values mapped by key.
+     * Keys for which no value exists are omitted.
+     */
+    AsyncTask<Map<KeyType, ValueType>> getAll(final Collection<? extends KeyType> keys);
+
+    /**
+     * Gets the cached value associated with the key without loading.
+     * @param key Key whose associated value shall be returned.
+     * @return The cached value or null.
+     */
+    ValueType getIfPresent(final KeyType key);
+
+    /**
+     * Associates the value with the key, replacing the existing value (if any).
+     * @param key Key with which the value shall be associated.
+     * @param value Value to be associated with the key.
+     */
+    void put(final KeyType key, final ValueType value);
+
+    /**
+     * Reloads the value associated with the key. The existing
+     * value (if any) is served until the reload completes.
+     * @param key Key whose value shall be reloaded.
+     * @return An AsyncTask object that holds the reloaded value.
+     */
+    AsyncTask<ValueType> refresh(final KeyType key);
+
+    /**
+     * Removes the entry associated with the key. A load that is in flight
+     * for the key does not cache its value when it completes.
+     * @param key Key whose entry shall be removed.
+     */
+    void invalidate(final KeyType key);
+
+    /**
+     * Removes all the entries.
+     */
+    void invalidateAll();
+
+    /**
+     * Gets the approximate number of entries.
+     * @return The approximate number of entries.
+     */
+    long size();
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     * @return The cache statistics.
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Creates a new asynchronous loading cache.
+     * @param options Options to create the cache.
+     * @param loader Loader to load the missing values.
+     * @return A new asynchronous loading cache.
+     * @param <KeyType> Type of the keys.
+     * @param <ValueType> Type of the values.
+     */
+    static <KeyType, ValueType> AsyncLoadingCache<KeyType, ValueType> create(
+            final CacheOptions<KeyType, ValueType> options,
+            final AsyncCacheLoader<KeyType, ValueType> loader) {
+        return new AsyncLoadingCacheImpl<>(options, loader);
+    }
+}
@@ -0,0 +1,252 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.threading.AsyncTask;
+import com.snowfall.core.threading.SingleFlight;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+class AsyncLoadingCacheImpl<KeyType, ValueType> implements AsyncLoadingCache<KeyType, ValueType> {
+
+    private final Logger logger = LogManager.getLogger(AsyncLoadingCacheImpl.class);
+    private final Cache<KeyType, LoadedValue<ValueType>> cache;
+    private final AsyncCacheLoader<KeyType, ValueType> loader;
+    // NOTE: LOADS AND REFRESHES SHARE THE SAME SINGLE FLIGHT SO THAT
+    // A MISS DURING AN IN-FLIGHT REFRESH JOINS THE REFRESH...
+    private final SingleFlight<KeyType, ValueType> singleFlight = new SingleFlight<>();
+    // NOTE: EVERY LOAD REGISTERS A TOKEN FOR ITS KEY WHEN IT STARTS. PUT AND INVALIDATION
+    // REMOVE THE TOKEN, SO THAT A LOAD THAT STARTED BEFORE THEM DOES NOT OVERWRITE
+    // THE NEWER STATE WHEN IT COMPLETES...
+    private final Map<KeyType, Object> loadTokenMapByKey = new ConcurrentHashMap<>();
+    private final long refreshAfterWriteInNanoseconds;
+
+    AsyncLoadingCacheImpl(
+            final CacheOptions<KeyType, ValueType> options,
+            final AsyncCacheLoader<KeyType, ValueType> loader) {
+        // if options are not provided, we shall throw exception...
+        if (options == null) { throw new IllegalArgumentException("Provided cache options are null."); }
+        // if loader is not provided, we shall throw exception...
+        if (loader == null) { throw new IllegalArgumentException("Provided cache loader is null."); }
+
+        final var weigher = options.getWeigher();
+
+        this.loader = loader;
+        refreshAfterWriteInNanoseconds = TimeUnit.MILLISECONDS.toNanos(
+                Math.max(options.getRefreshAfterWriteInMilliseconds(), 0L));
+        cache = Cache.create(new CacheOptions<KeyType, LoadedValue<ValueType>>()
+                .setMaximumSize(options.getMaximumSize())
+                .setMaximumWeight(options.getMaximumWeight())
+                .setWeigher(weigher == null ? null : (key, loadedValue) -> weigher.weigh(key, loadedValue.value))
+                .setExpireAfterWriteInMilliseconds(options.getExpireAfterWriteInMilliseconds())
+                .setExpireAfterAccessInMilliseconds(options.getExpireAfterAccessInMilliseconds()));
+    }
+
+    @Override
+    public AsyncTask<ValueType> get(final KeyType key) {
+        final var loadedValue = cache.get(key);
+
+        // if the value is not cached, we shall load it...
+        if (loadedValue == null) { return load(key); }
+
+        // if the value is due for refresh, we shall refresh it in the background...
+        refreshIfRequired(key, loadedValue);
+
+        return AsyncTask.from(loadedValue.value);
+    }
+
+    @Override
+    public AsyncTask<Map<KeyType, ValueType>> getAll(final Collection<? extends KeyType> keys) {
+        final var valueMapByKey = new LinkedHashMap<KeyType, ValueType>(keys.size());
+        final var missingKeys = new ArrayList<KeyType>();
+
+        for (final var key : keys) {
+            // if the key is already processed, we shall skip...
+            if (valueMapByKey.containsKey(key)) { continue; }
+
+            final var loadedValue = cache.get(key);
+
+            if (loadedValue == null) {
+                missingKeys.add(key);
+
+                continue;
+            }
+
+            refreshIfRequired(key, loadedValue);
+            valueMapByKey.put(key, loadedValue.value);
+        }
+
+        // if all the values are cached, we shall not proceed any further...
+        if (missingKeys.isEmpty()) { return AsyncTask.from(valueMapByKey); }
+
+        // NOTE: KEYS THAT ARE ALREADY BEING LOADED JOIN THEIR IN-FLIGHT LOADS. ALL THE OTHER
+        // MISSING KEYS ARE LOADED USING A SINGLE LOADER CALL WHICH CONCURRENT CALLERS JOIN...
+        final var asyncTaskMapByKey = singleFlight.executeAll(missingKeys, this::loadAll);
+
+        return AsyncTask.run(() -> {
+            for (final var entry : asyncTaskMapByKey.entrySet()) {
+                final var value = entry.getValue().await();
+
+                // keys without value are omitted...
+                if (value == null) { continue; }
+
+                valueMapByKey.put(entry.getKey(), value);
+            }
+
+            return valueMapByKey;
+        });
+    }
+
+    @Override
+    public ValueType getIfPresent(final KeyType key) {
+        final var loadedValue = cache.get(key);
+
+        return loadedValue == null ? null : loadedValue.value;
+    }
+
+    @Override
+    public void put(final KeyType key, final ValueType value) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        // NOTE: THE TOKEN MUST BE REMOVED BEFORE WRITING (SEE completeLoad())...
+        loadTokenMapByKey.remove(key);
+        cache.put(key, new LoadedValue<>(value, System.nanoTime()));
+    }
+
+    @Override
+    public AsyncTask<ValueType> refresh(final KeyType key) {
+        return load(key);
+    }
+
+    @Override
+    public void invalidate(final KeyType key) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        // NOTE: THE TOKEN MUST BE REMOVED BEFORE REMOVING THE VALUE (SEE completeLoad())...
+        loadTokenMapByKey.remove(key);
+        cache.remove(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        loadTokenMapByKey.clear();
+        cache.clear();
+    }
+
+    @Override
+    public long size() {
+        return cache.size();
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    private void refreshIfRequired(final KeyType key, final LoadedValue<ValueType> loadedValue) {
+        // if refresh is disabled or the value is fresh, we shall not proceed any further...
+        if (refreshAfterWriteInNanoseconds == 0L
+                || System.nanoTime() - loadedValue.loadTime < refreshAfterWriteInNanoseconds) { return; }
+
+        // NOTE: SINGLE FLIGHT ENSURES THAT ONLY ONE REFRESH IS IN FLIGHT PER KEY...
+        load(key);
+    }
+
+    private AsyncTask<ValueType> load(final KeyType key) {
+        return singleFlight.execute(key, () -> {
+            final var loadToken = beginLoad(key);
+            ValueType value = null;
+
+            try {
+                value = loader.load(key).await();
+            } catch (final Exception exception) {
+                logger.log(Level.WARN, "An exception occurred while loading the value for key, {}.", key, exception);
+
+                throw exception;
+            } finally {
+                // if a value is loaded, we shall cache it...
+                completeLoad(key, loadToken, value);
+            }
+
+            return value;
+        });
+    }
+
+    /**
+     * Loads the keys using a single loader call. This method is invoked by
+     * the single flight (on its own thread) only for the keys that are not
+     * already in flight.
+     */
+    private AsyncTask<Map<KeyType, ValueType>> loadAll(final List<KeyType> keys) {
+        final var loadTokens = new ArrayList<>(keys.size());
+
+        for (final var key : keys) { loadTokens.add(beginLoad(key)); }
+
+        Map<KeyType, ValueType> valueMapByKey = null;
+
+        try {
+            valueMapByKey = loader.loadAll(keys).await();
+        } catch (final RuntimeException exception) {
+            logger.log(Level.WARN, "An exception occurred while loading the values for keys, {}.", keys, exception);
+
+            throw exception;
+        } finally {
+            // caches the loaded values (keys without value are omitted)...
+            for (var i = 0; i < keys.size(); ++i) {
+                final var key = keys.get(i);
+
+                completeLoad(key, loadTokens.get(i), valueMapByKey == null ? null : valueMapByKey.get(key));
+            }
+        }
+
+        return AsyncTask.from(valueMapByKey);
+    }
+
+    private Object beginLoad(final KeyType key) {
+        final var loadToken = new Object();
+
+        loadTokenMapByKey.put(key, loadToken);
+
+        return loadToken;
+    }
+
+    /**
+     * Removes the token of the load and caches the loaded value. If the token
+     * has been removed in the meantime (by put or invalidation), the value is
+     * not cached because it may be older than the current state.
+     * @implNote The value is cached while the token entry is locked. Since put and
+     * invalidation remove the token before writing, they either wait for this write
+     * (and overwrite it) or remove the token first (and this write is skipped).
+     * @param value Loaded value. Null if no value is loaded.
+     */
+    private void completeLoad(final KeyType key, final Object loadToken, final ValueType value) {
+        loadTokenMapByKey.computeIfPresent(key, (ignoredKey, currentLoadToken) -> {
+            // if the token belongs to another load, we shall keep it...
+            if (currentLoadToken != loadToken) { return currentLoadToken; }
+            // if a value is loaded, we shall cache it...
+            if (value != null) { cache.put(key, new LoadedValue<>(value, System.nanoTime())); }
+
+            return null;
+        });
+    }
+
+    private static final class LoadedValue<ValueType> {
+
+        private final ValueType value;
+        private final long loadTime;
+
+        private LoadedValue(final ValueType value, final long loadTime) {
+            this.value = value;
+            this.loadTime = loadTime;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.dependencyinjection.ServiceProvider;
+
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent, in-process cache. Entries are evicted using
+ * the W-TinyLFU policy when the cache exceeds its maximum size (or weight)
+ * and optionally expire after write and/or after access.
+ * @implNote Implementations of this interface are thread-safe.
+ * Null keys and values are not supported.
+ * @param <KeyType> Type of the keys.
+ * @param <ValueType> Type of the values.
+ */
+public interface Cache<KeyType, ValueType> {
+
+    /**
+     * Gets the value associated with the key.
+     * @param key Key whose associated value shall be returned.
+     * @return The value or null if the cache contains no entry
+     * (or an expired entry) for the key.
+     */
+    ValueType get(final KeyType key);
+
+    /**
+     * Gets the value associated with the key. If the cache contains
+     * no entry for the key, the value is computed using the mapping
+     * function and stored in the cache.
+     * @implNote The mapping function is executed outside any lock and may be
+     * executed more than once for the same key by concurrent callers.
+     * @param key Key whose associated value shall be returned.
+     * @param mappingFunction Function to compute the value.
+     * @return The current (existing or computed) value or null if
+     * the mapping function returns null.
+     */
+    ValueType get(final KeyType key, final Function<? super KeyType, ? extends ValueType> mappingFunction);
+
+    /**
+     * Associates the value with the key, replacing the existing value (if any).
+     * @param key Key with which the value shall be associated.
+     * @param value Value to be associated with the key.
+     * @return The previous value or null if there was no entry for the key.
+     */
+    ValueType put(final KeyType key, final ValueType value);
+
+    /**
+     * Associates the value with the key if the cache contains no entry for the key.
+     * @param key Key with which the value shall be associated.
+     * @param value Value to be associated with the key.
+     * @return The existing value or null if the value was associated.
+     */
+    ValueType putIfAbsent(final KeyType key, final ValueType value);
+
+    /**
+     * Removes the entry associated with the key.
+     * @param key Key whose entry shall be removed.
+     * @return The removed value or null if there was no entry for the key.
+     */
+    ValueType remove(final KeyType key);
+
+    /**
+     * Removes all the entries.
+     */
+    void clear();
+
+    /**
+     * Gets the approximate number of entries.
+     * @implNote Expired entries that are not yet removed are also counted.
+     * @return The approximate number of entries.
+     */
+    long size();
+
+    /**
+     * Gets the total weight of all the entries. If the cache is not
+     * weighted, this is equal to the number of entries.
+     * @return The total weight of all the entries.
+     */
+    long weightedSize();
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     * @return The cache statistics.
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Creates a new cache.
+     * @param options Options to create the cache.
+     * @return A new cache.
+     * @param <KeyType> Type of the keys.
+     * @param <ValueType> Type of the values.
+     */
+    static <KeyType, ValueType> Cache<KeyType, ValueType> create(final CacheOptions<KeyType, ValueType> options) {
+        return new CacheImpl<>(options);
+    }
+
+    /**
+     * Retrieves the cache registered to the service provider by name.
+     * If no cache is registered by the name, a new cache is created
+     * using the options and registered.
+     * @param name Name of the cache.
+     * @param options Options to create the cache (if not registered yet).
+     * @return The cache registered by the name.
+     * @param <KeyType> Type of the keys.
+     * @param <ValueType> Type of the values.
+     */
+    @SuppressWarnings(value = "unchecked")
+    static <KeyType, ValueType> Cache<KeyType, ValueType> getInstance(
+            final String name,
+            final CacheOptions<KeyType, ValueType> options) {
+        return ServiceProvider.getSingleton()
+                .get(Cache.class.getTypeName() + ':' + name, Cache.class, () -> create(options));
+    }
+}
@@ -0,0 +1,469 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.threading.AsyncTask;
+import com.snowfall.core.threading.TimerWheel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * W-TinyLFU cache. New entries enter a small LRU window (1% of the capacity).
+ * Entries leaving the window compete with the least recently used entries of the
+ * main segmented LRU (probation and protected segments) and the one estimated
+ * to be more popular by the frequency sketch is retained.
+ * @implNote Reads are lock-free and recorded in striped read buffers which are
+ * drained in batches under the eviction lock. Writes acquire the eviction lock.
+ */
+class CacheImpl<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+    // NOTE: THIS LOCK GUARDS THE EVICTION POLICY (DEQUES, SKETCH AND WEIGHTS)...
+    private final Lock evictionLock = new ReentrantLock(false);
+    private final Map<KeyType, CacheNode<KeyType, ValueType>> nodeMapByKey;
+    private final ReadBuffer<KeyType, ValueType>[] readBuffers;
+    private final int readBufferMask;
+    private final FrequencySketch frequencySketch = new FrequencySketch();
+    private final AccessOrderDeque<KeyType, ValueType> windowDeque = new AccessOrderDeque<>();
+    private final AccessOrderDeque<KeyType, ValueType> probationDeque = new AccessOrderDeque<>();
+    private final AccessOrderDeque<KeyType, ValueType> protectedDeque = new AccessOrderDeque<>();
+    private final Weigher<? super KeyType, ? super ValueType> weigher;
+    private final boolean weighted;
+    private final long maximum;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long expireAfterWriteInNanoseconds;
+    private final long expireAfterAccessInNanoseconds;
+    private final TimerWheel timerWheel;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    // NOTE: THE FOLLOWING FIELDS ARE GUARDED BY THE EVICTION LOCK...
+    private long weightedSize = 0L;
+    private long windowWeightedSize = 0L;
+    private long protectedWeightedSize = 0L;
+
+    private static final int NODE_MAP_BY_KEY_MAXIMUM_INITIAL_CAPACITY = 1 << 16;
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.80;
+    private static final int READ_BUFFER_COUNT = Integer.highestOneBit(
+            Math.max(Runtime.getRuntime().availableProcessors(), 1) * 4 - 1) << 1;
+
+    @SuppressWarnings(value = "unchecked")
+    CacheImpl(final CacheOptions<KeyType, ValueType> options) {
+        // if options are not provided, we shall throw exception...
+        if (options == null) { throw new IllegalArgumentException("Provided cache options are null."); }
+
+        maximum = options.getMaximum();
+
+        // if maximum size (or weight) is not positive, we shall throw exception...
+        if (maximum < 1L) { throw new IllegalArgumentException("Maximum size (or weight) must be greater than zero."); }
+
+        weighted = options.isWeighted();
+        weigher = weighted && options.getWeigher() != null
+                ? options.getWeigher()
+                : Weigher.singleton();
+        windowMaximum = Math.max((long) (maximum * WINDOW_PERCENTAGE), 1L);
+        protectedMaximum = (long) ((maximum - windowMaximum) * PROTECTED_PERCENTAGE);
+        expireAfterWriteInNanoseconds = TimeUnit.MILLISECONDS.toNanos(Math.max(options.getExpireAfterWriteInMilliseconds(), 0L));
+        expireAfterAccessInNanoseconds = TimeUnit.MILLISECONDS.toNanos(Math.max(options.getExpireAfterAccessInMilliseconds(), 0L));
+        // NOTE: TIMER WHEEL IS ONLY USED IF EXPIRATION IS ENABLED...
+        timerWheel = isExpirationEnabled() ? AsyncTask.getTimerWheel() : null;
+        nodeMapByKey = new ConcurrentHashMap<>((int) Math.min(maximum, NODE_MAP_BY_KEY_MAXIMUM_INITIAL_CAPACITY));
+        readBuffers = new ReadBuffer[READ_BUFFER_COUNT];
+        readBufferMask = READ_BUFFER_COUNT - 1;
+
+        for (var i = 0; i < readBuffers.length; ++i) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+
+        // if the cache is bounded by size, the sketch can be sized beforehand...
+        if (!weighted) { frequencySketch.ensureCapacity(maximum); }
+    }
+
+    private boolean isExpirationEnabled() {
+        return expireAfterWriteInNanoseconds > 0L || expireAfterAccessInNanoseconds > 0L;
+    }
+
+    private boolean isExpired(final CacheNode<KeyType, ValueType> node, final long currentTime) {
+        return (expireAfterWriteInNanoseconds > 0L && currentTime - node.getWriteTime() >= expireAfterWriteInNanoseconds)
+                || (expireAfterAccessInNanoseconds > 0L && currentTime - node.getAccessTime() >= expireAfterAccessInNanoseconds);
+    }
+
+    private long getCurrentTime() {
+        // NOTE: READING THE CLOCK IS AVOIDED IF EXPIRATION IS DISABLED...
+        return isExpirationEnabled() ? System.nanoTime() : 0L;
+    }
+
+    private int weigh(final KeyType key, final ValueType value) {
+        final var weight = weigher.weigh(key, value);
+
+        // if weight is negative, we shall throw exception...
+        if (weight < 0) { throw new IllegalArgumentException("Weight must not be negative."); }
+
+        return weight;
+    }
+
+    @Override
+    public ValueType get(final KeyType key) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        final var node = nodeMapByKey.get(key);
+
+        // if no entry is found, it's a miss...
+        if (node == null) {
+            missCount.increment();
+
+            return null;
+        }
+
+        final var currentTime = getCurrentTime();
+
+        // expired entries are treated as absent (timer wheel removes them)...
+        if (isExpired(node, currentTime)) {
+            missCount.increment();
+
+            return null;
+        }
+
+        if (expireAfterAccessInNanoseconds > 0L) { node.setAccessTime(currentTime); }
+
+        // records the read so that the policy gets updated later...
+        afterRead(node);
+        hitCount.increment();
+
+        return node.getValue();
+    }
+
+    @Override
+    public ValueType get(final KeyType key, final Function<? super KeyType, ? extends ValueType> mappingFunction) {
+        final var value = get(key);
+
+        // if value is found, we shall return the value...
+        if (value != null) { return value; }
+
+        final var computedValue = mappingFunction.apply(key);
+
+        // if the mapping function returns null, we shall not store anything...
+        if (computedValue == null) { return null; }
+
+        final var existingValue = putIfAbsent(key, computedValue);
+
+        // NOTE: ANOTHER THREAD MIGHT HAVE STORED A VALUE IN THE MEANTIME...
+        return existingValue == null ? computedValue : existingValue;
+    }
+
+    @Override
+    public ValueType put(final KeyType key, final ValueType value) {
+        return put(key, value, false);
+    }
+
+    @Override
+    public ValueType putIfAbsent(final KeyType key, final ValueType value) {
+        return put(key, value, true);
+    }
+
+    private ValueType put(final KeyType key, final ValueType value, final boolean onlyIfAbsent) {
+        // if key or value is null, we shall throw exception...
+        if (key == null || value == null) { throw new IllegalArgumentException("Provided key or value is null."); }
+
+        final var weight = weigh(key, value);
+
+        evictionLock.lock();        // <-- synchronized write starts...
+
+        try {
+            drainReadBuffers();
+
+            final var currentTime = getCurrentTime();
+            var node = nodeMapByKey.get(key);
+
+            // if the existing entry is expired, we shall remove it first...
+            if (node != null && isExpired(node, currentTime)) {
+                removeNode(node);
+                expirationCount.increment();
+
+                node = null;
+            }
+
+            // if an entry exists...
+            if (node != null) {
+                final var previousValue = node.getValue();
+
+                // and the value shall only be put if absent, we shall treat it as a read...
+                if (onlyIfAbsent) {
+                    onAccess(node);
+
+                    return previousValue;
+                }
+
+                // otherwise, we shall update the entry...
+                node.setValue(value);
+                node.setWriteTime(currentTime);
+                node.setAccessTime(currentTime);
+                updateWeight(node, weight);
+                onAccess(node);
+                scheduleExpiration(node, currentTime);
+                evictEntries();
+
+                return previousValue;
+            }
+
+            // if no entry exists, we shall create a new entry...
+            node = new CacheNode<>(key, value, weight, currentTime);
+            nodeMapByKey.put(key, node);
+
+            // if the cache is bounded by weight, the sketch grows with the number of entries...
+            if (weighted) { frequencySketch.ensureCapacity(nodeMapByKey.size()); }
+
+            frequencySketch.increment(key);
+            // new entries always enter the window...
+            node.queueType = CacheNode.QUEUE_TYPE_WINDOW;
+            windowDeque.addLast(node);
+            windowWeightedSize += weight;
+            weightedSize += weight;
+
+            scheduleExpiration(node, currentTime);
+            evictEntries();
+
+            return null;
+        } finally {
+            evictionLock.unlock();  // <-- synchronized write ends...
+        }
+    }
+
+    @Override
+    public ValueType remove(final KeyType key) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        evictionLock.lock();        // <-- synchronized write starts...
+
+        try {
+            final var node = nodeMapByKey.get(key);
+
+            // if no entry is found, we shall return null...
+            if (node == null) { return null; }
+
+            final var expired = isExpired(node, getCurrentTime());
+
+            removeNode(node);
+
+            // expired entries are treated as absent...
+            return expired ? null : node.getValue();
+        } finally {
+            evictionLock.unlock();  // <-- synchronized write ends...
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();        // <-- synchronized write starts...
+
+        try {
+            drainReadBuffers();
+
+            for (final var node : nodeMapByKey.values()) {
+                removeNode(node);
+            }
+        } finally {
+            evictionLock.unlock();  // <-- synchronized write ends...
+        }
+    }
+
+    @Override
+    public long size() {
+        return nodeMapByKey.size();
+    }
+
+    @Override
+    public long weightedSize() {
+        evictionLock.lock();
+
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), expirationCount.sum());
+    }
+
+    private void afterRead(final CacheNode<KeyType, ValueType> node) {
+        // selecting a read buffer based on the current thread to reduce contention...
+        final var index = (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> 32) & readBufferMask;
+        final var readBuffer = readBuffers[index];
+
+        // if the read buffer is not full, we shall not proceed any further...
+        if (!readBuffer.offer(node)) { return; }
+
+        // otherwise, we shall drain the read buffers if no other thread is doing so...
+        if (!evictionLock.tryLock()) { return; }
+
+        try {
+            drainReadBuffers();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (final var readBuffer : readBuffers) {
+            readBuffer.drainTo(this::onRead);
+        }
+    }
+
+    private void onRead(final CacheNode<KeyType, ValueType> node) {
+        // if the node is already removed, we shall skip...
+        if (!node.isAlive() || node.queueType == CacheNode.QUEUE_TYPE_NONE) { return; }
+
+        onAccess(node);
+    }
+
+    private void onAccess(final CacheNode<KeyType, ValueType> node) {
+        frequencySketch.increment(node.getKey());
+
+        switch (node.queueType) {
+            case CacheNode.QUEUE_TYPE_WINDOW -> windowDeque.moveToLast(node);
+            case CacheNode.QUEUE_TYPE_PROBATION -> {
+                // entries accessed in probation are promoted to the protected segment...
+                probationDeque.remove(node);
+                node.queueType = CacheNode.QUEUE_TYPE_PROTECTED;
+                protectedDeque.addLast(node);
+                protectedWeightedSize += node.weight;
+
+                // if the protected segment overflows, we shall demote the least recently used entries...
+                while (protectedWeightedSize > protectedMaximum) {
+                    final var demotedNode = protectedDeque.pollFirst();
+
+                    if (demotedNode == null) { break; }
+
+                    protectedWeightedSize -= demotedNode.weight;
+                    demotedNode.queueType = CacheNode.QUEUE_TYPE_PROBATION;
+                    probationDeque.addLast(demotedNode);
+                }
+            }
+            case CacheNode.QUEUE_TYPE_PROTECTED -> protectedDeque.moveToLast(node);
+            default -> { }
+        }
+    }
+
+    private void updateWeight(final CacheNode<KeyType, ValueType> node, final int weight) {
+        final var weightDifference = weight - node.weight;
+
+        node.weight = weight;
+        weightedSize += weightDifference;
+
+        if (node.queueType == CacheNode.QUEUE_TYPE_WINDOW) { windowWeightedSize += weightDifference; }
+        else if (node.queueType == CacheNode.QUEUE_TYPE_PROTECTED) { protectedWeightedSize += weightDifference; }
+    }
+
+    private void evictEntries() {
+        // entries leaving the window become candidates in the probation segment...
+        while (windowWeightedSize > windowMaximum) {
+            final var node = windowDeque.pollFirst();
+
+            if (node == null) { break; }
+
+            windowWeightedSize -= node.weight;
+            node.queueType = CacheNode.QUEUE_TYPE_PROBATION;
+            probationDeque.addLast(node);
+        }
+
+        while (weightedSize > maximum) {
+            final var victim = probationDeque.peekFirst();
+            final var candidate = probationDeque.peekLast();
+            CacheNode<KeyType, ValueType> evictedNode;
+
+            if (victim == null) {
+                // if the probation segment is empty, we shall evict from the other segments...
+                evictedNode = protectedDeque.isEmpty() ? windowDeque.peekFirst() : protectedDeque.peekFirst();
+
+                if (evictedNode == null) { break; }
+            } else if (victim == candidate) {
+                evictedNode = victim;
+            } else {
+                // TinyLFU admission: the candidate is admitted only if it is more popular than the victim...
+                evictedNode = frequencySketch.frequency(candidate.getKey()) > frequencySketch.frequency(victim.getKey())
+                        ? victim
+                        : candidate;
+            }
+
+            removeNode(evictedNode);
+            evictionCount.increment();
+        }
+    }
+
+    private void removeNode(final CacheNode<KeyType, ValueType> node) {
+        // NOTE: THE ENTRY IS ONLY REMOVED IF IT IS STILL MAPPED TO THIS NODE...
+        nodeMapByKey.remove(node.getKey(), node);
+        node.retire();
+
+        switch (node.queueType) {
+            case CacheNode.QUEUE_TYPE_WINDOW -> {
+                windowDeque.remove(node);
+                windowWeightedSize -= node.weight;
+            }
+            case CacheNode.QUEUE_TYPE_PROBATION -> probationDeque.remove(node);
+            case CacheNode.QUEUE_TYPE_PROTECTED -> {
+                protectedDeque.remove(node);
+                protectedWeightedSize -= node.weight;
+            }
+            default -> { return; }
+        }
+
+        weightedSize -= node.weight;
+        node.queueType = CacheNode.QUEUE_TYPE_NONE;
+
+        if (node.timeout != null) {
+            node.timeout.cancel();
+            node.timeout = null;
+        }
+    }
+
+    private void scheduleExpiration(final CacheNode<KeyType, ValueType> node, final long currentTime) {
+        // if expiration is disabled, we shall not proceed any further...
+        if (timerWheel == null) { return; }
+
+        // cancels the previously scheduled expiration (if any)...
+        if (node.timeout != null) { node.timeout.cancel(); }
+
+        var deadline = Long.MAX_VALUE;
+
+        if (expireAfterWriteInNanoseconds > 0L) { deadline = node.getWriteTime() + expireAfterWriteInNanoseconds; }
+        if (expireAfterAccessInNanoseconds > 0L) {
+            deadline = Math.min(deadline, node.getAccessTime() + expireAfterAccessInNanoseconds);
+        }
+
+        node.timeout = timerWheel.schedule(deadline - currentTime, TimeUnit.NANOSECONDS, () -> expire(node));
+    }
+
+    private void expire(final CacheNode<KeyType, ValueType> node) {
+        evictionLock.lock();        // <-- synchronized write starts...
+
+        try {
+            // if the node is already removed, we shall not proceed any further...
+            if (!node.isAlive()) { return; }
+
+            final var currentTime = System.nanoTime();
+
+            // NOTE: THE ENTRY MIGHT HAVE BEEN ACCESSED AFTER THE EXPIRATION WAS SCHEDULED...
+            if (isExpired(node, currentTime)) {
+                removeNode(node);
+                expirationCount.increment();
+            } else {
+                scheduleExpiration(node, currentTime);
+            }
+        } finally {
+            evictionLock.unlock();  // <-- synchronized write ends...
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.threading.Timeout;
+
+/**
+ * An entry of the cache.
+ * @implNote Key, value and timestamps are read without locking.
+ * All the other fields are guarded by the eviction lock.
+ */
+final class CacheNode<KeyType, ValueType> {
+
+    private final KeyType key;
+    private volatile ValueType value;
+    private volatile long writeTime;
+    private volatile long accessTime;
+    private volatile boolean alive = true;
+
+    // NOTE: THE FOLLOWING FIELDS ARE GUARDED BY THE EVICTION LOCK...
+    int weight;
+    int queueType = QUEUE_TYPE_NONE;
+    CacheNode<KeyType, ValueType> previous;
+    CacheNode<KeyType, ValueType> next;
+    Timeout timeout;
+
+    static final int QUEUE_TYPE_NONE = 0;
+    static final int QUEUE_TYPE_WINDOW = 1;
+    static final int QUEUE_TYPE_PROBATION = 2;
+    static final int QUEUE_TYPE_PROTECTED = 3;
+
+    CacheNode(final KeyType key, final ValueType value, final int weight, final long currentTime) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        writeTime = currentTime;
+        accessTime = currentTime;
+    }
+
+    KeyType getKey() {
+        return key;
+    }
+
+    ValueType getValue() {
+        return value;
+    }
+
+    void setValue(final ValueType value) {
+        this.value = value;
+    }
+
+    long getWriteTime() {
+        return writeTime;
+    }
+
+    void setWriteTime(final long writeTime) {
+        this.writeTime = writeTime;
+    }
+
+    long getAccessTime() {
+        return accessTime;
+    }
+
+    void setAccessTime(final long accessTime) {
+        this.accessTime = accessTime;
+    }
+
+    boolean isAlive() {
+        return alive;
+    }
+
+    void retire() {
+        alive = false;
+    }
+}
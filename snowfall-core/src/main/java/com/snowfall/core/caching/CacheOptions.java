@@ -0,0 +1,97 @@
+package com.snowfall.core.caching;
+
+/**
+ * Options to create a cache.
+ * @implNote If maximum weight is greater than zero (0), the cache
+ * is bounded by the total weight of the entries (calculated by the weigher).
+ * Otherwise, the cache is bounded by the number of entries (maximum size).
+ * Expiration (and refresh) is disabled if the respective duration is zero (0).
+ * @param <KeyType> Type of the keys.
+ * @param <ValueType> Type of the values.
+ */
+public class CacheOptions<KeyType, ValueType> {
+
+    private long maximumSize = 10_000L;                               // <-- we are assigning a default value...
+    private long maximumWeight = 0L;
+    private Weigher<? super KeyType, ? super ValueType> weigher;
+    private long expireAfterWriteInMilliseconds = 0L;
+    private long expireAfterAccessInMilliseconds = 0L;
+    private long refreshAfterWriteInMilliseconds = 0L;
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public CacheOptions<KeyType, ValueType> setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+
+        return this;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public CacheOptions<KeyType, ValueType> setMaximumWeight(final long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+
+        return this;
+    }
+
+    public Weigher<? super KeyType, ? super ValueType> getWeigher() {
+        return weigher;
+    }
+
+    public CacheOptions<KeyType, ValueType> setWeigher(final Weigher<? super KeyType, ? super ValueType> weigher) {
+        this.weigher = weigher;
+
+        return this;
+    }
+
+    public long getExpireAfterWriteInMilliseconds() {
+        return expireAfterWriteInMilliseconds;
+    }
+
+    public CacheOptions<KeyType, ValueType> setExpireAfterWriteInMilliseconds(final long expireAfterWriteInMilliseconds) {
+        this.expireAfterWriteInMilliseconds = expireAfterWriteInMilliseconds;
+
+        return this;
+    }
+
+    public long getExpireAfterAccessInMilliseconds() {
+        return expireAfterAccessInMilliseconds;
+    }
+
+    public CacheOptions<KeyType, ValueType> setExpireAfterAccessInMilliseconds(final long expireAfterAccessInMilliseconds) {
+        this.expireAfterAccessInMilliseconds = expireAfterAccessInMilliseconds;
+
+        return this;
+    }
+
+    public long getRefreshAfterWriteInMilliseconds() {
+        return refreshAfterWriteInMilliseconds;
+    }
+
+    /**
+     * Sets the duration after which an entry becomes eligible for refresh.
+     * Reading such an entry returns the current value and triggers a reload
+     * in the background.
+     * @implNote This option is only applicable to {@link AsyncLoadingCache}.
+     * It should be shorter than the expire-after-write duration.
+     * @param refreshAfterWriteInMilliseconds Refresh duration in milliseconds.
+     * @return The options.
+     */
+    public CacheOptions<KeyType, ValueType> setRefreshAfterWriteInMilliseconds(final long refreshAfterWriteInMilliseconds) {
+        this.refreshAfterWriteInMilliseconds = refreshAfterWriteInMilliseconds;
+
+        return this;
+    }
+
+    boolean isWeighted() {
+        return maximumWeight > 0L;
+    }
+
+    long getMaximum() {
+        return isWeighted() ? maximumWeight : maximumSize;
+    }
+}
@@ -0,0 +1,56 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.text.JsonSerializable;
+
+/**
+ * A snapshot of the cache statistics.
+ */
+public class CacheStatistics implements JsonSerializable {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+
+    CacheStatistics(final long hitCount, final long missCount, final long evictionCount, final long expirationCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the ratio of requests that were hits.
+     * @return The hit rate. Returns 1.0 if no request was made.
+     */
+    public double getHitRate() {
+        final var requestCount = getRequestCount();
+
+        return requestCount == 0L ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    @Override
+    public String toString() {
+        return toJson(true);
+    }
+}
@@ -0,0 +1,76 @@
+package com.snowfall.core.caching;
+
+/**
+ * A serialized response held by the {@link ResponseCache}.
+ * @implNote Instances of this class are immutable and shared by all
+ * the requests served from the cache. The body must not be modified.
+ */
+public class CachedResponse {
+
+    private final byte[] body;
+    private final String contentType;
+    private final String eTag;
+    private final boolean notModified;
+    // NOTE: THE NOT MODIFIED COUNTERPART IS CREATED ONCE SO THAT
+    // ANSWERING CONDITIONAL REQUESTS DOES NOT ALLOCATE...
+    private final CachedResponse notModifiedResponse;
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    public static final int STATUS_CODE_OK = 200;
+    public static final int STATUS_CODE_NOT_MODIFIED = 304;
+
+    CachedResponse(final byte[] body, final String contentType, final String eTag) {
+        this.body = body;
+        this.contentType = contentType;
+        this.eTag = eTag;
+        this.notModified = false;
+        this.notModifiedResponse = new CachedResponse(contentType, eTag);
+    }
+
+    private CachedResponse(final String contentType, final String eTag) {
+        this.body = EMPTY_BODY;
+        this.contentType = contentType;
+        this.eTag = eTag;
+        this.notModified = true;
+        this.notModifiedResponse = this;
+    }
+
+    /**
+     * Gets the serialized body.
+     * @return The body. Returns an empty array if the response is not modified.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Gets the strong entity tag (including the double quotes)
+     * to be sent in the ETag header.
+     * @return The entity tag.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Checks if the client already has the current representation
+     * (i.e. the request shall be answered with 304 Not Modified).
+     * @return True if not modified. Otherwise, false.
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    public int getStatusCode() {
+        return notModified ? STATUS_CODE_NOT_MODIFIED : STATUS_CODE_OK;
+    }
+
+    CachedResponse toNotModified() {
+        return notModifiedResponse;
+    }
+}
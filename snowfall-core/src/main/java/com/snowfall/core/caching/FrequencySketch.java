@@ -0,0 +1,119 @@
+package com.snowfall.core.caching;
+
+/**
+ * A count-min sketch with 4-bit counters that estimates the popularity
+ * of the keys within a time window. Once the number of recorded increments
+ * reaches the sample size, all the counters are halved (aging) so that
+ * the sketch adapts to the changes in the access pattern.
+ * @implNote This class is not thread-safe. It is guarded by the eviction lock.
+ */
+final class FrequencySketch {
+
+    // NOTE: EACH LONG HOLDS SIXTEEN (16) 4-BIT COUNTERS...
+    private long[] table = new long[1];
+    private int tableMask = 0;
+    private int sampleSize = SAMPLE_SIZE_MULTIPLIER;
+    private int size = 0;
+
+    private static final int HASH_FUNCTION_COUNT = 4;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+    private static final int MAXIMUM_TABLE_LENGTH = 1 << 24;
+    private static final long MAXIMUM_COUNTER_VALUE = 15L;
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L,
+    };
+
+    /**
+     * Grows the sketch so that it can accurately estimate
+     * the frequency of the given number of entries.
+     * @param maximumEntryCount Expected maximum number of entries.
+     */
+    void ensureCapacity(final long maximumEntryCount) {
+        final var requiredLength = (int) Math.min(
+                Math.max(Long.highestOneBit(Math.max(maximumEntryCount, 1L) - 1L) << 1, 1L),
+                MAXIMUM_TABLE_LENGTH);
+
+        // if the table is already large enough, we shall not proceed any further...
+        if (table.length >= requiredLength) { return; }
+
+        table = new long[requiredLength];
+        tableMask = requiredLength - 1;
+        sampleSize = (int) Math.min((long) SAMPLE_SIZE_MULTIPLIER * requiredLength, Integer.MAX_VALUE);
+        size = 0;
+    }
+
+    /**
+     * Estimates the number of occurrences of the key within the time window.
+     * @param key Key of which the frequency shall be estimated.
+     * @return The estimated frequency (between 0 and 15).
+     */
+    int frequency(final Object key) {
+        final var hash = spread(key.hashCode());
+        var frequency = MAXIMUM_COUNTER_VALUE;
+
+        for (var i = 0; i < HASH_FUNCTION_COUNT; ++i) {
+            final var indexHash = rehash(hash, i);
+            final var index = (int) indexHash & tableMask;
+            final var shift = counterShift(indexHash);
+
+            frequency = Math.min(frequency, (table[index] >>> shift) & MAXIMUM_COUNTER_VALUE);
+        }
+
+        return (int) frequency;
+    }
+
+    /**
+     * Increments the popularity of the key (if it is not already at maximum).
+     * @param key Key of which the frequency shall be incremented.
+     */
+    void increment(final Object key) {
+        final var hash = spread(key.hashCode());
+        var incremented = false;
+
+        for (var i = 0; i < HASH_FUNCTION_COUNT; ++i) {
+            final var indexHash = rehash(hash, i);
+            final var index = (int) indexHash & tableMask;
+            final var shift = counterShift(indexHash);
+
+            // if the counter is already saturated, we shall skip...
+            if (((table[index] >>> shift) & MAXIMUM_COUNTER_VALUE) == MAXIMUM_COUNTER_VALUE) { continue; }
+
+            table[index] += 1L << shift;
+            incremented = true;
+        }
+
+        // if the sample size is reached, we shall age the counters...
+        if (incremented && ++size >= sampleSize) { reset(); }
+    }
+
+    /**
+     * Halves all the counters.
+     */
+    private void reset() {
+        for (var i = 0; i < table.length; ++i) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        size >>>= 1;
+    }
+
+    private static int counterShift(final long indexHash) {
+        // selects one of the sixteen (16) counters using the upper bits...
+        return (int) (indexHash >>> 60) << 2;
+    }
+
+    private static long rehash(final int hash, final int i) {
+        var value = (hash + SEEDS[i]) * SEEDS[i];
+        value ^= value >>> 32;
+
+        return value;
+    }
+
+    private static int spread(final int hash) {
+        var value = hash * 0x9E3779B9;
+        value ^= value >>> 16;
+
+        return value;
+    }
+}
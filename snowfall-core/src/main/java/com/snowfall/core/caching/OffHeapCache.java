@@ -0,0 +1,118 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.text.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A byte-oriented cache that stores its keys and values outside the Java heap
+ * so that large caches do not contribute to garbage collection pauses.
+ * When a segment runs out of memory, the least recently used entries of the
+ * same size class are evicted (CLOCK approximation).
+ * @implNote Implementations of this interface are thread-safe.
+ * Entries larger than the slab size are not cached.
+ */
+public interface OffHeapCache extends AutoCloseable {
+
+    /**
+     * Gets a copy of the value associated with the key.
+     * @param key Key whose associated value shall be returned.
+     * @return A copy of the value or null if the cache contains no entry for the key.
+     */
+    byte[] get(final byte[] key);
+
+    /**
+     * Associates the value with the key, replacing the existing value (if any).
+     * @param key Key with which the value shall be associated.
+     * @param value Value to be associated with the key.
+     * @return True if the entry is stored. False if the entry is too large.
+     */
+    boolean put(final byte[] key, final byte[] value);
+
+    /**
+     * Removes the entry associated with the key.
+     * @param key Key whose entry shall be removed.
+     * @return True if an entry is removed. Otherwise, false.
+     */
+    boolean remove(final byte[] key);
+
+    /**
+     * Removes all the entries. Allocated memory is retained for reuse.
+     */
+    void clear();
+
+    /**
+     * Gets the number of entries.
+     * @return The number of entries.
+     */
+    long size();
+
+    /**
+     * Gets the number of bytes of off-heap memory allocated so far.
+     * @return The number of allocated bytes.
+     */
+    long getAllocatedMemoryInBytes();
+
+    /**
+     * Gets the maximum number of bytes of off-heap memory the cache may allocate.
+     * @return The capacity in bytes.
+     */
+    long getCapacityInBytes();
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     * @return The cache statistics.
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Releases the off-heap memory. The cache must not be used afterward.
+     */
+    @Override
+    void close();
+
+    /**
+     * Gets the value associated with the key and deserializes it from JSON.
+     * @param key Key whose associated value shall be returned.
+     * @param classOfType Class of the value.
+     * @return The deserialized value or null if the cache contains no entry for the key.
+     * @param <Type> Type of the value.
+     */
+    default <Type> Type get(final String key, final Class<Type> classOfType) {
+        final var value = get(key.getBytes(StandardCharsets.UTF_8));
+
+        // if no entry is found, we shall return null...
+        if (value == null) { return null; }
+
+        return JsonSerializer.deserialize(value, classOfType);
+    }
+
+    /**
+     * Serializes the value as JSON and associates it with the key.
+     * @param key Key with which the value shall be associated.
+     * @param value Value to be associated with the key.
+     * @return True if the entry is stored. False if the entry is too large.
+     * @throws RuntimeException If the value cannot be serialized. Nothing is stored in that case.
+     */
+    default boolean put(final String key, final Object value) {
+        return put(key.getBytes(StandardCharsets.UTF_8), JsonSerializer.serializeAsBytes(value));
+    }
+
+    /**
+     * Removes the entry associated with the key.
+     * @param key Key whose entry shall be removed.
+     * @return True if an entry is removed. Otherwise, false.
+     */
+    default boolean remove(final String key) {
+        return remove(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a new off-heap cache.
+     * @param options Options to create the cache.
+     * @return A new off-heap cache.
+     */
+    static OffHeapCache create(final OffHeapCacheOptions options) {
+        return new OffHeapCacheImpl(options);
+    }
+}
@@ -0,0 +1,158 @@
+package com.snowfall.core.caching;
+
+import java.lang.foreign.Arena;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+class OffHeapCacheImpl implements OffHeapCache {
+
+    private final Arena arena = Arena.ofShared();
+    private final OffHeapCacheSegment[] segments;
+    private final int segmentShift;
+    private final long capacityInBytes;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile boolean closed = false;
+
+    private static final int MINIMUM_SLAB_SIZE = 4 * 1024;
+    private static final int MAXIMUM_SLAB_SIZE = 1 << 30;
+    private static final int MAXIMUM_SEGMENT_COUNT = 1 << 16;
+
+    OffHeapCacheImpl(final OffHeapCacheOptions options) {
+        // if options are not provided, we shall throw exception...
+        if (options == null) { throw new IllegalArgumentException("Provided off-heap cache options are null."); }
+        // if capacity is not positive, we shall throw exception...
+        if (options.getCapacityInBytes() < 1L) { throw new IllegalArgumentException("Capacity must be greater than zero."); }
+
+        // slab size and segment count are rounded up to the next power of two...
+        final var slabSize = roundUpToPowerOfTwo(options.getSlabSizeInBytes(), MINIMUM_SLAB_SIZE, MAXIMUM_SLAB_SIZE);
+        final var segmentCount = roundUpToPowerOfTwo(options.getSegmentCount(), 1, MAXIMUM_SEGMENT_COUNT);
+        // NOTE: EVERY SEGMENT IS ALLOWED TO ALLOCATE AT LEAST ONE SLAB...
+        final var maximumSlabCountPerSegment = (int) Math.min(
+                Math.max(options.getCapacityInBytes() / segmentCount / slabSize, 1L), Integer.MAX_VALUE);
+
+        capacityInBytes = (long) maximumSlabCountPerSegment * slabSize * segmentCount;
+        // segments are selected using the upper bits of the hash (the index uses the lower bits)...
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        segments = new OffHeapCacheSegment[segmentCount];
+
+        for (var i = 0; i < segments.length; ++i) {
+            segments[i] = new OffHeapCacheSegment(arena, slabSize, maximumSlabCountPerSegment);
+        }
+    }
+
+    @Override
+    public byte[] get(final byte[] key) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        final var hash = hash(key);
+        final var value = getSegment(hash).get(key, hash);
+
+        if (value == null) { missCount.increment(); } else { hitCount.increment(); }
+
+        return value;
+    }
+
+    @Override
+    public boolean put(final byte[] key, final byte[] value) {
+        // if key or value is null, we shall throw exception...
+        if (key == null || value == null) { throw new IllegalArgumentException("Provided key or value is null."); }
+
+        final var hash = hash(key);
+
+        return getSegment(hash).put(key, value, hash);
+    }
+
+    @Override
+    public boolean remove(final byte[] key) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        final var hash = hash(key);
+
+        return getSegment(hash).remove(key, hash);
+    }
+
+    @Override
+    public void clear() {
+        for (final var segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public long size() {
+        var size = 0L;
+
+        for (final var segment : segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    @Override
+    public long getAllocatedMemoryInBytes() {
+        var allocatedMemoryInBytes = 0L;
+
+        for (final var segment : segments) {
+            allocatedMemoryInBytes += segment.getAllocatedMemoryInBytes();
+        }
+
+        return allocatedMemoryInBytes;
+    }
+
+    @Override
+    public long getCapacityInBytes() {
+        return capacityInBytes;
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        var evictionCount = 0L;
+
+        for (final var segment : segments) {
+            evictionCount += segment.getEvictionCount();
+        }
+
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount, 0L);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) { return; }
+
+        closed = true;
+
+        // NOTE: SEGMENTS MUST BE CLOSED BEFORE RELEASING THE MEMORY
+        // SO THAT NO THREAD ACCESSES A RELEASED SLAB...
+        for (final var segment : segments) {
+            segment.close();
+        }
+
+        arena.close();
+    }
+
+    private OffHeapCacheSegment getSegment(final int hash) {
+        // if there is only one segment, shifting is not required...
+        if (segments.length == 1) { return segments[0]; }
+
+        return segments[hash >>> segmentShift];
+    }
+
+    private static int hash(final byte[] key) {
+        var hash = Arrays.hashCode(key) * 0x9E3779B9;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+
+    private static int roundUpToPowerOfTwo(final int value, final int minimum, final int maximum) {
+        final var clampedValue = Math.min(Math.max(value, minimum), maximum);
+
+        return clampedValue == Integer.highestOneBit(clampedValue)
+                ? clampedValue
+                : Integer.highestOneBit(clampedValue) << 1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.snowfall.core.caching;
+
+/**
+ * Options to create an off-heap cache.
+ * @implNote The capacity is divided equally among the segments and each
+ * segment allocates its memory in slabs. Slab size is rounded up to the
+ * next power of two and also determines the maximum size of an entry.
+ */
+public class OffHeapCacheOptions {
+
+    private long capacityInBytes = 64L * 1024 * 1024;                // <-- we are assigning a default value (64 MB)...
+    private int slabSizeInBytes = 1024 * 1024;                        // <-- we are assigning a default value (1 MB)...
+    private int segmentCount = 16;                                    // <-- we are assigning a default value...
+
+    public long getCapacityInBytes() {
+        return capacityInBytes;
+    }
+
+    public OffHeapCacheOptions setCapacityInBytes(final long capacityInBytes) {
+        this.capacityInBytes = capacityInBytes;
+
+        return this;
+    }
+
+    public int getSlabSizeInBytes() {
+        return slabSizeInBytes;
+    }
+
+    public OffHeapCacheOptions setSlabSizeInBytes(final int slabSizeInBytes) {
+        this.slabSizeInBytes = slabSizeInBytes;
+
+        return this;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public OffHeapCacheOptions setSegmentCount(final int segmentCount) {
+        this.segmentCount = segmentCount;
+
+        return this;
+    }
+}
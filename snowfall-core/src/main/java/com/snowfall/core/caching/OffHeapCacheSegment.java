@@ -0,0 +1,528 @@
+package com.snowfall.core.caching;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A segment of the off-heap cache. Memory is allocated in fixed-size slabs and
+ * every slab is divided into equally sized chunks of a size class (powers of two).
+ * Entries are located using an open-addressing (linear probing) index that only
+ * holds primitive arrays, so the garbage collector never traverses the entries.
+ * @implNote Reads acquire the read lock and writes acquire the write lock.
+ */
+final class OffHeapCacheSegment {
+
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock(false);
+    private final Arena arena;
+    private final int slabSize;
+    private final int maximumSlabCount;
+    private final MemorySegment[] slabs;
+    private final int[] slabClassIndexBySlabIndex;
+    private final int[] unassignedSlabIndexes;
+    private final SlabClass[] slabClasses;
+
+    // NOTE: THE FOLLOWING FIELDS ARE GUARDED BY THE READ-WRITE LOCK...
+    private int allocatedSlabCount = 0;
+    private int unassignedSlabCount = 0;
+    private long[] references;
+    private int[] hashes;
+    private int indexMask;
+    private int entryCount = 0;
+    private long evictionCount = 0L;
+    private boolean closed = false;
+
+    // NOTE: A REFERENCE CONTAINS THE SLAB INDEX IN THE UPPER 32 BITS
+    // AND THE OFFSET WITHIN THE SLAB IN THE LOWER 32 BITS...
+    private static final long NO_REFERENCE = -1L;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final float INDEX_LOAD_FACTOR = 0.75f;
+    private static final int MINIMUM_CHUNK_SIZE_BITS = 6;
+    private static final int MINIMUM_CHUNK_SIZE = 1 << MINIMUM_CHUNK_SIZE_BITS;
+    // NOTE: CHUNK LAYOUT IS [FLAGS (4)][HASH (4)][KEY LENGTH (4)][VALUE LENGTH (4)][KEY][VALUE].
+    // FREE CHUNKS STORE THE REFERENCE TO THE NEXT FREE CHUNK AT OFFSET 8...
+    private static final int FLAGS_OFFSET = 0;
+    private static final int HASH_OFFSET = 4;
+    private static final int KEY_LENGTH_OFFSET = 8;
+    private static final int VALUE_LENGTH_OFFSET = 12;
+    private static final int NEXT_FREE_CHUNK_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int FLAG_USED = 1;
+    private static final int FLAG_REFERENCED = 2;
+
+    OffHeapCacheSegment(final Arena arena, final int slabSize, final int maximumSlabCount) {
+        this.arena = arena;
+        this.slabSize = slabSize;
+        this.maximumSlabCount = maximumSlabCount;
+
+        slabs = new MemorySegment[maximumSlabCount];
+        slabClassIndexBySlabIndex = new int[maximumSlabCount];
+        unassignedSlabIndexes = new int[maximumSlabCount];
+        slabClasses = new SlabClass[Integer.numberOfTrailingZeros(slabSize) - MINIMUM_CHUNK_SIZE_BITS + 1];
+
+        for (var i = 0; i < slabClasses.length; ++i) {
+            slabClasses[i] = new SlabClass(MINIMUM_CHUNK_SIZE << i, slabSize >>> (MINIMUM_CHUNK_SIZE_BITS + i));
+        }
+
+        references = new long[INITIAL_INDEX_CAPACITY];
+        hashes = new int[INITIAL_INDEX_CAPACITY];
+        indexMask = INITIAL_INDEX_CAPACITY - 1;
+
+        Arrays.fill(references, NO_REFERENCE);
+    }
+
+    byte[] get(final byte[] key, final int hash) {
+        final var keySegment = MemorySegment.ofArray(key);
+
+        readWriteLock.readLock().lock();        // <-- synchronized read starts...
+
+        try {
+            ensureOpen();
+
+            final var slot = findSlot(keySegment, key.length, hash);
+
+            // if no entry is found, we shall return null...
+            if (slot == -1) { return null; }
+
+            final var reference = references[slot];
+            final var slab = slabs[(int) (reference >>> 32)];
+            final var offset = (int) reference;
+            final var flags = slab.get(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET);
+
+            // marks the entry as recently used (gives it a second chance during eviction).
+            // NOTE: CONCURRENT READERS CAN ONLY WRITE THE SAME VALUE...
+            if ((flags & FLAG_REFERENCED) == 0) {
+                slab.set(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET, flags | FLAG_REFERENCED);
+            }
+
+            final var value = new byte[slab.get(ValueLayout.JAVA_INT, offset + VALUE_LENGTH_OFFSET)];
+
+            MemorySegment.copy(slab, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE + key.length, value, 0, value.length);
+
+            return value;
+        } finally {
+            readWriteLock.readLock().unlock();  // <-- synchronized read ends...
+        }
+    }
+
+    boolean put(final byte[] key, final byte[] value, final int hash) {
+        final var keySegment = MemorySegment.ofArray(key);
+        final var entrySize = (long) HEADER_SIZE + key.length + value.length;
+
+        readWriteLock.writeLock().lock();       // <-- synchronized write starts...
+
+        try {
+            ensureOpen();
+
+            final var slot = findSlot(keySegment, key.length, hash);
+
+            // if an entry exists, we shall remove it first...
+            if (slot != -1) { removeAt(slot); }
+
+            // if the entry does not fit in a slab, we shall not cache it...
+            if (entrySize > slabSize) { return false; }
+
+            final var reference = allocate(getSlabClassIndex((int) entrySize));
+
+            // if no memory could be allocated, we shall not cache the entry...
+            if (reference == NO_REFERENCE) { return false; }
+
+            final var slab = slabs[(int) (reference >>> 32)];
+            final var offset = (int) reference;
+
+            slab.set(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET, FLAG_USED);
+            slab.set(ValueLayout.JAVA_INT, offset + HASH_OFFSET, hash);
+            slab.set(ValueLayout.JAVA_INT, offset + KEY_LENGTH_OFFSET, key.length);
+            slab.set(ValueLayout.JAVA_INT, offset + VALUE_LENGTH_OFFSET, value.length);
+            MemorySegment.copy(key, 0, slab, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE, key.length);
+            MemorySegment.copy(value, 0, slab, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE + key.length, value.length);
+
+            insert(reference, hash);
+
+            return true;
+        } finally {
+            readWriteLock.writeLock().unlock(); // <-- synchronized write ends...
+        }
+    }
+
+    boolean remove(final byte[] key, final int hash) {
+        final var keySegment = MemorySegment.ofArray(key);
+
+        readWriteLock.writeLock().lock();       // <-- synchronized write starts...
+
+        try {
+            ensureOpen();
+
+            final var slot = findSlot(keySegment, key.length, hash);
+
+            // if no entry is found, we shall return false...
+            if (slot == -1) { return false; }
+
+            removeAt(slot);
+
+            return true;
+        } finally {
+            readWriteLock.writeLock().unlock(); // <-- synchronized write ends...
+        }
+    }
+
+    void clear() {
+        readWriteLock.writeLock().lock();       // <-- synchronized write starts...
+
+        try {
+            ensureOpen();
+
+            Arrays.fill(references, NO_REFERENCE);
+            entryCount = 0;
+
+            for (final var slabClass : slabClasses) {
+                slabClass.slabCount = 0;
+                slabClass.freeChunkHead = NO_REFERENCE;
+                slabClass.clockHand = 0L;
+            }
+
+            // all the allocated slabs become available for any size class...
+            for (var i = 0; i < allocatedSlabCount; ++i) {
+                unassignedSlabIndexes[i] = i;
+            }
+
+            unassignedSlabCount = allocatedSlabCount;
+        } finally {
+            readWriteLock.writeLock().unlock(); // <-- synchronized write ends...
+        }
+    }
+
+    /**
+     * Marks this segment as closed. The memory itself is released
+     * when the arena (shared by all the segments) is closed.
+     */
+    void close() {
+        readWriteLock.writeLock().lock();
+
+        try {
+            closed = true;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        readWriteLock.readLock().lock();
+
+        try {
+            return entryCount;
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    long getAllocatedMemoryInBytes() {
+        readWriteLock.readLock().lock();
+
+        try {
+            return (long) allocatedSlabCount * slabSize;
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    long getEvictionCount() {
+        readWriteLock.readLock().lock();
+
+        try {
+            return evictionCount;
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        // if the segment is closed, we shall throw exception...
+        if (closed) { throw new IllegalStateException("Off-heap cache is closed."); }
+    }
+
+    private int findSlot(final MemorySegment keySegment, final int keyLength, final int hash) {
+        for (var slot = hash & indexMask; references[slot] != NO_REFERENCE; slot = (slot + 1) & indexMask) {
+            // if the hash does not match, we shall skip comparing the key...
+            if (hashes[slot] != hash) { continue; }
+
+            final var reference = references[slot];
+            final var slab = slabs[(int) (reference >>> 32)];
+            final var offset = (int) reference;
+
+            if (slab.get(ValueLayout.JAVA_INT, offset + KEY_LENGTH_OFFSET) == keyLength
+                    && MemorySegment.mismatch(slab, offset + HEADER_SIZE, offset + HEADER_SIZE + keyLength,
+                    keySegment, 0, keyLength) == -1L) { return slot; }
+        }
+
+        return -1;
+    }
+
+    private void insert(final long reference, final int hash) {
+        // if the index is getting full, we shall grow it...
+        if (entryCount + 1 > (int) (references.length * INDEX_LOAD_FACTOR)) { resizeIndex(); }
+
+        var slot = hash & indexMask;
+
+        while (references[slot] != NO_REFERENCE) { slot = (slot + 1) & indexMask; }
+
+        references[slot] = reference;
+        hashes[slot] = hash;
+        ++entryCount;
+    }
+
+    private void resizeIndex() {
+        final var previousReferences = references;
+        final var previousHashes = hashes;
+
+        references = new long[previousReferences.length << 1];
+        hashes = new int[previousHashes.length << 1];
+        indexMask = references.length - 1;
+
+        Arrays.fill(references, NO_REFERENCE);
+
+        for (var i = 0; i < previousReferences.length; ++i) {
+            if (previousReferences[i] == NO_REFERENCE) { continue; }
+
+            var slot = previousHashes[i] & indexMask;
+
+            while (references[slot] != NO_REFERENCE) { slot = (slot + 1) & indexMask; }
+
+            references[slot] = previousReferences[i];
+            hashes[slot] = previousHashes[i];
+        }
+    }
+
+    /**
+     * Removes the entry at the slot and releases its chunk.
+     */
+    private void removeAt(final int slot) {
+        final var reference = references[slot];
+
+        deleteSlot(slot);
+        freeChunk(slabClasses[slabClassIndexBySlabIndex[(int) (reference >>> 32)]], reference);
+    }
+
+    /**
+     * Removes the entry (identified by reference) from the index.
+     */
+    private void removeFromIndex(final long reference, final int hash) {
+        var slot = hash & indexMask;
+
+        while (references[slot] != reference) { slot = (slot + 1) & indexMask; }
+
+        deleteSlot(slot);
+    }
+
+    /**
+     * Deletes the slot using backward shift deletion so that
+     * no tombstones are left behind in the index.
+     */
+    private void deleteSlot(int slot) {
+        var nextSlot = slot;
+
+        while (true) {
+            nextSlot = (nextSlot + 1) & indexMask;
+
+            if (references[nextSlot] == NO_REFERENCE) { break; }
+
+            final var idealSlot = hashes[nextSlot] & indexMask;
+
+            // if the ideal slot lies cyclically within (slot, nextSlot], the entry stays...
+            if (slot <= nextSlot
+                    ? slot < idealSlot && idealSlot <= nextSlot
+                    : slot < idealSlot || idealSlot <= nextSlot) { continue; }
+
+            references[slot] = references[nextSlot];
+            hashes[slot] = hashes[nextSlot];
+            slot = nextSlot;
+        }
+
+        references[slot] = NO_REFERENCE;
+        hashes[slot] = 0;
+        --entryCount;
+    }
+
+    private long allocate(final int slabClassIndex) {
+        final var slabClass = slabClasses[slabClassIndex];
+
+        // if no free chunk is available and no slab could be assigned,
+        // we shall make room by evicting...
+        // NOTE: IF ANOTHER SIZE CLASS OWNS NOTICEABLY MORE SLABS, ONE OF ITS SLABS IS TAKEN
+        // SO THAT THE MEMORY DOES NOT STAY WITH THE SIZE CLASSES THAT WERE POPULAR EARLIER...
+        if (slabClass.freeChunkHead == NO_REFERENCE
+                && !assignSlab(slabClass, slabClassIndex)
+                && !reassignSlab(slabClass, slabClassIndex)) { evictChunk(slabClass); }
+
+        final var reference = slabClass.freeChunkHead;
+
+        // if memory could still not be found, we shall return no reference...
+        if (reference == NO_REFERENCE) { return NO_REFERENCE; }
+
+        slabClass.freeChunkHead = slabs[(int) (reference >>> 32)]
+                .get(ValueLayout.JAVA_LONG, (int) reference + NEXT_FREE_CHUNK_OFFSET);
+
+        return reference;
+    }
+
+    private boolean assignSlab(final SlabClass slabClass, final int slabClassIndex) {
+        int slabIndex;
+
+        if (unassignedSlabCount > 0) {
+            slabIndex = unassignedSlabIndexes[--unassignedSlabCount];
+        } else if (allocatedSlabCount < maximumSlabCount) {
+            slabIndex = allocatedSlabCount;
+            slabs[slabIndex] = arena.allocate(slabSize, MINIMUM_CHUNK_SIZE);
+            ++allocatedSlabCount;
+        } else {
+            return false;
+        }
+
+        initializeSlab(slabClass, slabClassIndex, slabIndex);
+
+        return true;
+    }
+
+    private void initializeSlab(final SlabClass slabClass, final int slabClassIndex, final int slabIndex) {
+        slabClassIndexBySlabIndex[slabIndex] = slabClassIndex;
+
+        if (slabClass.slabCount == slabClass.slabIndexes.length) {
+            slabClass.slabIndexes = Arrays.copyOf(slabClass.slabIndexes, slabClass.slabIndexes.length << 1);
+        }
+
+        slabClass.slabIndexes[slabClass.slabCount++] = slabIndex;
+
+        // pushes the chunks in reverse order so that they are allocated in order...
+        for (var offset = slabSize - slabClass.chunkSize; offset >= 0; offset -= slabClass.chunkSize) {
+            freeChunk(slabClass, (long) slabIndex << 32 | offset);
+        }
+    }
+
+    private void freeChunk(final SlabClass slabClass, final long reference) {
+        final var slab = slabs[(int) (reference >>> 32)];
+        final var offset = (int) reference;
+
+        slab.set(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET, 0);
+        slab.set(ValueLayout.JAVA_LONG, offset + NEXT_FREE_CHUNK_OFFSET, slabClass.freeChunkHead);
+        slabClass.freeChunkHead = reference;
+    }
+
+    /**
+     * Evicts one entry of the size class using the CLOCK algorithm.
+     */
+    private void evictChunk(final SlabClass slabClass) {
+        final var chunkCount = (long) slabClass.slabCount * slabClass.chunkCountPerSlab;
+
+        // NOTE: TWO ROUNDS ARE SUFFICIENT BECAUSE THE FIRST ROUND CLEARS ALL THE REFERENCED FLAGS...
+        for (var i = 0L; i < chunkCount << 1; ++i) {
+            final var position = slabClass.clockHand;
+
+            slabClass.clockHand = (position + 1) % chunkCount;
+
+            final var slabIndex = slabClass.slabIndexes[(int) (position / slabClass.chunkCountPerSlab)];
+            final var offset = (int) (position % slabClass.chunkCountPerSlab) * slabClass.chunkSize;
+            final var slab = slabs[slabIndex];
+            final var flags = slab.get(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET);
+
+            // if the chunk is free, we shall skip...
+            if ((flags & FLAG_USED) == 0) { continue; }
+
+            // if the entry was recently used, we shall give it a second chance...
+            if ((flags & FLAG_REFERENCED) != 0) {
+                slab.set(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET, FLAG_USED);
+
+                continue;
+            }
+
+            final var reference = (long) slabIndex << 32 | offset;
+
+            removeFromIndex(reference, slab.get(ValueLayout.JAVA_INT, offset + HASH_OFFSET));
+            freeChunk(slabClass, reference);
+            ++evictionCount;
+
+            return;
+        }
+    }
+
+    /**
+     * Takes a slab from the size class that owns the most slabs,
+     * evicts all its entries and assigns it to the given size class.
+     * @return True if a slab is reassigned. Otherwise, false.
+     */
+    private boolean reassignSlab(final SlabClass slabClass, final int slabClassIndex) {
+        SlabClass victimSlabClass = null;
+
+        for (final var candidateSlabClass : slabClasses) {
+            if (candidateSlabClass == slabClass || candidateSlabClass.slabCount == 0) { continue; }
+            if (victimSlabClass == null || candidateSlabClass.slabCount > victimSlabClass.slabCount) {
+                victimSlabClass = candidateSlabClass;
+            }
+        }
+
+        // if no other size class owns more slabs, we shall not proceed any further...
+        if (victimSlabClass == null
+                || (slabClass.slabCount > 0 && victimSlabClass.slabCount <= slabClass.slabCount + 1)) { return false; }
+
+        final var slabIndex = victimSlabClass.slabIndexes[--victimSlabClass.slabCount];
+        final var slab = slabs[slabIndex];
+
+        // evicts all the entries of the slab...
+        for (var offset = 0; offset < slabSize; offset += victimSlabClass.chunkSize) {
+            if ((slab.get(ValueLayout.JAVA_INT, offset + FLAGS_OFFSET) & FLAG_USED) == 0) { continue; }
+
+            removeFromIndex((long) slabIndex << 32 | offset, slab.get(ValueLayout.JAVA_INT, offset + HASH_OFFSET));
+            ++evictionCount;
+        }
+
+        // removes the free chunks of the slab from the free list of the victim size class...
+        var previousReference = NO_REFERENCE;
+        var reference = victimSlabClass.freeChunkHead;
+
+        while (reference != NO_REFERENCE) {
+            final var nextReference = slabs[(int) (reference >>> 32)]
+                    .get(ValueLayout.JAVA_LONG, (int) reference + NEXT_FREE_CHUNK_OFFSET);
+
+            if ((int) (reference >>> 32) != slabIndex) {
+                previousReference = reference;
+            } else if (previousReference == NO_REFERENCE) {
+                victimSlabClass.freeChunkHead = nextReference;
+            } else {
+                slabs[(int) (previousReference >>> 32)]
+                        .set(ValueLayout.JAVA_LONG, (int) previousReference + NEXT_FREE_CHUNK_OFFSET, nextReference);
+            }
+
+            reference = nextReference;
+        }
+
+        victimSlabClass.clockHand = 0L;
+
+        initializeSlab(slabClass, slabClassIndex, slabIndex);
+
+        return true;
+    }
+
+    private static int getSlabClassIndex(final int entrySize) {
+        final var chunkSize = Math.max(entrySize, MINIMUM_CHUNK_SIZE);
+
+        // finds the smallest power of two that can hold the entry...
+        return 32 - Integer.numberOfLeadingZeros(chunkSize - 1) - MINIMUM_CHUNK_SIZE_BITS;
+    }
+
+    private static final class SlabClass {
+
+        private final int chunkSize;
+        private final int chunkCountPerSlab;
+        private int[] slabIndexes = new int[4];
+        private int slabCount = 0;
+        private long freeChunkHead = NO_REFERENCE;
+        private long clockHand = 0L;
+
+        private SlabClass(final int chunkSize, final int chunkCountPerSlab) {
+            this.chunkSize = chunkSize;
+            this.chunkCountPerSlab = chunkCountPerSlab;
+        }
+    }
+}
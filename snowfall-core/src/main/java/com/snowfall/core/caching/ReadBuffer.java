@@ -0,0 +1,66 @@
+package com.snowfall.core.caching;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lossy, bounded, multiple-producer single-consumer buffer that records
+ * cache reads so that the eviction policy can be updated in batches
+ * without acquiring the eviction lock on every hit.
+ * @implNote Producers never block. If the buffer is full, the read is
+ * dropped, which only slightly reduces the accuracy of the policy.
+ */
+final class ReadBuffer<KeyType, ValueType> {
+
+    private final AtomicReferenceArray<CacheNode<KeyType, ValueType>> buffer = new AtomicReferenceArray<>(BUFFER_LENGTH);
+    private final AtomicLong writeCounter = new AtomicLong();
+    // NOTE: THIS COUNTER IS ONLY UPDATED BY THE CONSUMER (UNDER THE EVICTION LOCK)...
+    private volatile long readCounter = 0L;
+
+    static final int BUFFER_LENGTH = 16;
+    private static final int BUFFER_MASK = BUFFER_LENGTH - 1;
+
+    /**
+     * Records a read.
+     * @param node Node that was read.
+     * @return True if the buffer is full and shall be drained. Otherwise, false.
+     */
+    boolean offer(final CacheNode<KeyType, ValueType> node) {
+        final var head = readCounter;
+        final var tail = writeCounter.get();
+        final var size = tail - head;
+
+        // if the buffer is full, we shall drop the read...
+        if (size >= BUFFER_LENGTH) { return true; }
+        // if another producer claimed the slot, we shall drop the read...
+        if (!writeCounter.compareAndSet(tail, tail + 1)) { return false; }
+
+        buffer.lazySet((int) (tail & BUFFER_MASK), node);
+
+        return size + 1 >= BUFFER_LENGTH;
+    }
+
+    /**
+     * Drains all the recorded reads.
+     * @implNote Must be called while holding the eviction lock.
+     * @param consumer Consumer of the recorded reads.
+     */
+    void drainTo(final Consumer<CacheNode<KeyType, ValueType>> consumer) {
+        var head = readCounter;
+        final var tail = writeCounter.get();
+
+        for (; head < tail; ++head) {
+            final var index = (int) (head & BUFFER_MASK);
+            final var node = buffer.get(index);
+
+            // NOTE: THE PRODUCER MIGHT NOT HAVE PUBLISHED THE NODE YET...
+            if (node == null) { break; }
+
+            buffer.lazySet(index, null);
+            consumer.accept(node);
+        }
+
+        readCounter = head;
+    }
+}
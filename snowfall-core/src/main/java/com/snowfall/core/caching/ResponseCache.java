@@ -0,0 +1,130 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.dependencyinjection.ServiceProvider;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+/**
+ * Caches the serialized responses of idempotent (GET) requests keyed by
+ * route and normalized query. Every response carries a strong entity tag
+ * computed by the {@link com.snowfall.core.security.cryptography.HashProvider}.
+ * Conditional requests whose If-None-Match header matches the entity tag are
+ * answered as not modified without invoking the handler or re-serializing.
+ * @implNote This is transport-agnostic. The server pipeline is responsible for
+ * reading the If-None-Match header and writing the status, ETag and body.
+ * Implementations of this interface are thread-safe.
+ */
+public interface ResponseCache {
+
+    /**
+     * Handles the request using the cached response. If no response is cached,
+     * the handler is invoked (once for all the concurrent requests with the same key)
+     * and its result is serialized and cached.
+     * @implNote If the handler returns a byte array, it is used as the body
+     * (application/octet-stream). If the handler returns a string, it is encoded
+     * as UTF-8 (text/plain). Otherwise, the result is serialized as JSON (application/json).
+     * @param route Route of the request (e.g. "/users").
+     * @param queryParameters Query parameters of the request (may be null).
+     * @param ifNoneMatch Value of the If-None-Match header (may be null).
+     * @param handler Handler that produces the response.
+     * @return The response. If the client already has the current representation,
+     * {@link CachedResponse#isNotModified()} returns true.
+     * @throws Exception If the handler or the hash computation fails.
+     */
+    CachedResponse handle(
+            final String route,
+            final Map<String, ? extends Collection<String>> queryParameters,
+            final String ifNoneMatch,
+            final Callable<?> handler) throws Exception;
+
+    /**
+     * Removes the cached response of the route and query.
+     * @param route Route of the request.
+     * @param queryParameters Query parameters of the request (may be null).
+     */
+    void invalidate(final String route, final Map<String, ? extends Collection<String>> queryParameters);
+
+    /**
+     * Removes all the cached responses.
+     */
+    void invalidateAll();
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     * @return The cache statistics.
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Creates the cache key from the route and the query parameters.
+     * Parameters are sorted by name so that the order in which they
+     * appear in the request does not matter. The order of the values
+     * of the same parameter is preserved.
+     * @param route Route of the request.
+     * @param queryParameters Query parameters of the request (may be null).
+     * @return The cache key.
+     */
+    static String createKey(final String route, final Map<String, ? extends Collection<String>> queryParameters) {
+        // if route is null, we shall throw exception...
+        if (route == null) { throw new IllegalArgumentException("Provided route is null."); }
+        // if there is no query parameter, the route itself is the key...
+        if (queryParameters == null || queryParameters.isEmpty()) { return route; }
+
+        final var keyBuilder = new StringBuilder(route.length() + queryParameters.size() * 16).append(route);
+        var separator = '?';
+
+        for (final var entry : new TreeMap<>(queryParameters).entrySet()) {
+            final var encodedName = URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8);
+
+            for (final var value : entry.getValue()) {
+                keyBuilder.append(separator)
+                        .append(encodedName)
+                        .append('=')
+                        .append(value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+
+        return keyBuilder.toString();
+    }
+
+    /**
+     * Checks if the If-None-Match header matches the entity tag
+     * using the weak comparison (as required for If-None-Match).
+     * @param ifNoneMatch Value of the If-None-Match header.
+     * @param eTag Entity tag of the current representation.
+     * @return True if matched. Otherwise, false.
+     */
+    static boolean isETagMatched(final String ifNoneMatch, final String eTag) {
+        // if the header is not provided, we shall return false...
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) { return false; }
+        // "*" matches any current representation...
+        if ("*".equals(ifNoneMatch.strip())) { return true; }
+
+        for (final var tag : ifNoneMatch.split(",")) {
+            final var strippedTag = tag.strip();
+            // NOTE: WEAK COMPARISON IGNORES THE WEAKNESS INDICATOR...
+            final var opaqueTag = strippedTag.startsWith("W/") ? strippedTag.substring(2) : strippedTag;
+
+            if (opaqueTag.equals(eTag)) { return true; }
+        }
+
+        return false;
+    }
+
+    static ResponseCache create(final ResponseCacheOptions options) {
+        return new ResponseCacheImpl(options);
+    }
+
+    static ResponseCache getInstance() {
+        final var serviceProvider = ServiceProvider.getSingleton();
+        final var responseCache = serviceProvider.get(ResponseCache.class, () -> create(new ResponseCacheOptions()));
+
+        return responseCache;
+    }
+}
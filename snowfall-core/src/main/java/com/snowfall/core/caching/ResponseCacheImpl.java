@@ -0,0 +1,152 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.security.cryptography.HashAlgorithm;
+import com.snowfall.core.security.cryptography.HashProvider;
+import com.snowfall.core.text.Encoder;
+import com.snowfall.core.text.Encoding;
+import com.snowfall.core.text.JsonSerializer;
+import com.snowfall.core.threading.SingleFlight;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ResponseCacheImpl implements ResponseCache {
+
+    private final Cache<String, CachedResponse> cache;
+    // NOTE: CONCURRENT MISSES FOR THE SAME KEY INVOKE THE HANDLER ONLY ONCE...
+    private final SingleFlight<String, CachedResponse> singleFlight = new SingleFlight<>();
+    // NOTE: EVERY HANDLER INVOCATION REGISTERS A TOKEN FOR ITS KEY WHEN IT STARTS. INVALIDATION
+    // REMOVES THE TOKEN, SO THAT A RESPONSE CREATED BEFORE THE INVALIDATION IS NOT CACHED...
+    private final Map<String, Object> loadTokenMapByKey = new ConcurrentHashMap<>();
+    private final HashProvider hashProvider = HashProvider.getInstance();
+    private final HashAlgorithm hashAlgorithm;
+
+    private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String CONTENT_TYPE_TEXT = "text/plain; charset=utf-8";
+    private static final String CONTENT_TYPE_BINARY = "application/octet-stream";
+
+    ResponseCacheImpl(final ResponseCacheOptions options) {
+        // if options are not provided, we shall throw exception...
+        if (options == null) { throw new IllegalArgumentException("Provided response cache options are null."); }
+
+        hashAlgorithm = options.getHashAlgorithm() == null
+                ? HashAlgorithm.XXHASH64
+                : options.getHashAlgorithm();
+        cache = Cache.create(new CacheOptions<String, CachedResponse>()
+                .setMaximumWeight(options.getMaximumWeightInBytes())
+                // responses are weighed by their approximate memory footprint...
+                .setWeigher((key, response) -> (int) Math.min(
+                        (long) response.getBody().length + key.length() * 2L + ENTRY_OVERHEAD_IN_BYTES, Integer.MAX_VALUE))
+                .setExpireAfterWriteInMilliseconds(options.getExpireAfterWriteInMilliseconds()));
+    }
+
+    @Override
+    public CachedResponse handle(
+            final String route,
+            final Map<String, ? extends Collection<String>> queryParameters,
+            final String ifNoneMatch,
+            final Callable<?> handler) throws Exception {
+        // if handler is null, we shall throw exception...
+        if (handler == null) { throw new IllegalArgumentException("Provided handler is null."); }
+
+        final var key = ResponseCache.createKey(route, queryParameters);
+        var response = cache.get(key);
+
+        // if no response is cached, we shall invoke the handler...
+        if (response == null) {
+            response = singleFlight.execute(key, () -> {
+                final var loadToken = beginLoad(key);
+                CachedResponse createdResponse = null;
+
+                try {
+                    createdResponse = createResponse(handler.call());
+                } finally {
+                    // if a response is created, we shall cache it...
+                    completeLoad(key, loadToken, createdResponse);
+                }
+
+                return createdResponse;
+            }).await();
+        }
+
+        // if the client already has the current representation, we shall answer not modified...
+        return ResponseCache.isETagMatched(ifNoneMatch, response.getETag())
+                ? response.toNotModified()
+                : response;
+    }
+
+    @Override
+    public void invalidate(final String route, final Map<String, ? extends Collection<String>> queryParameters) {
+        final var key = ResponseCache.createKey(route, queryParameters);
+
+        // NOTE: THE TOKEN MUST BE REMOVED BEFORE REMOVING THE RESPONSE (SEE completeLoad())...
+        loadTokenMapByKey.remove(key);
+        cache.remove(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        loadTokenMapByKey.clear();
+        cache.clear();
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    private Object beginLoad(final String key) {
+        final var loadToken = new Object();
+
+        loadTokenMapByKey.put(key, loadToken);
+
+        return loadToken;
+    }
+
+    /**
+     * Removes the token of the handler invocation and caches the created response.
+     * If the token has been removed in the meantime (by invalidation), the response
+     * is not cached because it may be older than the current state.
+     * @implNote The response is cached while the token entry is locked. Since invalidation
+     * removes the token before removing the response, it either waits for this write
+     * (and removes the response) or removes the token first (and this write is skipped).
+     * @param response Created response. Null if the handler failed.
+     */
+    private void completeLoad(final String key, final Object loadToken, final CachedResponse response) {
+        loadTokenMapByKey.computeIfPresent(key, (ignoredKey, currentLoadToken) -> {
+            // if the token belongs to another invocation, we shall keep it...
+            if (currentLoadToken != loadToken) { return currentLoadToken; }
+            // if a response is created, we shall cache it...
+            if (response != null) { cache.put(key, response); }
+
+            return null;
+        });
+    }
+
+    private CachedResponse createResponse(final Object result) throws Exception {
+        byte[] body;
+        String contentType;
+
+        // serializes the result based on its type...
+        if (result instanceof byte[] bytes) {
+            body = bytes;
+            contentType = CONTENT_TYPE_BINARY;
+        } else if (result instanceof String text) {
+            body = text.getBytes(StandardCharsets.UTF_8);
+            contentType = CONTENT_TYPE_TEXT;
+        } else {
+            // NOTE: SERIALIZATION FAILURE THROWS EXCEPTION SO THAT THE FAILED RESULT IS NEVER CACHED...
+            body = JsonSerializer.serializeAsBytes(result);
+            contentType = CONTENT_TYPE_JSON;
+        }
+
+        // NOTE: STRONG ENTITY TAGS MUST BE ENCLOSED IN DOUBLE QUOTES...
+        final var eTag = '"' + Encoder.encode(hashProvider.computeHash(body, hashAlgorithm), Encoding.HEX) + '"';
+
+        return new CachedResponse(body, contentType, eTag);
+    }
+}
@@ -0,0 +1,50 @@
+package com.snowfall.core.caching;
+
+import com.snowfall.core.security.cryptography.HashAlgorithm;
+
+/**
+ * Options to create a response cache.
+ * @implNote Expiration is disabled if the duration is zero (0). In that case,
+ * responses must be invalidated explicitly when the resources change.
+ */
+public class ResponseCacheOptions {
+
+    private long maximumWeightInBytes = 64L * 1024 * 1024;          // <-- we are assigning a default value (64 MB)...
+    private long expireAfterWriteInMilliseconds = 60_000L;            // <-- we are assigning a default value (1 minute)...
+    private HashAlgorithm hashAlgorithm = HashAlgorithm.XXHASH64;     // <-- we are assigning a default value...
+
+    public long getMaximumWeightInBytes() {
+        return maximumWeightInBytes;
+    }
+
+    public ResponseCacheOptions setMaximumWeightInBytes(final long maximumWeightInBytes) {
+        this.maximumWeightInBytes = maximumWeightInBytes;
+
+        return this;
+    }
+
+    public long getExpireAfterWriteInMilliseconds() {
+        return expireAfterWriteInMilliseconds;
+    }
+
+    public ResponseCacheOptions setExpireAfterWriteInMilliseconds(final long expireAfterWriteInMilliseconds) {
+        this.expireAfterWriteInMilliseconds = expireAfterWriteInMilliseconds;
+
+        return this;
+    }
+
+    public HashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    /**
+     * Sets the hash algorithm used to compute the entity tags.
+     * @param hashAlgorithm Hash algorithm.
+     * @return The options.
+     */
+    public ResponseCacheOptions setHashAlgorithm(final HashAlgorithm hashAlgorithm) {
+        this.hashAlgorithm = hashAlgorithm;
+
+        return this;
+    }
+}
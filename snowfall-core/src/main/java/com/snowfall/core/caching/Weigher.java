@@ -0,0 +1,27 @@
+package com.snowfall.core.caching;
+
+/**
+ * Calculates the weight of a cache entry.
+ * @param <KeyType> Type of the keys.
+ * @param <ValueType> Type of the values.
+ */
+public interface Weigher<KeyType, ValueType> {
+
+    /**
+     * Calculates the weight of the entry.
+     * @param key Key of the entry.
+     * @param value Value of the entry.
+     * @return The weight of the entry. Must not be negative.
+     */
+    int weigh(final KeyType key, final ValueType value);
+
+    /**
+     * Gets a weigher that assigns a weight of one (1) to every entry.
+     * @return A weigher that assigns a weight of one (1) to every entry.
+     * @param <KeyType> Type of the keys.
+     * @param <ValueType> Type of the values.
+     */
+    static <KeyType, ValueType> Weigher<KeyType, ValueType> singleton() {
+        return (key, value) -> 1;
+    }
+}
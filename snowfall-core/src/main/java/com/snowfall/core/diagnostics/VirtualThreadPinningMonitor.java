@@ -0,0 +1,70 @@
+package com.snowfall.core.diagnostics;
+
+import com.snowfall.core.dependencyinjection.ServiceProvider;
+
+import java.util.List;
+
+/**
+ * Monitors the virtual thread pinning and submit failure events
+ * using JDK Flight Recorder event streaming and aggregates them
+ * by stack trace.
+ * @implNote Implementations of this interface are thread-safe.
+ */
+public interface VirtualThreadPinningMonitor extends AutoCloseable {
+
+    /**
+     * Starts streaming the virtual thread events.
+     * Calling this method on an already started monitor has no effect.
+     * @return True if the monitor is running. Otherwise, false.
+     */
+    boolean start();
+
+    /**
+     * Checks if the monitor is running.
+     * @return True if the monitor is running. Otherwise, false.
+     */
+    boolean isRunning();
+
+    /**
+     * Gets the number of virtual thread pinned events observed.
+     * @return The number of pinned events.
+     */
+    long getPinnedEventCount();
+
+    /**
+     * Gets the total duration (in nanoseconds) during which
+     * virtual threads were pinned to their carriers.
+     * @return The total pinned duration in nanoseconds.
+     */
+    long getTotalPinnedDurationInNanoseconds();
+
+    /**
+     * Gets the number of virtual thread submit failed events observed.
+     * @return The number of submit failed events.
+     */
+    long getSubmitFailedEventCount();
+
+    /**
+     * Gets the stack traces responsible for most of the events,
+     * ordered by the number of occurrences (descending).
+     * @param limit Maximum number of offenders to return.
+     * @return A list of offenders.
+     */
+    List<VirtualThreadPinningOffender> getTopOffenders(final int limit);
+
+    /**
+     * Clears all the aggregated statistics.
+     */
+    void reset();
+
+    /**
+     * Stops streaming the virtual thread events.
+     */
+    @Override
+    void close();
+
+    static VirtualThreadPinningMonitor getInstance() {
+        return ServiceProvider.getSingleton()
+                .get(VirtualThreadPinningMonitor.class, VirtualThreadPinningMonitorImpl::new);
+    }
+}
@@ -0,0 +1,219 @@
+package com.snowfall.core.diagnostics;
+
+import com.snowfall.core.utilities.StringUtilities;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+class VirtualThreadPinningMonitorImpl implements VirtualThreadPinningMonitor {
+
+    private final Logger logger = LogManager.getLogger(VirtualThreadPinningMonitorImpl.class);
+    private final Lock lock = new ReentrantLock(false);
+    private final LongAdder pinnedEventCount = new LongAdder();
+    private final LongAdder totalPinnedDurationInNanoseconds = new LongAdder();
+    private final LongAdder submitFailedEventCount = new LongAdder();
+    // NOTE: THIS MAP CONTAINS AGGREGATED STATISTICS AS VALUE AND EVENT NAME + STACK TRACE AS KEY...
+    private final Map<String, Aggregate> aggregateMapByStackTrace = new ConcurrentHashMap<>(AGGREGATE_MAP_INITIAL_CAPACITY);
+    private volatile RecordingStream recordingStream;
+
+    private static final int AGGREGATE_MAP_INITIAL_CAPACITY = 64;
+    // NOTE: ONLY THE TOP FRAMES ARE USED TO IDENTIFY THE OFFENDER...
+    private static final int MAXIMUM_STACK_DEPTH = 16;
+    // NOTE: THIS IS THE SAME THRESHOLD THE JDK USES BY DEFAULT...
+    private static final Duration PINNED_EVENT_THRESHOLD = Duration.ofMillis(20);
+    private static final String VIRTUAL_THREAD_PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String VIRTUAL_THREAD_SUBMIT_FAILED_EVENT_NAME = "jdk.VirtualThreadSubmitFailed";
+    private static final String STACK_TRACE_UNAVAILABLE = "<stack trace unavailable>";
+
+    VirtualThreadPinningMonitorImpl() { }
+
+    @Override
+    public boolean start() {
+        lock.lock();
+
+        try {
+            // if the monitor is already running, we shall not proceed any further...
+            if (recordingStream != null) { return true; }
+
+            final var recordingStream = new RecordingStream();
+            recordingStream.enable(VIRTUAL_THREAD_PINNED_EVENT_NAME)
+                    .withThreshold(PINNED_EVENT_THRESHOLD)
+                    .withStackTrace();
+            recordingStream.enable(VIRTUAL_THREAD_SUBMIT_FAILED_EVENT_NAME)
+                    .withStackTrace();
+            recordingStream.onEvent(VIRTUAL_THREAD_PINNED_EVENT_NAME, this::onPinnedEvent);
+            recordingStream.onEvent(VIRTUAL_THREAD_SUBMIT_FAILED_EVENT_NAME, this::onSubmitFailedEvent);
+            // NOTE: EVENTS ARE DISPATCHED ON A SEPARATE THREAD...
+            recordingStream.startAsync();
+
+            this.recordingStream = recordingStream;
+
+            logger.log(Level.INFO, "Virtual thread pinning monitor has started.");
+        } catch (final Throwable throwable) {
+            logger.log(Level.ERROR, "An exception occurred while starting the virtual thread pinning monitor.", throwable);
+
+            return false;
+        } finally {
+            lock.unlock();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    @Override
+    public long getPinnedEventCount() {
+        return pinnedEventCount.sum();
+    }
+
+    @Override
+    public long getTotalPinnedDurationInNanoseconds() {
+        return totalPinnedDurationInNanoseconds.sum();
+    }
+
+    @Override
+    public long getSubmitFailedEventCount() {
+        return submitFailedEventCount.sum();
+    }
+
+    @Override
+    public List<VirtualThreadPinningOffender> getTopOffenders(final int limit) {
+        final List<VirtualThreadPinningOffender> offenders = new ArrayList<>(aggregateMapByStackTrace.size());
+
+        // taking a snapshot of all the aggregates...
+        for (final var aggregate : aggregateMapByStackTrace.values()) {
+            offenders.add(aggregate.toOffender());
+        }
+
+        // sorting the offenders by count in descending order...
+        offenders.sort(Comparator.comparingLong(VirtualThreadPinningOffender::getCount).reversed());
+
+        // if limit is not positive or exceeds the number of offenders, we shall return all...
+        if (limit < 1 || limit >= offenders.size()) { return offenders; }
+
+        return new ArrayList<>(offenders.subList(0, limit));
+    }
+
+    @Override
+    public void reset() {
+        pinnedEventCount.reset();
+        totalPinnedDurationInNanoseconds.reset();
+        submitFailedEventCount.reset();
+        aggregateMapByStackTrace.clear();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+
+        try {
+            // if the monitor is not running, we shall not proceed any further...
+            if (recordingStream == null) { return; }
+
+            recordingStream.close();
+            recordingStream = null;
+
+            logger.log(Level.INFO, "Virtual thread pinning monitor has stopped.");
+        } catch (final Throwable throwable) {
+            logger.log(Level.WARN, "An exception occurred while stopping the virtual thread pinning monitor.", throwable);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onPinnedEvent(final RecordedEvent event) {
+        final var durationInNanoseconds = event.getDuration().toNanos();
+
+        pinnedEventCount.increment();
+        totalPinnedDurationInNanoseconds.add(durationInNanoseconds);
+        aggregate(event, durationInNanoseconds);
+    }
+
+    private void onSubmitFailedEvent(final RecordedEvent event) {
+        submitFailedEventCount.increment();
+        aggregate(event, 0L);
+    }
+
+    private void aggregate(final RecordedEvent event, final long durationInNanoseconds) {
+        final var eventName = event.getEventType().getName();
+        final var stackTrace = toStackTraceString(event);
+        final var key = eventName + '\n' + stackTrace;
+        final var aggregate = aggregateMapByStackTrace.computeIfAbsent(key, _key -> new Aggregate(eventName, stackTrace));
+
+        aggregate.record(durationInNanoseconds);
+    }
+
+    private static String toStackTraceString(final RecordedEvent event) {
+        final var stackTrace = event.getStackTrace();
+
+        // if the stack trace is not recorded, we shall return a placeholder...
+        if (stackTrace == null) { return STACK_TRACE_UNAVAILABLE; }
+
+        final var frames = stackTrace.getFrames();
+        final var depth = Math.min(frames.size(), MAXIMUM_STACK_DEPTH);
+        final var stackTraceBuilder = new StringBuilder(depth * 64);
+
+        for (var i = 0; i < depth; ++i) {
+            final var frame = frames.get(i);
+            final var method = frame.getMethod();
+
+            if (i > 0) { stackTraceBuilder.append('\n'); }
+
+            stackTraceBuilder.append(method.getType().getName())
+                    .append('.')
+                    .append(method.getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+
+        final var stackTraceAsString = stackTraceBuilder.toString();
+
+        return StringUtilities.isEmpty(stackTraceAsString) ? STACK_TRACE_UNAVAILABLE : stackTraceAsString;
+    }
+
+    private static final class Aggregate {
+
+        private final String eventName;
+        private final String stackTrace;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalDurationInNanoseconds = new LongAdder();
+        private final AtomicLong maximumDurationInNanoseconds = new AtomicLong();
+
+        private Aggregate(final String eventName, final String stackTrace) {
+            this.eventName = eventName;
+            this.stackTrace = stackTrace;
+        }
+
+        private void record(final long durationInNanoseconds) {
+            count.increment();
+            totalDurationInNanoseconds.add(durationInNanoseconds);
+            maximumDurationInNanoseconds.accumulateAndGet(durationInNanoseconds, Math::max);
+        }
+
+        private VirtualThreadPinningOffender toOffender() {
+            return new VirtualThreadPinningOffender()
+                    .setEventName(eventName)
+                    .setStackTrace(stackTrace)
+                    .setCount(count.sum())
+                    .setTotalDurationInNanoseconds(totalDurationInNanoseconds.sum())
+                    .setMaximumDurationInNanoseconds(maximumDurationInNanoseconds.get());
+        }
+    }
+}
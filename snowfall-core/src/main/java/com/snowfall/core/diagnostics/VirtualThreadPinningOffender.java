@@ -0,0 +1,71 @@
+package com.snowfall.core.diagnostics;
+
+import com.snowfall.core.text.JsonSerializable;
+
+/**
+ * Aggregated statistics of the virtual thread events
+ * (pinning or submit failure) that share the same stack trace.
+ */
+public class VirtualThreadPinningOffender implements JsonSerializable {
+
+    private String eventName;
+    private String stackTrace;
+    private long count;
+    private long totalDurationInNanoseconds;
+    private long maximumDurationInNanoseconds;
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public VirtualThreadPinningOffender setEventName(final String eventName) {
+        this.eventName = eventName;
+
+        return this;
+    }
+
+    public String getStackTrace() {
+        return stackTrace;
+    }
+
+    public VirtualThreadPinningOffender setStackTrace(final String stackTrace) {
+        this.stackTrace = stackTrace;
+
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public VirtualThreadPinningOffender setCount(final long count) {
+        this.count = count;
+
+        return this;
+    }
+
+    public long getTotalDurationInNanoseconds() {
+        return totalDurationInNanoseconds;
+    }
+
+    public VirtualThreadPinningOffender setTotalDurationInNanoseconds(final long totalDurationInNanoseconds) {
+        this.totalDurationInNanoseconds = totalDurationInNanoseconds;
+
+        return this;
+    }
+
+    public long getMaximumDurationInNanoseconds() {
+        return maximumDurationInNanoseconds;
+    }
+
+    public VirtualThreadPinningOffender setMaximumDurationInNanoseconds(final long maximumDurationInNanoseconds) {
+        this.maximumDurationInNanoseconds = maximumDurationInNanoseconds;
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return toJson(true);
+    }
+}
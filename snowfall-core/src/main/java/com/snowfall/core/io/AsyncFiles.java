@@ -0,0 +1,69 @@
+package com.snowfall.core.io;
+
+import com.snowfall.core.dependencyinjection.ServiceProvider;
+import com.snowfall.core.threading.AsyncTask;
+
+import java.nio.charset.Charset;
+
+/**
+ * Performs file operations asynchronously on virtual threads. The number
+ * of operations that access the disk concurrently is limited, so that
+ * thousands of concurrent callers do not overwhelm the disk queue.
+ *
+ * <p>
+ * Awaiting a task throws exception if the operation fails.
+ * Write operations create the file if it does not exist.
+ * </p>
+ *
+ * <p><strong>Note:</strong> Implementations are thread-safe.</p>
+ */
+public interface AsyncFiles {
+
+    /**
+     * Gets the maximum number of file operations that may be performed concurrently.
+     * @return The maximum number of concurrent operations. Zero (0) means no limit.
+     */
+    int getMaximumConcurrentOperations();
+
+    AsyncTask<byte[]> readAllBytes(final String filePath);
+
+    /**
+     * Reads the entire file as UTF-8 string.
+     * Note: Unlike {@link com.snowfall.core.utilities.StreamUtilities#readString(String)},
+     * the content is not trimmed.
+     * @param filePath Path of the file.
+     * @return An AsyncTask that resolves to the file content.
+     */
+    AsyncTask<String> readString(final String filePath);
+    AsyncTask<String> readString(final String filePath, final Charset charset);
+
+    /**
+     * Writes the data to the file. If the file exists, it is truncated.
+     * Large data may be written with direct I/O (see {@link AsyncFilesOptions#setDirectWriteEnabled(boolean)}).
+     * @param filePath Path of the file.
+     * @param data Data to write.
+     * @return An AsyncTask that resolves to the number of bytes written.
+     */
+    AsyncTask<Long> write(final String filePath, final byte[] data);
+    AsyncTask<Long> write(final String filePath, final String text);
+
+    /**
+     * Appends the data to the end of the file.
+     * @param filePath Path of the file.
+     * @param data Data to append.
+     * @return An AsyncTask that resolves to the number of bytes written.
+     */
+    AsyncTask<Long> append(final String filePath, final byte[] data);
+    AsyncTask<Long> append(final String filePath, final String text);
+
+    static AsyncFiles create(final AsyncFilesOptions options) {
+        return new AsyncFilesImpl(options);
+    }
+
+    static AsyncFiles getInstance() {
+        final var serviceProvider = ServiceProvider.getSingleton();
+        final var asyncFiles = serviceProvider.get(AsyncFiles.class, () -> create(new AsyncFilesOptions()));
+
+        return asyncFiles;
+    }
+}
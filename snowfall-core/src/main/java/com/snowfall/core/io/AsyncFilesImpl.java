@@ -0,0 +1,233 @@
+package com.snowfall.core.io;
+
+import com.snowfall.core.threading.AsyncTask;
+import com.snowfall.core.threading.LimitedAsyncTaskExecutor;
+import com.snowfall.core.utilities.FileSystemUtilities;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Callable;
+
+class AsyncFilesImpl implements AsyncFiles {
+
+    private final Logger logger = LogManager.getLogger(AsyncFilesImpl.class);
+    private final int maximumConcurrentOperations;
+    private final boolean directWriteEnabled;
+    private final long directWriteThresholdInBytes;
+    private final int directWriteChunkSizeInBytes;
+    private final LimitedAsyncTaskExecutor asyncTaskExecutor;
+
+    private static final String CONTEXT = "file-io";
+    // NOTE: com.sun.nio.file.ExtendedOpenOption IS A JDK-SPECIFIC API. IT IS RESOLVED
+    // REFLECTIVELY SO THAT COMPILATION DOES NOT DEPEND ON IT. NULL IF IT IS NOT AVAILABLE...
+    private static final OpenOption DIRECT_OPEN_OPTION = resolveDirectOpenOption();
+
+    AsyncFilesImpl(final AsyncFilesOptions options) {
+        // if options are not provided, we shall throw exception...
+        if (options == null) { throw new IllegalArgumentException("Provided async files options are null."); }
+
+        maximumConcurrentOperations = Math.max(0, options.getMaximumConcurrentOperations());
+        directWriteEnabled = options.isDirectWriteEnabled();
+        directWriteThresholdInBytes = options.getDirectWriteThresholdInBytes();
+        directWriteChunkSizeInBytes = Math.max(1, options.getDirectWriteChunkSizeInBytes());
+        // NOTE: THE EXECUTOR RUNS EVERY OPERATION ON A VIRTUAL THREAD AND
+        // LETS ONLY A LIMITED NUMBER OF THEM ACCESS THE DISK AT A TIME...
+        asyncTaskExecutor = new LimitedAsyncTaskExecutor(maximumConcurrentOperations);
+    }
+
+    @Override
+    public int getMaximumConcurrentOperations() {
+        return maximumConcurrentOperations;
+    }
+
+    @Override
+    public AsyncTask<byte[]> readAllBytes(final String filePath) {
+        return run(() -> Files.readAllBytes(toPath(filePath)));
+    }
+
+    @Override
+    public AsyncTask<String> readString(final String filePath) {
+        return readString(filePath, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AsyncTask<String> readString(final String filePath, final Charset charset) {
+        // NOTE: DECODING DOES NOT ACCESS THE DISK, SO IT IS PERFORMED AFTER RELEASING THE SLOT...
+        final var asyncTask = asyncTaskExecutor.run(CONTEXT, () -> Files.readAllBytes(toPath(filePath)));
+
+        return AsyncTask.run(() -> new String(awaitOperation(asyncTask), charset));
+    }
+
+    @Override
+    public AsyncTask<Long> write(final String filePath, final byte[] data) {
+        // if data is null, we shall throw exception...
+        if (data == null) { throw new IllegalArgumentException("Provided data is null."); }
+
+        return run(() -> {
+            final var path = toPath(filePath);
+
+            // if direct write is enabled and the data is large enough, we shall try writing directly...
+            if (directWriteEnabled && data.length >= directWriteThresholdInBytes && tryWriteDirectly(path, data)) {
+                return (long) data.length;
+            }
+
+            Files.write(path, data, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+            return (long) data.length;
+        });
+    }
+
+    @Override
+    public AsyncTask<Long> write(final String filePath, final String text) {
+        // if text is null, we shall throw exception...
+        if (text == null) { throw new IllegalArgumentException("Provided text is null."); }
+
+        return write(filePath, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public AsyncTask<Long> append(final String filePath, final byte[] data) {
+        // if data is null, we shall throw exception...
+        if (data == null) { throw new IllegalArgumentException("Provided data is null."); }
+
+        return run(() -> {
+            Files.write(toPath(filePath), data, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+
+            return (long) data.length;
+        });
+    }
+
+    @Override
+    public AsyncTask<Long> append(final String filePath, final String text) {
+        // if text is null, we shall throw exception...
+        if (text == null) { throw new IllegalArgumentException("Provided text is null."); }
+
+        return append(filePath, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs the file operation with the concurrency limit applied.
+     */
+    private <Type> AsyncTask<Type> run(final Callable<Type> operation) {
+        final var asyncTask = asyncTaskExecutor.run(CONTEXT, operation);
+
+        return AsyncTask.run(() -> awaitOperation(asyncTask));
+    }
+
+    /**
+     * Writes the data with direct I/O (bypassing the page cache).
+     * NOTE: DIRECT I/O REQUIRES THE BUFFER ADDRESS, THE FILE POSITION AND THE
+     * LENGTH TO BE ALIGNED TO THE BLOCK SIZE. THEREFORE, THE LAST BLOCK IS
+     * PADDED WITH ZEROS AND THE FILE IS TRUNCATED TO THE ACTUAL LENGTH...
+     * @return True if the data is written. False if direct I/O is not supported.
+     */
+    private boolean tryWriteDirectly(final Path path, final byte[] data) throws IOException {
+        // if direct I/O is not available on this JDK, we shall not proceed any further...
+        if (DIRECT_OPEN_OPTION == null) {
+            logger.log(Level.DEBUG, "Direct I/O is not available. Writing the file, '{}' as usual.", path);
+
+            return false;
+        }
+
+        final FileChannel fileChannel;
+        final int blockSize;
+
+        try {
+            // NOTE: THE FILE MAY NOT EXIST YET, SO THE BLOCK SIZE IS RETRIEVED FROM ITS DIRECTORY...
+            blockSize = (int) Files.getFileStore(path.getParent()).getBlockSize();
+            fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE, DIRECT_OPEN_OPTION);
+        } catch (final UnsupportedOperationException | IOException exception) {
+            logger.log(Level.DEBUG, "Direct I/O is not supported for '{}'. Writing the file as usual.", path, exception);
+
+            return false;
+        }
+
+        final var chunkSize = roundUp(Math.min(directWriteChunkSizeInBytes, data.length), blockSize);
+        // NOTE: THE DIRECT BUFFER IS OVER-ALLOCATED SO THAT AN ALIGNED SLICE CAN BE TAKEN...
+        final var buffer = ByteBuffer.allocateDirect(chunkSize + blockSize).alignedSlice(blockSize);
+
+        try (fileChannel) {
+            var offset = 0;
+
+            while (offset < data.length) {
+                final var length = Math.min(chunkSize, data.length - offset);
+                final var alignedLength = roundUp(length, blockSize);
+
+                buffer.clear().put(data, offset, length);
+
+                // the last chunk is padded with zeros...
+                while (buffer.position() < alignedLength) { buffer.put((byte) 0); }
+
+                buffer.flip();
+
+                // NOTE: A CHANNEL MAY NOT WRITE ALL THE BYTES AT ONCE...
+                while (buffer.hasRemaining()) { fileChannel.write(buffer, (long) offset + buffer.position()); }
+
+                offset += length;
+            }
+        }
+
+        // if the last block is padded, we shall remove the padding...
+        if (roundUp(data.length, blockSize) != data.length) {
+            try (final var truncatingFileChannel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncatingFileChannel.truncate(data.length);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Awaits the file operation that is run by the limited executor.
+     * NOTE: THE LIMITED EXECUTOR RESOLVES TO NULL WITHOUT RUNNING THE OPERATION IF
+     * WAITING FOR A SLOT IS INTERRUPTED. SINCE NONE OF THE FILE OPERATIONS RESOLVES
+     * TO NULL, NULL MEANS THAT THE OPERATION HAS NOT BEEN PERFORMED...
+     * @throws InterruptedIOException If the operation has not been performed.
+     */
+    private static <Type> Type awaitOperation(final AsyncTask<Type> asyncTask) throws InterruptedIOException {
+        final var result = asyncTask.await();
+
+        // if the operation has not been performed, we shall throw exception...
+        if (result == null) { throw new InterruptedIOException("Interrupted while waiting to perform the file operation."); }
+
+        return result;
+    }
+
+    private static OpenOption resolveDirectOpenOption() {
+        try {
+            final var optionClass = Class.forName("com.sun.nio.file.ExtendedOpenOption");
+
+            for (final var option : optionClass.getEnumConstants()) {
+                if (option instanceof OpenOption openOption && "DIRECT".equals(((Enum<?>) option).name())) {
+                    return openOption;
+                }
+            }
+        } catch (final Exception | LinkageError ignored) {
+            // NOTE: THE OPTION IS NOT AVAILABLE ON THIS JDK...
+        }
+
+        return null;
+    }
+
+    private static int roundUp(final int length, final int blockSize) {
+        return (int) Math.min(((long) length + blockSize - 1) / blockSize * blockSize, Integer.MAX_VALUE - blockSize);
+    }
+
+    private static Path toPath(final String filePath) {
+        return Path.of(FileSystemUtilities.getAbsolutePath(filePath));
+    }
+}
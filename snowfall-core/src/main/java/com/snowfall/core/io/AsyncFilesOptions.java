@@ -0,0 +1,78 @@
+package com.snowfall.core.io;
+
+/**
+ * Options to create asynchronous file operations.
+ * @implNote If the maximum number of concurrent operations is zero (0),
+ * no limit is applied.
+ */
+public class AsyncFilesOptions {
+
+    private int maximumConcurrentOperations = 64;                       // <-- we are assigning a default value...
+    private boolean directWriteEnabled = false;                         // <-- we are assigning a default value...
+    private long directWriteThresholdInBytes = 8L * 1024 * 1024;        // <-- we are assigning a default value (8 MB)...
+    private int directWriteChunkSizeInBytes = 1024 * 1024;              // <-- we are assigning a default value (1 MB)...
+
+    public int getMaximumConcurrentOperations() {
+        return maximumConcurrentOperations;
+    }
+
+    /**
+     * Sets the maximum number of file operations that may
+     * be performed concurrently. Other operations wait
+     * (on their virtual threads) until a slot is available.
+     * @param maximumConcurrentOperations Maximum number of concurrent operations.
+     * @return The options.
+     */
+    public AsyncFilesOptions setMaximumConcurrentOperations(final int maximumConcurrentOperations) {
+        this.maximumConcurrentOperations = maximumConcurrentOperations;
+
+        return this;
+    }
+
+    public boolean isDirectWriteEnabled() {
+        return directWriteEnabled;
+    }
+
+    /**
+     * Enables writing large files with direct I/O (bypassing the page cache)
+     * where the file system supports it. Otherwise, files are written as usual.
+     * @param directWriteEnabled Flag to enable direct writes.
+     * @return The options.
+     */
+    public AsyncFilesOptions setDirectWriteEnabled(final boolean directWriteEnabled) {
+        this.directWriteEnabled = directWriteEnabled;
+
+        return this;
+    }
+
+    public long getDirectWriteThresholdInBytes() {
+        return directWriteThresholdInBytes;
+    }
+
+    /**
+     * Sets the minimum length of the data to be written with direct I/O.
+     * @param directWriteThresholdInBytes Minimum length in bytes.
+     * @return The options.
+     */
+    public AsyncFilesOptions setDirectWriteThresholdInBytes(final long directWriteThresholdInBytes) {
+        this.directWriteThresholdInBytes = directWriteThresholdInBytes;
+
+        return this;
+    }
+
+    public int getDirectWriteChunkSizeInBytes() {
+        return directWriteChunkSizeInBytes;
+    }
+
+    /**
+     * Sets the number of bytes written to the file at a time with direct I/O.
+     * The size is rounded up to a multiple of the block size of the file system.
+     * @param directWriteChunkSizeInBytes Chunk size in bytes.
+     * @return The options.
+     */
+    public AsyncFilesOptions setDirectWriteChunkSizeInBytes(final int directWriteChunkSizeInBytes) {
+        this.directWriteChunkSizeInBytes = directWriteChunkSizeInBytes;
+
+        return this;
+    }
+}
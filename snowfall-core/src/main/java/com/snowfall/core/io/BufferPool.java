@@ -0,0 +1,43 @@
+package com.snowfall.core.io;
+
+import com.snowfall.core.dependencyinjection.ServiceProvider;
+
+/**
+ * A pool of byte arrays organized in power-of-two size classes.
+ * Renting a buffer returns an array whose length is the size class
+ * that can hold the requested length. Buffers larger than the largest
+ * size class are allocated on demand and never retained.
+ *
+ * <p><strong>Note:</strong> Implementations are thread-safe. Rented buffers are
+ * NOT zeroed and may contain data written by the previous renter. A buffer
+ * must not be used after it is released.</p>
+ */
+public interface BufferPool {
+
+    /**
+     * Rents a buffer that can hold at least the given number of bytes.
+     * @param minimumLength Minimum length of the buffer.
+     * @return A buffer whose length is greater than or equal to the minimum length.
+     */
+    byte[] rent(final int minimumLength);
+
+    /**
+     * Returns the buffer to the pool. Buffers that do not
+     * belong to any size class are silently discarded.
+     * @param buffer Buffer to return (may be null).
+     */
+    void release(final byte[] buffer);
+
+    /**
+     * Gets the length of the largest buffer that is retained by the pool.
+     * @return The maximum pooled buffer length.
+     */
+    int getMaximumPooledBufferLength();
+
+    static BufferPool getInstance() {
+        final var serviceProvider = ServiceProvider.getSingleton();
+        final var bufferPool = serviceProvider.get(BufferPool.class, BufferPoolImpl::new);
+
+        return bufferPool;
+    }
+}
@@ -0,0 +1,247 @@
+package com.snowfall.core.io;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Magazine-based buffer pool. Every size class has one magazine (a small stack
+ * of buffers) per stripe and a shared depot of full and empty magazines. Renting
+ * and releasing usually touch only the magazine of the current stripe. When a
+ * magazine runs empty (or full), it is exchanged with the depot as a whole.
+ * @implNote Magazines are striped by thread instead of being held in thread-locals
+ * because virtual threads are numerous and short-lived, so thread-local magazines
+ * would rarely be reused.
+ */
+class BufferPoolImpl implements BufferPool {
+
+    private final int stripeMask;
+    private final Stripe[] stripes;
+    private final Depot[] depots;
+
+    private static final int MINIMUM_SIZE_CLASS_BITS = 6;                        // <-- 64 bytes...
+    private static final int MAXIMUM_SIZE_CLASS_BITS = 20;                       // <-- 1 MB...
+    private static final int SIZE_CLASS_COUNT = MAXIMUM_SIZE_CLASS_BITS - MINIMUM_SIZE_CLASS_BITS + 1;
+    private static final int MAXIMUM_MAGAZINE_CAPACITY = 16;
+    private static final int MAXIMUM_MAGAZINE_SIZE_IN_BYTES = 256 * 1024;
+    private static final int MAXIMUM_DEPOT_SIZE_IN_BYTES = 2 * 1024 * 1024;
+
+    BufferPoolImpl() {
+        final var stripeCount = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 4 - 1) << 1;
+
+        stripeMask = stripeCount - 1;
+        stripes = new Stripe[stripeCount];
+        depots = new Depot[SIZE_CLASS_COUNT];
+
+        for (var i = 0; i < depots.length; ++i) {
+            depots[i] = new Depot(getMagazineCapacity(i), getMaximumFullMagazineCount(i));
+        }
+
+        for (var i = 0; i < stripes.length; ++i) {
+            stripes[i] = new Stripe(depots);
+        }
+    }
+
+    @Override
+    public byte[] rent(final int minimumLength) {
+        // if minimum length is negative, we shall throw exception...
+        if (minimumLength < 0) { throw new IllegalArgumentException("Minimum length must not be negative."); }
+        // buffers larger than the largest size class are not pooled...
+        if (minimumLength > getMaximumPooledBufferLength()) { return new byte[minimumLength]; }
+
+        final var sizeClass = getSizeClass(minimumLength);
+        final var stripe = getStripe();
+        byte[] buffer;
+
+        stripe.lock.lock();         // <-- synchronized block starts...
+
+        try {
+            buffer = stripe.pop(sizeClass, depots[sizeClass]);
+        } finally {
+            stripe.lock.unlock();   // <-- synchronized block ends...
+        }
+
+        // if the pool has no buffer of this size class, we shall allocate one...
+        return buffer == null ? new byte[1 << (sizeClass + MINIMUM_SIZE_CLASS_BITS)] : buffer;
+    }
+
+    @Override
+    public void release(final byte[] buffer) {
+        // if buffer is null, we shall not proceed any further...
+        if (buffer == null) { return; }
+
+        final var length = buffer.length;
+
+        // if the buffer does not belong to any size class, we shall discard it...
+        if (length < 1 << MINIMUM_SIZE_CLASS_BITS
+                || length > getMaximumPooledBufferLength()
+                || Integer.bitCount(length) != 1) { return; }
+
+        final var sizeClass = Integer.numberOfTrailingZeros(length) - MINIMUM_SIZE_CLASS_BITS;
+        final var stripe = getStripe();
+
+        stripe.lock.lock();         // <-- synchronized block starts...
+
+        try {
+            stripe.push(sizeClass, depots[sizeClass], buffer);
+        } finally {
+            stripe.lock.unlock();   // <-- synchronized block ends...
+        }
+    }
+
+    @Override
+    public int getMaximumPooledBufferLength() {
+        return 1 << MAXIMUM_SIZE_CLASS_BITS;
+    }
+
+    private Stripe getStripe() {
+        final var threadId = Thread.currentThread().threadId();
+
+        return stripes[(int) (threadId * 0x9E3779B97F4A7C15L >>> 32) & stripeMask];
+    }
+
+    private static int getSizeClass(final int length) {
+        final var sizeClassBits = 32 - Integer.numberOfLeadingZeros(Math.max(length, 1) - 1);
+
+        return Math.max(sizeClassBits, MINIMUM_SIZE_CLASS_BITS) - MINIMUM_SIZE_CLASS_BITS;
+    }
+
+    private static int getMagazineCapacity(final int sizeClass) {
+        final var bufferLength = 1 << (sizeClass + MINIMUM_SIZE_CLASS_BITS);
+
+        return Math.max(Math.min(MAXIMUM_MAGAZINE_SIZE_IN_BYTES / bufferLength, MAXIMUM_MAGAZINE_CAPACITY), 1);
+    }
+
+    private static int getMaximumFullMagazineCount(final int sizeClass) {
+        final var magazineSizeInBytes = (long) getMagazineCapacity(sizeClass) << (sizeClass + MINIMUM_SIZE_CLASS_BITS);
+
+        return (int) Math.max(MAXIMUM_DEPOT_SIZE_IN_BYTES / magazineSizeInBytes, 1L);
+    }
+
+    /**
+     * A fixed-capacity stack of buffers of the same size class.
+     */
+    private static final class Magazine {
+
+        private final byte[][] buffers;
+        private int count = 0;
+
+        private Magazine(final int capacity) {
+            buffers = new byte[capacity][];
+        }
+
+        private boolean isEmpty() { return count == 0; }
+
+        private boolean isFull() { return count == buffers.length; }
+
+        private byte[] pop() {
+            final var buffer = buffers[--count];
+
+            buffers[count] = null;
+
+            return buffer;
+        }
+
+        private void push(final byte[] buffer) {
+            buffers[count++] = buffer;
+        }
+    }
+
+    /**
+     * Shared store of full and empty magazines of a size class.
+     */
+    private static final class Depot {
+
+        private final int magazineCapacity;
+        private final int maximumFullMagazineCount;
+        private final Queue<Magazine> fullMagazines = new ConcurrentLinkedQueue<>();
+        private final Queue<Magazine> emptyMagazines = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger fullMagazineCount = new AtomicInteger();
+
+        private Depot(final int magazineCapacity, final int maximumFullMagazineCount) {
+            this.magazineCapacity = magazineCapacity;
+            this.maximumFullMagazineCount = maximumFullMagazineCount;
+        }
+
+        private Magazine pollFullMagazine() {
+            final var magazine = fullMagazines.poll();
+
+            if (magazine != null) { fullMagazineCount.decrementAndGet(); }
+
+            return magazine;
+        }
+
+        private boolean offerFullMagazine(final Magazine magazine) {
+            // if the depot already retains enough buffers, we shall reject the magazine...
+            if (fullMagazineCount.incrementAndGet() > maximumFullMagazineCount) {
+                fullMagazineCount.decrementAndGet();
+
+                return false;
+            }
+
+            fullMagazines.offer(magazine);
+
+            return true;
+        }
+
+        private Magazine pollEmptyMagazine() {
+            final var magazine = emptyMagazines.poll();
+
+            return magazine == null ? new Magazine(magazineCapacity) : magazine;
+        }
+
+        private void offerEmptyMagazine(final Magazine magazine) {
+            emptyMagazines.offer(magazine);
+        }
+    }
+
+    /**
+     * Holds the current magazine of every size class.
+     * @implNote All the methods must be called while holding the lock.
+     */
+    private static final class Stripe {
+
+        private final Lock lock = new ReentrantLock(false);
+        private final Magazine[] magazines;
+
+        private Stripe(final Depot[] depots) {
+            magazines = new Magazine[depots.length];
+
+            for (var i = 0; i < magazines.length; ++i) {
+                magazines[i] = new Magazine(depots[i].magazineCapacity);
+            }
+        }
+
+        private byte[] pop(final int sizeClass, final Depot depot) {
+            var magazine = magazines[sizeClass];
+
+            // if the magazine is empty, we shall exchange it with a full one from the depot...
+            if (magazine.isEmpty()) {
+                final var fullMagazine = depot.pollFullMagazine();
+
+                if (fullMagazine == null) { return null; }
+
+                depot.offerEmptyMagazine(magazine);
+                magazines[sizeClass] = magazine = fullMagazine;
+            }
+
+            return magazine.pop();
+        }
+
+        private void push(final int sizeClass, final Depot depot, final byte[] buffer) {
+            var magazine = magazines[sizeClass];
+
+            // if the magazine is full, we shall hand it over to the depot...
+            if (magazine.isFull()) {
+                // if the depot rejects the magazine, the buffer is discarded...
+                if (!depot.offerFullMagazine(magazine)) { return; }
+
+                magazines[sizeClass] = magazine = depot.pollEmptyMagazine();
+            }
+
+            magazine.push(buffer);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.snowfall.core.io;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Processes a chunk of a file. Chunks are aligned to record boundaries,
+ * so a record never spans two (2) chunks.
+ * @param <ResultType> Type of the result produced for each chunk.
+ */
+public interface ChunkProcessor<ResultType> {
+
+    /**
+     * Processes the chunk (e.g. using {@link com.snowfall.core.utilities.FileSystemUtilities#forEachLine(MemorySegment, RecordHandler)}).
+     * Note: The chunk must not be retained after this method returns.
+     * @param chunk Read-only segment of the chunk.
+     * @return The result of the chunk.
+     * @throws Exception If the chunk cannot be processed.
+     */
+    ResultType process(final MemorySegment chunk) throws Exception;
+}
@@ -0,0 +1,48 @@
+package com.snowfall.core.io;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * DirectMemoryOutputStream is a {@link MemoryOutputStream} backed by off-heap
+ * memory (a native {@link MemorySegment}). Writing its data to NIO channels
+ * (e.g. sockets and files) does not require the hidden heap-to-direct copy
+ * that the JDK performs for heap buffers.
+ *
+ * <p>
+ * The memory is released deterministically when the stream is closed,
+ * so the stream must always be closed. Confined streams (the default) may only
+ * be accessed by the thread that created them. Shared streams can be handed
+ * over to another thread (e.g. an I/O thread) but are more expensive to close.
+ * </p>
+ *
+ * <p><strong>Note:</strong> Implementations are not thread-safe unless otherwise specified.</p>
+ */
+public interface DirectMemoryOutputStream extends MemoryOutputStream {
+
+    /**
+     * Gets a read-only memory segment view of the data.
+     * Note: The segment must not be used after the stream is modified or closed.
+     * @return A read-only memory segment whose size is the length of the stream.
+     * @throws IOException If the stream is closed.
+     */
+    MemorySegment asMemorySegment() throws IOException;
+
+    /**
+     * Checks if the stream can be accessed by threads other than the creator.
+     * @return True if shared. Otherwise, false.
+     */
+    boolean isShared();
+
+    static DirectMemoryOutputStream create() {
+        return new DirectMemoryOutputStreamImpl();
+    }
+
+    static DirectMemoryOutputStream create(final int initialCapacity) {
+        return new DirectMemoryOutputStreamImpl(initialCapacity, false);
+    }
+
+    static DirectMemoryOutputStream create(final int initialCapacity, final boolean shared) {
+        return new DirectMemoryOutputStreamImpl(initialCapacity, shared);
+    }
+}
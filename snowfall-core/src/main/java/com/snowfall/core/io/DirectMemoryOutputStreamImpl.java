@@ -0,0 +1,340 @@
+package com.snowfall.core.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+class DirectMemoryOutputStreamImpl extends OutputStream implements DirectMemoryOutputStream {
+
+    private boolean closed = false;
+    private final boolean shared;
+    private Arena arena;
+    private MemorySegment segment;
+    private int currentPosition = 0;
+    private int initialCapacity;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+    private static final int TRANSFER_BUFFER_SIZE = 8 * 1024;
+    private static final String EMPTY_STRING = "";
+    private static final ValueLayout.OfShort SHORT_LAYOUT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt INT_LAYOUT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LAYOUT = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    DirectMemoryOutputStreamImpl() {
+        this(DEFAULT_INITIAL_CAPACITY, false);
+    }
+
+    DirectMemoryOutputStreamImpl(final int initialCapacity, final boolean shared) {
+        this.shared = shared;
+        this.initialCapacity = initialCapacity < 1
+                ? DEFAULT_INITIAL_CAPACITY
+                : initialCapacity;
+        arena = createArena();
+        segment = arena.allocate(this.initialCapacity);
+    }
+
+    private Arena createArena() {
+        return shared ? Arena.ofShared() : Arena.ofConfined();
+    }
+
+    private void throwExceptionIfClosed() throws IOException {
+        if (!closed) { return; }
+
+        throw new IOException("Stream is closed.");
+    }
+
+    private int getCurrentCapacity() {
+        return (int) segment.byteSize();
+    }
+
+    /**
+     * Moves the data into a newly allocated segment of the given capacity.
+     * NOTE: EVERY SEGMENT HAS ITS OWN ARENA SO THAT THE PREVIOUS
+     * SEGMENT CAN BE RELEASED IMMEDIATELY...
+     */
+    private void reallocate(final int capacity) {
+        final var newArena = createArena();
+        final var newSegment = newArena.allocate(capacity);
+
+        MemorySegment.copy(segment, 0L, newSegment, 0L, currentPosition);
+        arena.close();
+
+        arena = newArena;
+        segment = newSegment;
+    }
+
+    private void ensureCapacity(final int minimumCapacity) throws IOException {
+        final var currentCapacity = getCurrentCapacity();
+
+        if (minimumCapacity <= currentCapacity) { return; }
+        // NOTE: INTEGER OVERFLOW MEANS THE STREAM HAS REACHED ITS MAXIMUM LENGTH...
+        if (minimumCapacity < 0) { throw new IOException("Stream has reached its maximum length."); }
+
+        reallocate((int) Math.min(Math.max((long) currentCapacity * 2, minimumCapacity), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public int getInitialCapacity() throws IOException {
+        throwExceptionIfClosed();
+
+        return initialCapacity;
+    }
+
+    @Override
+    public void write(final byte byteValue) throws IOException {
+        throwExceptionIfClosed();
+        ensureCapacity(currentPosition + 1);
+
+        segment.set(ValueLayout.JAVA_BYTE, currentPosition, byteValue);
+        ++currentPosition;
+    }
+
+    @Override
+    public void write(final int byteValue) throws IOException {
+        write((byte) byteValue);
+    }
+
+    @Override
+    public void write(final byte[] buffer) throws IllegalArgumentException, IOException {
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+
+        write(buffer, 0, buffer.length);
+    }
+
+    @Override
+    public void write(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the buffer length,
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+
+        // if length is zero (0), we shall not proceed any further...
+        if (length == 0) { return; }
+
+        ensureCapacity(currentPosition + length);
+
+        MemorySegment.copy(buffer, offset, segment, ValueLayout.JAVA_BYTE, currentPosition, length);
+        currentPosition += length;
+    }
+
+    @Override
+    public void write(final String text, final Charset charset) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if text is null or empty, we shall not proceed any further...
+        if (text == null || text.isEmpty()) { return; }
+        // if the charset is UTF-8, we shall encode without allocating an intermediate array...
+        if (charset == StandardCharsets.UTF_8) {
+            writeUtf8(text);
+
+            return;
+        }
+
+        write(text.getBytes(charset));
+    }
+
+    @Override
+    public void write(final String text) throws IllegalArgumentException, IOException {
+        write(text, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void writeShort(final short value) throws IOException {
+        throwExceptionIfClosed();
+        ensureCapacity(currentPosition + Short.BYTES);
+
+        segment.set(SHORT_LAYOUT, currentPosition, value);
+        currentPosition += Short.BYTES;
+    }
+
+    @Override
+    public void writeInt(final int value) throws IOException {
+        throwExceptionIfClosed();
+        ensureCapacity(currentPosition + Integer.BYTES);
+
+        segment.set(INT_LAYOUT, currentPosition, value);
+        currentPosition += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(final long value) throws IOException {
+        throwExceptionIfClosed();
+        ensureCapacity(currentPosition + Long.BYTES);
+
+        segment.set(LONG_LAYOUT, currentPosition, value);
+        currentPosition += Long.BYTES;
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IllegalArgumentException, IOException {
+        writeTo(outputStream, 0, currentPosition);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream, final int offset, final int length) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the current position (which is actually the length),
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > currentPosition) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+
+        // if length is zero (0), we shall not proceed any further...
+        if (length == 0) { return; }
+
+        // NOTE: OUTPUT STREAMS ONLY ACCEPT HEAP ARRAYS, SO THE DATA IS
+        // TRANSFERRED THROUGH A POOLED HEAP BUFFER...
+        final var bufferPool = BufferPool.getInstance();
+        final var transferBuffer = bufferPool.rent(Math.min(length, TRANSFER_BUFFER_SIZE));
+
+        try {
+            var position = offset;
+            var remainingLength = length;
+
+            while (remainingLength > 0) {
+                final var transferLength = Math.min(transferBuffer.length, remainingLength);
+
+                MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, position, transferBuffer, 0, transferLength);
+                outputStream.write(transferBuffer, 0, transferLength);
+
+                position += transferLength;
+                remainingLength -= transferLength;
+            }
+        } finally {
+            bufferPool.release(transferBuffer);
+        }
+    }
+
+    @Override
+    public void writeTo(final WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        // if channel is null, we shall throw exception...
+        if (channel == null) { throw new IllegalArgumentException("Provided channel is null."); }
+
+        // NOTE: THE BYTE BUFFER IS DIRECT, SO THE CHANNEL WRITES IT WITHOUT COPYING...
+        final var byteBuffer = asByteBuffer();
+
+        // NOTE: A CHANNEL MAY NOT WRITE ALL THE BYTES AT ONCE...
+        while (byteBuffer.hasRemaining()) { channel.write(byteBuffer); }
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() throws IOException {
+        throwExceptionIfClosed();
+
+        return segment.asSlice(0L, currentPosition).asByteBuffer().asReadOnlyBuffer();
+    }
+
+    @Override
+    public MemorySegment asMemorySegment() throws IOException {
+        throwExceptionIfClosed();
+
+        return segment.asSlice(0L, currentPosition).asReadOnly();
+    }
+
+    @Override
+    public int length() throws IOException {
+        throwExceptionIfClosed();
+
+        return currentPosition;
+    }
+
+    @Override
+    public int capacity() throws IOException {
+        throwExceptionIfClosed();
+
+        return getCurrentCapacity();
+    }
+
+    @Override
+    public void clear() throws IOException {
+        throwExceptionIfClosed();
+
+        currentPosition = 0;
+    }
+
+    @Override
+    public void trimToSize() throws IOException {
+        throwExceptionIfClosed();
+
+        // if current position is equal to the current capacity,
+        // we don't need to trim...
+        if (currentPosition == getCurrentCapacity()) { return; }
+
+        reallocate(currentPosition);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        throwExceptionIfClosed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // if this instance is already closed, we shall do nothing...
+        if (closed) { return; }
+
+        initialCapacity = 0;
+        currentPosition = 0;
+        segment = null;
+        // releases the off-heap memory...
+        arena.close();
+        arena = null;
+        closed = true;
+    }
+
+    @Override
+    public OutputStream asOutputStream() { return this; }
+
+    /**
+     * Gets the internal buffer.
+     * Note: The data resides in off-heap memory, so this
+     * method always returns a copy of the data.
+     */
+    @Override
+    public byte[] getInternalBuffer() throws IOException {
+        return getBytes();
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        throwExceptionIfClosed();
+
+        return segment.asSlice(0L, currentPosition).toArray(ValueLayout.JAVA_BYTE);
+    }
+
+    @Override
+    public String toString(final Charset charset) {
+        // if this instance is closed or empty, we shall return an empty string...
+        if (closed || currentPosition < 1) { return EMPTY_STRING; }
+
+        return new String(segment.asSlice(0L, currentPosition).toArray(ValueLayout.JAVA_BYTE), charset);
+    }
+
+    @Override
+    public String toString() {
+        return toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,163 @@
+package com.snowfall.core.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * MemoryInputStream is an in-memory InputStream implementation that reads
+ * from a byte array, a byte buffer or the data of a {@link MemoryOutputStream}
+ * without copying. It supports mark/reset, zero-copy slices and reading
+ * primitives in big-endian, little-endian and variable-length encodings.
+ *
+ * <p>
+ * An instance can be reused for multiple sources by calling one of the
+ * wrap methods, so parsing a request body does not need to allocate.
+ * </p>
+ *
+ * <p><strong>Note:</strong> Implementations are not thread-safe unless otherwise specified.
+ * The source must not be modified while it is being read.</p>
+ */
+public interface MemoryInputStream extends Closeable {
+
+    int read() throws IOException;
+    int read(final byte[] buffer) throws IllegalArgumentException, IOException;
+    int read(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException, IOException;
+
+    /**
+     * Reads exactly the given number of bytes into the buffer.
+     * @throws java.io.EOFException If the stream ends before all the bytes are read.
+     */
+    void readFully(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException, IOException;
+    long skip(final long length) throws IOException;
+    int available() throws IOException;
+    void mark(final int readLimit);
+    void reset() throws IOException;
+    boolean markSupported();
+
+    /**
+     * Gets the position relative to the start of the stream.
+     * @return The number of bytes read (or skipped) so far.
+     * @throws IOException If the stream is closed.
+     */
+    int position() throws IOException;
+
+    /**
+     * Moves the position relative to the start of the stream.
+     * @param position New position.
+     * @throws IllegalArgumentException If the position is out of range.
+     * @throws IOException If the stream is closed.
+     */
+    void position(final int position) throws IllegalArgumentException, IOException;
+    int length() throws IOException;
+    int remaining() throws IOException;
+
+    /**
+     * Creates a view of a region of this stream. The view shares the
+     * source with this stream, so no data is copied. The position and
+     * mark of the view are independent of this stream.
+     * @param offset Offset of the region relative to the start of this stream.
+     * @param length Length of the region.
+     * @return A new stream that reads the region.
+     * @throws IllegalArgumentException If the region is out of range.
+     * @throws IOException If the stream is closed.
+     */
+    MemoryInputStream slice(final int offset, final int length) throws IllegalArgumentException, IOException;
+
+    byte readByte() throws IOException;
+    int readUnsignedByte() throws IOException;
+    short readShort() throws IOException;
+    short readShortLittleEndian() throws IOException;
+    int readInt() throws IOException;
+    int readIntLittleEndian() throws IOException;
+    long readLong() throws IOException;
+    long readLongLittleEndian() throws IOException;
+
+    /**
+     * Reads an unsigned variable-length (LEB128) integer of up to five (5) bytes.
+     * @return The decoded integer.
+     * @throws IOException If the encoding is malformed or the stream ends.
+     */
+    int readVarInt() throws IOException;
+
+    /**
+     * Reads an unsigned variable-length (LEB128) long of up to ten (10) bytes.
+     * @return The decoded long.
+     * @throws IOException If the encoding is malformed or the stream ends.
+     */
+    long readVarLong() throws IOException;
+
+    /**
+     * Reads a ZigZag-encoded signed variable-length integer.
+     * @return The decoded integer.
+     * @throws IOException If the encoding is malformed or the stream ends.
+     */
+    int readSignedVarInt() throws IOException;
+
+    /**
+     * Reads a ZigZag-encoded signed variable-length long.
+     * @return The decoded long.
+     * @throws IOException If the encoding is malformed or the stream ends.
+     */
+    long readSignedVarLong() throws IOException;
+
+    /**
+     * Replaces the source of this stream. The position and the mark are reset.
+     * @param buffer Byte array to read.
+     */
+    void wrap(final byte[] buffer) throws IllegalArgumentException;
+
+    /**
+     * Replaces the source of this stream with a region of the byte array.
+     * The position and the mark are reset.
+     */
+    void wrap(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException;
+
+    /**
+     * Replaces the source of this stream with the remaining bytes of the byte buffer
+     * (from its position to its limit). The position of the byte buffer is not modified.
+     */
+    void wrap(final ByteBuffer byteBuffer) throws IllegalArgumentException;
+
+    /**
+     * Replaces the source of this stream with the data of the memory output stream.
+     * The data is not copied, so the output stream must not be modified or closed
+     * while it is being read.
+     */
+    void wrap(final MemoryOutputStream outputStream) throws IllegalArgumentException, IOException;
+
+    InputStream asInputStream();
+
+    static MemoryInputStream create() {
+        return new MemoryInputStreamImpl();
+    }
+
+    static MemoryInputStream create(final byte[] buffer) {
+        final var inputStream = new MemoryInputStreamImpl();
+        inputStream.wrap(buffer);
+
+        return inputStream;
+    }
+
+    static MemoryInputStream create(final byte[] buffer, final int offset, final int length) {
+        final var inputStream = new MemoryInputStreamImpl();
+        inputStream.wrap(buffer, offset, length);
+
+        return inputStream;
+    }
+
+    static MemoryInputStream create(final ByteBuffer byteBuffer) {
+        final var inputStream = new MemoryInputStreamImpl();
+        inputStream.wrap(byteBuffer);
+
+        return inputStream;
+    }
+
+    static MemoryInputStream create(final MemoryOutputStream outputStream) throws IOException {
+        final var inputStream = new MemoryInputStreamImpl();
+        inputStream.wrap(outputStream);
+
+        return inputStream;
+    }
+}
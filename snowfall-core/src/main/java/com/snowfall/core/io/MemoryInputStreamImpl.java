@@ -0,0 +1,392 @@
+package com.snowfall.core.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+class MemoryInputStreamImpl extends InputStream implements MemoryInputStream {
+
+    private boolean closed = false;
+    // NOTE: EITHER THE ARRAY OR THE BYTE BUFFER IS SET.
+    // ARRAYS ARE READ DIRECTLY SO THAT WRAPPING THEM DOES NOT ALLOCATE...
+    private byte[] array;
+    private ByteBuffer byteBuffer;
+    private boolean byteBufferBigEndian;
+    private int startIndex = 0;
+    private int endIndex = 0;
+    private int currentIndex = 0;
+    private int markedIndex = 0;
+
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+    private static final VarHandle shortHandle = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle intHandle = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle longHandle = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    MemoryInputStreamImpl() {
+        setSource(EMPTY_ARRAY, null, 0, 0);
+    }
+
+    private MemoryInputStreamImpl(final byte[] array, final ByteBuffer byteBuffer, final int startIndex, final int endIndex) {
+        setSource(array, byteBuffer, startIndex, endIndex);
+    }
+
+    private void setSource(final byte[] array, final ByteBuffer byteBuffer, final int startIndex, final int endIndex) {
+        this.array = array;
+        this.byteBuffer = byteBuffer;
+        byteBufferBigEndian = byteBuffer == null || byteBuffer.order() == ByteOrder.BIG_ENDIAN;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        currentIndex = startIndex;
+        markedIndex = startIndex;
+        closed = false;
+    }
+
+    private void throwExceptionIfClosed() throws IOException {
+        if (!closed) { return; }
+
+        throw new IOException("Stream is closed.");
+    }
+
+    /**
+     * Makes sure that the given number of bytes can be read.
+     * @return The index of the first byte to read.
+     */
+    private int require(final int length) throws IOException {
+        throwExceptionIfClosed();
+
+        final var index = currentIndex;
+
+        // if not enough bytes are remaining, we shall throw exception...
+        if (endIndex - index < length) { throw new EOFException("Unexpected end of stream."); }
+
+        currentIndex = index + length;
+
+        return index;
+    }
+
+    private byte getByte(final int index) {
+        return array == null ? byteBuffer.get(index) : array[index];
+    }
+
+    @Override
+    public int read() throws IOException {
+        throwExceptionIfClosed();
+
+        // if the end of the stream is reached, we shall return -1...
+        if (currentIndex == endIndex) { return -1; }
+
+        return getByte(currentIndex++) & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] buffer) throws IllegalArgumentException, IOException {
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+
+        return read(buffer, 0, buffer.length);
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the buffer length,
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+
+        // if length is zero (0), we shall not proceed any further...
+        if (length == 0) { return 0; }
+        // if the end of the stream is reached, we shall return -1...
+        if (currentIndex == endIndex) { return -1; }
+
+        final var readLength = Math.min(length, endIndex - currentIndex);
+
+        if (array == null) {
+            byteBuffer.get(currentIndex, buffer, offset, readLength);
+        } else {
+            System.arraycopy(array, currentIndex, buffer, offset, readLength);
+        }
+
+        currentIndex += readLength;
+
+        return readLength;
+    }
+
+    @Override
+    public void readFully(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException, IOException {
+        // if offset or length is invalid, we shall throw exception...
+        if (buffer == null || offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Invalid buffer, offset or length provided.");
+        }
+
+        final var index = require(length);
+
+        if (array == null) {
+            byteBuffer.get(index, buffer, offset, length);
+        } else {
+            System.arraycopy(array, index, buffer, offset, length);
+        }
+    }
+
+    @Override
+    public long skip(final long length) throws IOException {
+        throwExceptionIfClosed();
+
+        // if length is not positive, we shall not skip anything...
+        if (length <= 0L) { return 0L; }
+
+        final var skippedLength = (int) Math.min(length, endIndex - currentIndex);
+
+        currentIndex += skippedLength;
+
+        return skippedLength;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return remaining();
+    }
+
+    @Override
+    public void mark(final int readLimit) {
+        // NOTE: READ LIMIT IS IGNORED BECAUSE ALL THE DATA IS IN MEMORY...
+        markedIndex = currentIndex;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throwExceptionIfClosed();
+
+        currentIndex = markedIndex;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public int position() throws IOException {
+        throwExceptionIfClosed();
+
+        return currentIndex - startIndex;
+    }
+
+    @Override
+    public void position(final int position) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if the position is out of range, we shall throw exception...
+        if (position < 0 || position > endIndex - startIndex) {
+            throw new IllegalArgumentException("Invalid position provided.");
+        }
+
+        currentIndex = startIndex + position;
+    }
+
+    @Override
+    public int length() throws IOException {
+        throwExceptionIfClosed();
+
+        return endIndex - startIndex;
+    }
+
+    @Override
+    public int remaining() throws IOException {
+        throwExceptionIfClosed();
+
+        return endIndex - currentIndex;
+    }
+
+    @Override
+    public MemoryInputStream slice(final int offset, final int length) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if the region is out of range, we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > endIndex - startIndex) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+
+        return new MemoryInputStreamImpl(array, byteBuffer, startIndex + offset, startIndex + offset + length);
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return getByte(require(Byte.BYTES));
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        final var index = require(Short.BYTES);
+
+        if (array != null) { return (short) shortHandle.get(array, index); }
+
+        final var value = byteBuffer.getShort(index);
+
+        return byteBufferBigEndian ? value : Short.reverseBytes(value);
+    }
+
+    @Override
+    public short readShortLittleEndian() throws IOException {
+        return Short.reverseBytes(readShort());
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        final var index = require(Integer.BYTES);
+
+        if (array != null) { return (int) intHandle.get(array, index); }
+
+        final var value = byteBuffer.getInt(index);
+
+        return byteBufferBigEndian ? value : Integer.reverseBytes(value);
+    }
+
+    @Override
+    public int readIntLittleEndian() throws IOException {
+        return Integer.reverseBytes(readInt());
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        final var index = require(Long.BYTES);
+
+        if (array != null) { return (long) longHandle.get(array, index); }
+
+        final var value = byteBuffer.getLong(index);
+
+        return byteBufferBigEndian ? value : Long.reverseBytes(value);
+    }
+
+    @Override
+    public long readLongLittleEndian() throws IOException {
+        return Long.reverseBytes(readLong());
+    }
+
+    @Override
+    public int readVarInt() throws IOException {
+        var value = 0;
+
+        // every byte carries seven (7) bits and the highest bit tells if more bytes follow...
+        for (var shift = 0; shift < 35; shift += 7) {
+            final var byteValue = readByte();
+
+            value |= (byteValue & 0x7F) << shift;
+
+            if (byteValue >= 0) { return value; }
+        }
+
+        throw new IOException("Malformed variable-length integer.");
+    }
+
+    @Override
+    public long readVarLong() throws IOException {
+        var value = 0L;
+
+        for (var shift = 0; shift < 70; shift += 7) {
+            final var byteValue = readByte();
+
+            value |= (long) (byteValue & 0x7F) << shift;
+
+            if (byteValue >= 0) { return value; }
+        }
+
+        throw new IOException("Malformed variable-length long.");
+    }
+
+    @Override
+    public int readSignedVarInt() throws IOException {
+        final var value = readVarInt();
+
+        // decodes ZigZag encoding...
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Override
+    public long readSignedVarLong() throws IOException {
+        final var value = readVarLong();
+
+        // decodes ZigZag encoding...
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    @Override
+    public void wrap(final byte[] buffer) throws IllegalArgumentException {
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+
+        setSource(buffer, null, 0, buffer.length);
+    }
+
+    @Override
+    public void wrap(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException {
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the buffer length,
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+
+        setSource(buffer, null, offset, offset + length);
+    }
+
+    @Override
+    public void wrap(final ByteBuffer byteBuffer) throws IllegalArgumentException {
+        // if byte buffer is null, we shall throw exception...
+        if (byteBuffer == null) { throw new IllegalArgumentException("Provided byte buffer is null."); }
+
+        // if the byte buffer is backed by an accessible array, we shall read the array directly...
+        if (byteBuffer.hasArray()) {
+            final var arrayOffset = byteBuffer.arrayOffset();
+
+            setSource(byteBuffer.array(), null,
+                    arrayOffset + byteBuffer.position(), arrayOffset + byteBuffer.limit());
+
+            return;
+        }
+
+        setSource(null, byteBuffer, byteBuffer.position(), byteBuffer.limit());
+    }
+
+    @Override
+    public void wrap(final MemoryOutputStream outputStream) throws IllegalArgumentException, IOException {
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+
+        // the heap implementation exposes its internal buffer directly...
+        if (outputStream instanceof MemoryOutputStreamImpl) {
+            wrap(outputStream.getInternalBuffer(), 0, outputStream.length());
+
+            return;
+        }
+
+        // otherwise, we shall read through the byte buffer view...
+        wrap(outputStream.asByteBuffer());
+    }
+
+    @Override
+    public InputStream asInputStream() { return this; }
+
+    @Override
+    public void close() {
+        // releases the reference to the source...
+        setSource(EMPTY_ARRAY, null, 0, 0);
+        closed = true;
+    }
+}
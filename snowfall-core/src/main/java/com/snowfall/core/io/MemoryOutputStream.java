@@ -4,18 +4,29 @@ import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
 /**
  * MemoryOutputStream is a dynamically growing in-memory OutputStream
  * implementation that supports writing primitive bytes, byte arrays,
  * strings (with charset), and outputting to other streams or buffers.
+ * Fixed-width integers (big-endian and little-endian), variable-length
+ * integers and UTF-8 strings can be written directly into the stream,
+ * which mirrors the readers of {@link MemoryInputStream}.
  *
  * <p>
  * This interface provides an abstraction for working with memory-backed
  * output streams without exposing the internal buffer for modification.
  * </p>
  *
+ * <p>
+ * Buffers are rented from a {@link BufferPool} and returned to the pool when
+ * the stream grows or is closed. Therefore, the stream should always be closed
+ * and the internal buffer must not be used after closing the stream.
+ * </p>
+ *
  * <p><strong>Note:</strong> Implementations are not thread-safe unless otherwise specified.</p>
  *
  * @author Md. Shahadul Alam Patwary
@@ -33,6 +44,26 @@ public interface MemoryOutputStream extends Flushable, Closeable {
     void write(final String text) throws IllegalArgumentException, IOException;
     void writeTo(final OutputStream outputStream) throws IllegalArgumentException, IOException;
     void writeTo(final OutputStream outputStream, final int offset, final int length) throws IllegalArgumentException, IOException;
+
+    /**
+     * Writes all the data to the channel. If the stream is backed by
+     * off-heap memory, the data is handed to the channel without
+     * being copied into a temporary direct buffer.
+     * Note: The channel must be in blocking mode.
+     * @param channel Channel to write the data to.
+     * @throws IllegalArgumentException If the channel is null.
+     * @throws IOException If the stream is closed or the write fails.
+     */
+    void writeTo(final WritableByteChannel channel) throws IllegalArgumentException, IOException;
+
+    /**
+     * Gets a read-only byte buffer view of the data. The position of the
+     * buffer is zero (0) and the limit is the length of the stream.
+     * Note: The buffer must not be used after the stream is modified or closed.
+     * @return A read-only byte buffer.
+     * @throws IOException If the stream is closed.
+     */
+    ByteBuffer asByteBuffer() throws IOException;
     int length() throws IOException;
     int capacity() throws IOException;
     void clear() throws IOException;
@@ -42,7 +73,9 @@ public interface MemoryOutputStream extends Flushable, Closeable {
     /**
      * Gets the internal buffer.
      * Note: The returned byte array may be larger than the data written and
-     * should be treated as read-only. Do not modify the contents.
+     * should be treated as read-only. Do not modify the contents. The buffer
+     * is returned to the pool when the stream grows or is closed, so it must
+     * not be retained.
      * @return The internal buffer.
      * @throws IOException If exception occurs while getting the internal buffer.
      */
@@ -68,6 +101,124 @@ public interface MemoryOutputStream extends Flushable, Closeable {
         writeTo(outputStream.asOutputStream(), offset, length);
     }
 
+    default void writeShort(final short value) throws IOException {
+        write((byte) (value >>> 8));
+        write((byte) value);
+    }
+
+    default void writeShortLittleEndian(final short value) throws IOException {
+        writeShort(Short.reverseBytes(value));
+    }
+
+    default void writeInt(final int value) throws IOException {
+        for (var shift = 24; shift >= 0; shift -= 8) { write((byte) (value >>> shift)); }
+    }
+
+    default void writeIntLittleEndian(final int value) throws IOException {
+        writeInt(Integer.reverseBytes(value));
+    }
+
+    default void writeLong(final long value) throws IOException {
+        for (var shift = 56; shift >= 0; shift -= 8) { write((byte) (value >>> shift)); }
+    }
+
+    default void writeLongLittleEndian(final long value) throws IOException {
+        writeLong(Long.reverseBytes(value));
+    }
+
+    /**
+     * Writes an unsigned variable-length (LEB128) integer of one (1) to five (5) bytes.
+     * Negative values always take five (5) bytes, so {@link #writeSignedVarInt(int)}
+     * should be preferred for them.
+     * @param value Integer to write.
+     * @throws IOException If the stream is closed.
+     */
+    default void writeVarInt(final int value) throws IOException {
+        var remainingValue = value;
+
+        // every byte carries seven (7) bits and the highest bit tells if more bytes follow...
+        while ((remainingValue & ~0x7F) != 0) {
+            write((byte) ((remainingValue & 0x7F) | 0x80));
+            remainingValue >>>= 7;
+        }
+
+        write((byte) remainingValue);
+    }
+
+    /**
+     * Writes an unsigned variable-length (LEB128) long of one (1) to ten (10) bytes.
+     * @param value Long to write.
+     * @throws IOException If the stream is closed.
+     */
+    default void writeVarLong(final long value) throws IOException {
+        var remainingValue = value;
+
+        while ((remainingValue & ~0x7FL) != 0L) {
+            write((byte) ((remainingValue & 0x7F) | 0x80));
+            remainingValue >>>= 7;
+        }
+
+        write((byte) remainingValue);
+    }
+
+    /**
+     * Writes a signed integer using ZigZag encoding so that
+     * small negative values also take few bytes.
+     * @param value Integer to write.
+     * @throws IOException If the stream is closed.
+     */
+    default void writeSignedVarInt(final int value) throws IOException {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes a signed long using ZigZag encoding so that
+     * small negative values also take few bytes.
+     * @param value Long to write.
+     * @throws IOException If the stream is closed.
+     */
+    default void writeSignedVarLong(final long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the characters encoded as UTF-8 without creating an intermediate byte array.
+     * Unpaired surrogates are written as '?'.
+     * @param text Characters to write.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the text is null.
+     * @throws IOException If the stream is closed.
+     */
+    default int writeUtf8(final CharSequence text) throws IllegalArgumentException, IOException {
+        // if text is null, we shall throw exception...
+        if (text == null) { throw new IllegalArgumentException("Provided text is null."); }
+
+        return Utf8Codec.encodeTo(text, this);
+    }
+
+    /**
+     * Writes the UTF-8 byte length of the characters as an unsigned
+     * variable-length integer, followed by the encoded characters.
+     * Such strings can be read back without a terminator.
+     * @param text Characters to write.
+     * @return The number of bytes written (including the length prefix).
+     * @throws IllegalArgumentException If the text is null.
+     * @throws IOException If the stream is closed.
+     */
+    default int writeLengthPrefixedUtf8(final CharSequence text) throws IllegalArgumentException, IOException {
+        // if text is null, we shall throw exception...
+        if (text == null) { throw new IllegalArgumentException("Provided text is null."); }
+
+        final var encodedLength = Utf8Codec.getEncodedLength(text, 0);
+        final var lengthBeforePrefix = length();
+
+        writeVarInt(encodedLength);
+
+        final var prefixLength = length() - lengthBeforePrefix;
+
+        return prefixLength + writeUtf8(text);
+    }
+
     static MemoryOutputStream create() {
         return new MemoryOutputStreamImpl();
     }
@@ -75,4 +226,8 @@ public interface MemoryOutputStream extends Flushable, Closeable {
     static MemoryOutputStream create(final int initialCapacity) {
         return new MemoryOutputStreamImpl(initialCapacity);
     }
+
+    static MemoryOutputStream create(final int initialCapacity, final BufferPool bufferPool) {
+        return new MemoryOutputStreamImpl(initialCapacity, bufferPool);
+    }
 }
@@ -2,12 +2,18 @@ package com.snowfall.core.io;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream {
 
     private boolean closed = false;
+    private final BufferPool bufferPool;
     private byte[] buffer;
     private int currentPosition = 0;
     private int currentCapacity;
@@ -15,18 +21,30 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
 
     private static final int DEFAULT_INITIAL_CAPACITY = 64;
     private static final String EMPTY_STRING = "";
+    private static final VarHandle shortHandle = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle intHandle = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle longHandle = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
 
     MemoryOutputStreamImpl() {
         this(DEFAULT_INITIAL_CAPACITY);
     }
 
     MemoryOutputStreamImpl(final int initialCapacity) {
+        this(initialCapacity, BufferPool.getInstance());
+    }
+
+    MemoryOutputStreamImpl(final int initialCapacity, final BufferPool bufferPool) {
+        // if buffer pool is null, we shall throw exception...
+        if (bufferPool == null) { throw new IllegalArgumentException("Provided buffer pool is null."); }
+
+        this.bufferPool = bufferPool;
         this.initialCapacity = initialCapacity < 1
                 ? DEFAULT_INITIAL_CAPACITY
                 : initialCapacity;
-        // initializing the buffer...
-        buffer = new byte[this.initialCapacity];
-        currentCapacity = this.initialCapacity;
+        // renting the buffer from the pool...
+        // NOTE: THE RENTED BUFFER MAY BE LARGER THAN THE INITIAL CAPACITY...
+        buffer = bufferPool.rent(this.initialCapacity);
+        currentCapacity = buffer.length;
     }
 
     protected boolean isClosed() { return closed; }
@@ -35,6 +53,8 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
         this.closed = closed;
     }
 
+    protected BufferPool getBufferPool() { return bufferPool; }
+
     protected byte[] getBuffer() { return buffer; }
 
     protected void setBuffer(final byte[] buffer) {
@@ -66,12 +86,13 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
 
         final var currentBuffer = getBuffer();
         final var currentPosition = getCurrentPosition();
-        final var newCapacity = Math.max(currentCapacity * 2, minimumCapacity);
-        final var newBuffer = new byte[newCapacity];
+        final var newBuffer = getBufferPool().rent(Math.max(currentCapacity * 2, minimumCapacity));
 
         System.arraycopy(currentBuffer, 0, newBuffer, 0, currentPosition);
         setBuffer(newBuffer);
-        setCurrentCapacity(newCapacity);
+        setCurrentCapacity(newBuffer.length);
+        // the previous buffer is no longer needed, so we shall return it to the pool...
+        getBufferPool().release(currentBuffer);
     }
 
     @Override
@@ -155,6 +176,12 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
 
         // if text is null or empty, we shall not proceed any further...
         if (text == null || text.isEmpty()) { return; }
+        // if the charset is UTF-8, we shall encode directly into the global buffer...
+        if (charset == StandardCharsets.UTF_8) {
+            writeUtf8(text);
+
+            return;
+        }
 
         final var buffer = text.getBytes(charset);
 
@@ -166,6 +193,112 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
         write(text, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Makes sure that the given number of bytes can be written.
+     * @return The position to write the first byte at.
+     */
+    private int reserve(final int length) throws IOException {
+        throwExceptionIfClosed();
+
+        final var currentPosition = getCurrentPosition();
+
+        ensureCapacity(currentPosition + length);
+
+        return currentPosition;
+    }
+
+    @Override
+    public void writeShort(final short value) throws IOException {
+        final var position = reserve(Short.BYTES);
+
+        shortHandle.set(getBuffer(), position, value);
+        setCurrentPosition(position + Short.BYTES);
+    }
+
+    @Override
+    public void writeInt(final int value) throws IOException {
+        final var position = reserve(Integer.BYTES);
+
+        intHandle.set(getBuffer(), position, value);
+        setCurrentPosition(position + Integer.BYTES);
+    }
+
+    @Override
+    public void writeLong(final long value) throws IOException {
+        final var position = reserve(Long.BYTES);
+
+        longHandle.set(getBuffer(), position, value);
+        setCurrentPosition(position + Long.BYTES);
+    }
+
+    @Override
+    public void writeVarInt(final int value) throws IOException {
+        // NOTE: AN INTEGER TAKES AT MOST FIVE (5) BYTES...
+        var position = reserve(5);
+        var remainingValue = value;
+        final var globalBuffer = getBuffer();
+
+        while ((remainingValue & ~0x7F) != 0) {
+            globalBuffer[position++] = (byte) ((remainingValue & 0x7F) | 0x80);
+            remainingValue >>>= 7;
+        }
+
+        globalBuffer[position++] = (byte) remainingValue;
+        setCurrentPosition(position);
+    }
+
+    @Override
+    public void writeVarLong(final long value) throws IOException {
+        // NOTE: A LONG TAKES AT MOST TEN (10) BYTES...
+        var position = reserve(10);
+        var remainingValue = value;
+        final var globalBuffer = getBuffer();
+
+        while ((remainingValue & ~0x7FL) != 0L) {
+            globalBuffer[position++] = (byte) ((remainingValue & 0x7F) | 0x80);
+            remainingValue >>>= 7;
+        }
+
+        globalBuffer[position++] = (byte) remainingValue;
+        setCurrentPosition(position);
+    }
+
+    @Override
+    public int writeUtf8(final CharSequence text) throws IllegalArgumentException, IOException {
+        // if text is null, we shall throw exception...
+        if (text == null) { throw new IllegalArgumentException("Provided text is null."); }
+
+        final var length = text.length();
+        // NOTE: ASSUMING THAT ALL THE CHARACTERS ARE ASCII (WHICH IS THE MOST COMMON CASE)...
+        final var startPosition = reserve(length);
+        final var globalBuffer = getBuffer();
+        var position = startPosition;
+
+        for (var i = 0; i < length; ++i) {
+            final var character = text.charAt(i);
+
+            if (character < 0x80) {
+                globalBuffer[position++] = (byte) character;
+
+                continue;
+            }
+
+            // if a non-ASCII character is found, we shall compute the exact
+            // length of the remaining characters and encode them...
+            setCurrentPosition(position);
+            ensureCapacity(position + Utf8Codec.getEncodedLength(text, i));
+
+            // NOTE: THE GLOBAL BUFFER MUST BE RETRIEVED AGAIN AFTER CALLING ensureCapacity() METHOD...!!!
+            position = Utf8Codec.encode(text, i, getBuffer(), position);
+
+            break;
+        }
+
+        setCurrentPosition(position);
+
+        return position - startPosition;
+    }
+
     @Override
     public void writeTo(final OutputStream outputStream) throws IllegalArgumentException, IOException {
         final var currentPosition = getCurrentPosition();
@@ -197,6 +330,26 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
         outputStream.write(buffer, offset, length);
     }
 
+    @Override
+    public void writeTo(final WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if channel is null, we shall throw exception...
+        if (channel == null) { throw new IllegalArgumentException("Provided channel is null."); }
+
+        final var byteBuffer = ByteBuffer.wrap(getBuffer(), 0, getCurrentPosition());
+
+        // NOTE: A CHANNEL MAY NOT WRITE ALL THE BYTES AT ONCE...
+        while (byteBuffer.hasRemaining()) { channel.write(byteBuffer); }
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() throws IOException {
+        throwExceptionIfClosed();
+
+        return ByteBuffer.wrap(getBuffer(), 0, getCurrentPosition()).slice().asReadOnlyBuffer();
+    }
+
     @Override
     public int length() throws IOException {
         throwExceptionIfClosed();
@@ -235,6 +388,8 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
 
         setBuffer(trimmedBuffer);
         setCurrentCapacity(currentPosition);
+        // NOTE: THE TRIMMED BUFFER IS NOT POOLED BUT THE PREVIOUS ONE CAN BE REUSED...
+        getBufferPool().release(currentBuffer);
     }
 
     @Override
@@ -249,10 +404,14 @@ class MemoryOutputStreamImpl extends OutputStream implements MemoryOutputStream
 
         initialCapacity = 0;
 
+        final var currentBuffer = getBuffer();
+
         clear();
         setCurrentCapacity(0);
         setBuffer(null);            // <-- NOTE: ALWAYS NULLIFY THE BUFFER AFTER ALL THE OTHER METHOD CALLS AS THEY MIGHT INTERNALLY USE THE BUFFER...!!!
         setClosed(true);
+        // returns the buffer to the pool so that the next stream can reuse it...
+        getBufferPool().release(currentBuffer);
     }
 
     @Override
@@ -0,0 +1,21 @@
+package com.snowfall.core.io;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Handles a record (e.g. a line) that resides within a memory segment.
+ * The record is not copied to the heap. If the record must be retained,
+ * it shall be copied (e.g. using {@link MemorySegment#toArray}).
+ */
+public interface RecordHandler {
+
+    /**
+     * Handles the record.
+     * @param segment Segment that contains the record.
+     * @param offset Offset of the record within the segment.
+     * @param length Length of the record in bytes (excluding the delimiter).
+     * @return True to continue with the next record. False to stop.
+     * @throws Exception If the record cannot be handled.
+     */
+    boolean handle(final MemorySegment segment, final long offset, final long length) throws Exception;
+}
@@ -0,0 +1,64 @@
+package com.snowfall.core.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * SegmentedMemoryOutputStream is a {@link MemoryOutputStream} that stores
+ * the data in a list of fixed-size segments instead of a single contiguous
+ * array. Growing the stream appends a new segment, so the written data is
+ * never copied and no more than one partially filled segment is wasted.
+ *
+ * <p>
+ * The segments can be exposed as an array of byte buffers so that the
+ * data can be written to a channel with a single gathering write.
+ * </p>
+ *
+ * <p><strong>Note:</strong> Implementations are not thread-safe unless otherwise specified.</p>
+ */
+public interface SegmentedMemoryOutputStream extends MemoryOutputStream {
+
+    /**
+     * Gets the size of every segment.
+     * @return The segment size in bytes.
+     * @throws IOException If the stream is closed.
+     */
+    int getSegmentSize() throws IOException;
+
+    /**
+     * Gets the number of segments that contain data.
+     * @return The number of segments in use.
+     * @throws IOException If the stream is closed.
+     */
+    int getSegmentCount() throws IOException;
+
+    /**
+     * Gets read-only views of the segments that contain data. The position of
+     * every buffer is zero (0) and the limit is the number of bytes written to
+     * the segment. The buffers must not be used after the stream is modified or closed.
+     * @return The segments as byte buffers.
+     * @throws IOException If the stream is closed.
+     */
+    ByteBuffer[] asByteBuffers() throws IOException;
+
+    /**
+     * Writes all the data to the channel using gathering writes.
+     * @param channel Channel to write the data to.
+     * @throws IllegalArgumentException If the channel is null.
+     * @throws IOException If the stream is closed or the write fails.
+     */
+    void writeTo(final GatheringByteChannel channel) throws IllegalArgumentException, IOException;
+
+    static SegmentedMemoryOutputStream create() {
+        return new SegmentedMemoryOutputStreamImpl();
+    }
+
+    static SegmentedMemoryOutputStream create(final int segmentSize) {
+        return new SegmentedMemoryOutputStreamImpl(segmentSize);
+    }
+
+    static SegmentedMemoryOutputStream create(final int segmentSize, final BufferPool bufferPool) {
+        return new SegmentedMemoryOutputStreamImpl(segmentSize, bufferPool);
+    }
+}
@@ -0,0 +1,402 @@
+package com.snowfall.core.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+class SegmentedMemoryOutputStreamImpl extends OutputStream implements SegmentedMemoryOutputStream {
+
+    private boolean closed = false;
+    private final BufferPool bufferPool;
+    private final int segmentSize;
+    // NOTE: SEGMENT SIZE IS A POWER OF TWO, SO POSITIONS ARE SPLIT USING SHIFT AND MASK...
+    private final int segmentShift;
+    private final int segmentMask;
+    private byte[][] segments = new byte[INITIAL_SEGMENT_ARRAY_LENGTH][];
+    private int allocatedSegmentCount = 0;
+    private int currentPosition = 0;
+
+    private static final int DEFAULT_SEGMENT_SIZE = 8 * 1024;
+    private static final int MINIMUM_SEGMENT_SIZE = 64;
+    private static final int INITIAL_SEGMENT_ARRAY_LENGTH = 8;
+    private static final String EMPTY_STRING = "";
+    private static final ByteBuffer[] EMPTY_BYTE_BUFFERS = new ByteBuffer[0];
+
+    SegmentedMemoryOutputStreamImpl() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    SegmentedMemoryOutputStreamImpl(final int segmentSize) {
+        this(segmentSize, BufferPool.getInstance());
+    }
+
+    SegmentedMemoryOutputStreamImpl(final int segmentSize, final BufferPool bufferPool) {
+        // if buffer pool is null, we shall throw exception...
+        if (bufferPool == null) { throw new IllegalArgumentException("Provided buffer pool is null."); }
+
+        // segment size is rounded up to the next power of two so that
+        // every segment fits exactly in a size class of the buffer pool...
+        final var clampedSegmentSize = Math.min(
+                Math.max(segmentSize < 1 ? DEFAULT_SEGMENT_SIZE : segmentSize, MINIMUM_SEGMENT_SIZE),
+                bufferPool.getMaximumPooledBufferLength());
+
+        this.bufferPool = bufferPool;
+        this.segmentSize = Integer.bitCount(clampedSegmentSize) == 1
+                ? clampedSegmentSize
+                : Integer.highestOneBit(clampedSegmentSize) << 1;
+        segmentShift = Integer.numberOfTrailingZeros(this.segmentSize);
+        segmentMask = this.segmentSize - 1;
+    }
+
+    private void throwExceptionIfClosed() throws IOException {
+        if (!closed) { return; }
+
+        throw new IOException("Stream is closed.");
+    }
+
+    /**
+     * Makes sure that the segment at the given index is allocated.
+     */
+    private byte[] ensureSegment(final int segmentIndex) {
+        // if the segment is already allocated, we shall return it...
+        if (segmentIndex < allocatedSegmentCount) { return segments[segmentIndex]; }
+
+        // if the segment array is full, we shall grow it.
+        // NOTE: ONLY THE REFERENCES ARE COPIED, NOT THE DATA...
+        if (allocatedSegmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length << 1);
+        }
+
+        final var segment = bufferPool.rent(segmentSize);
+
+        segments[allocatedSegmentCount++] = segment;
+
+        return segment;
+    }
+
+    /**
+     * Returns the segments starting from the given index to the pool.
+     */
+    private void releaseSegments(final int fromSegmentIndex) {
+        for (var i = fromSegmentIndex; i < allocatedSegmentCount; ++i) {
+            bufferPool.release(segments[i]);
+            segments[i] = null;
+        }
+
+        allocatedSegmentCount = Math.min(allocatedSegmentCount, fromSegmentIndex);
+    }
+
+    private int getUsedSegmentCount() {
+        return (int) (((long) currentPosition + segmentMask) >>> segmentShift);
+    }
+
+    @Override
+    public int getInitialCapacity() throws IOException {
+        throwExceptionIfClosed();
+
+        return segmentSize;
+    }
+
+    @Override
+    public int getSegmentSize() throws IOException {
+        throwExceptionIfClosed();
+
+        return segmentSize;
+    }
+
+    @Override
+    public int getSegmentCount() throws IOException {
+        throwExceptionIfClosed();
+
+        return getUsedSegmentCount();
+    }
+
+    @Override
+    public void write(final byte byteValue) throws IOException {
+        throwExceptionIfClosed();
+
+        // NOTE: INTEGER OVERFLOW MEANS THE STREAM HAS REACHED ITS MAXIMUM LENGTH...
+        if (currentPosition == Integer.MAX_VALUE) { throw new IOException("Stream has reached its maximum length."); }
+
+        final var segment = ensureSegment(currentPosition >>> segmentShift);
+
+        segment[currentPosition & segmentMask] = byteValue;
+        ++currentPosition;
+    }
+
+    @Override
+    public void write(final int byteValue) throws IOException {
+        write((byte) byteValue);
+    }
+
+    @Override
+    public void write(final byte[] buffer) throws IllegalArgumentException, IOException {
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+
+        write(buffer, 0, buffer.length);
+    }
+
+    @Override
+    public void write(final byte[] buffer, final int offset, final int length) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if buffer is null, we shall throw exception...
+        if (buffer == null) { throw new IllegalArgumentException("Provided buffer is null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the buffer length,
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+        // if the stream would exceed its maximum length, we shall throw exception...
+        if (length > Integer.MAX_VALUE - currentPosition) { throw new IOException("Stream has reached its maximum length."); }
+
+        var sourceOffset = offset;
+        var remainingLength = length;
+
+        // copies the data segment by segment...
+        while (remainingLength > 0) {
+            final var segment = ensureSegment(currentPosition >>> segmentShift);
+            final var segmentOffset = currentPosition & segmentMask;
+            final var copyLength = Math.min(segmentSize - segmentOffset, remainingLength);
+
+            System.arraycopy(buffer, sourceOffset, segment, segmentOffset, copyLength);
+
+            sourceOffset += copyLength;
+            remainingLength -= copyLength;
+            currentPosition += copyLength;
+        }
+    }
+
+    @Override
+    public void write(final String text, final Charset charset) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if text is null or empty, we shall not proceed any further...
+        if (text == null || text.isEmpty()) { return; }
+        // if the charset is UTF-8, we shall encode without allocating an intermediate array...
+        if (charset == StandardCharsets.UTF_8) {
+            writeUtf8(text);
+
+            return;
+        }
+
+        write(text.getBytes(charset));
+    }
+
+    @Override
+    public void write(final String text) throws IllegalArgumentException, IOException {
+        write(text, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IllegalArgumentException, IOException {
+        writeTo(outputStream, 0, currentPosition);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream, final int offset, final int length) throws IllegalArgumentException, IOException {
+        throwExceptionIfClosed();
+
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the current position (which is actually the length),
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset + length > currentPosition) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+
+        var position = offset;
+        var remainingLength = length;
+
+        // writes the data segment by segment...
+        while (remainingLength > 0) {
+            final var segmentOffset = position & segmentMask;
+            final var writeLength = Math.min(segmentSize - segmentOffset, remainingLength);
+
+            outputStream.write(segments[position >>> segmentShift], segmentOffset, writeLength);
+
+            position += writeLength;
+            remainingLength -= writeLength;
+        }
+    }
+
+    @Override
+    public void writeTo(final GatheringByteChannel channel) throws IllegalArgumentException, IOException {
+        // if channel is null, we shall throw exception...
+        if (channel == null) { throw new IllegalArgumentException("Provided channel is null."); }
+
+        final var byteBuffers = asByteBuffers();
+        var remainingLength = (long) currentPosition;
+
+        // NOTE: A GATHERING WRITE MAY NOT WRITE ALL THE BYTES AT ONCE...
+        while (remainingLength > 0L) {
+            remainingLength -= channel.write(byteBuffers);
+        }
+    }
+
+    @Override
+    public void writeTo(final WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        // if the channel supports gathering writes, we shall use them...
+        if (channel instanceof GatheringByteChannel gatheringByteChannel) {
+            writeTo(gatheringByteChannel);
+
+            return;
+        }
+
+        // if channel is null, we shall throw exception...
+        if (channel == null) { throw new IllegalArgumentException("Provided channel is null."); }
+
+        // otherwise, we shall write the segments one by one...
+        for (final var byteBuffer : asByteBuffers()) {
+            while (byteBuffer.hasRemaining()) { channel.write(byteBuffer); }
+        }
+    }
+
+    /**
+     * Gets a read-only byte buffer view of the data.
+     * Note: If the data spans multiple segments, the segments are
+     * copied into a new buffer because no contiguous buffer exists.
+     */
+    @Override
+    public ByteBuffer asByteBuffer() throws IOException {
+        throwExceptionIfClosed();
+
+        // if the data fits in the first segment, we shall wrap the segment itself...
+        if (currentPosition <= segmentSize) {
+            return allocatedSegmentCount == 0
+                    ? ByteBuffer.allocate(0).asReadOnlyBuffer()
+                    : ByteBuffer.wrap(segments[0], 0, currentPosition).asReadOnlyBuffer();
+        }
+
+        return ByteBuffer.wrap(getBytes()).asReadOnlyBuffer();
+    }
+
+    @Override
+    public ByteBuffer[] asByteBuffers() throws IOException {
+        throwExceptionIfClosed();
+
+        final var usedSegmentCount = getUsedSegmentCount();
+
+        // if no data is written, we shall return an empty array...
+        if (usedSegmentCount == 0) { return EMPTY_BYTE_BUFFERS; }
+
+        final var byteBuffers = new ByteBuffer[usedSegmentCount];
+        final var lastSegmentLength = currentPosition - ((usedSegmentCount - 1) << segmentShift);
+
+        for (var i = 0; i < usedSegmentCount; ++i) {
+            final var length = i == usedSegmentCount - 1 ? lastSegmentLength : segmentSize;
+
+            byteBuffers[i] = ByteBuffer.wrap(segments[i], 0, length).asReadOnlyBuffer();
+        }
+
+        return byteBuffers;
+    }
+
+    @Override
+    public int length() throws IOException {
+        throwExceptionIfClosed();
+
+        return currentPosition;
+    }
+
+    @Override
+    public int capacity() throws IOException {
+        throwExceptionIfClosed();
+
+        return allocatedSegmentCount << segmentShift;
+    }
+
+    @Override
+    public void clear() throws IOException {
+        throwExceptionIfClosed();
+
+        currentPosition = 0;
+        // keeps the first segment for reuse and returns the rest to the pool...
+        releaseSegments(1);
+    }
+
+    @Override
+    public void trimToSize() throws IOException {
+        throwExceptionIfClosed();
+        // returns the segments that contain no data to the pool...
+        releaseSegments(getUsedSegmentCount());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        throwExceptionIfClosed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // if this instance is already closed, we shall do nothing...
+        if (closed) { return; }
+
+        currentPosition = 0;
+        releaseSegments(0);
+        closed = true;
+    }
+
+    @Override
+    public OutputStream asOutputStream() { return this; }
+
+    /**
+     * Gets the internal buffer.
+     * Note: If the data spans multiple segments, the segments are
+     * copied into a new array because no contiguous buffer exists.
+     */
+    @Override
+    public byte[] getInternalBuffer() throws IOException {
+        throwExceptionIfClosed();
+
+        // if the data fits in the first segment, we shall return the segment itself...
+        if (allocatedSegmentCount > 0 && currentPosition <= segmentSize) { return segments[0]; }
+
+        return getBytes();
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        throwExceptionIfClosed();
+
+        final var bytes = new byte[currentPosition];
+        var position = 0;
+
+        while (position < currentPosition) {
+            final var copyLength = Math.min(segmentSize, currentPosition - position);
+
+            System.arraycopy(segments[position >>> segmentShift], 0, bytes, position, copyLength);
+
+            position += copyLength;
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public String toString(final Charset charset) {
+        // if this instance is closed or empty, we shall return an empty string...
+        if (closed || currentPosition < 1) { return EMPTY_STRING; }
+        // if the data fits in the first segment, we shall decode it directly...
+        if (currentPosition <= segmentSize) { return new String(segments[0], 0, currentPosition, charset); }
+
+        try {
+            return new String(getBytes(), charset);
+        } catch (final IOException exception) {
+            return EMPTY_STRING;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+package com.snowfall.core.io;
+
+import java.io.IOException;
+
+/**
+ * Encodes characters as UTF-8 without intermediate arrays.
+ * Unpaired surrogates are encoded as '?' (same as {@link String#getBytes}).
+ */
+public final class Utf8Codec {
+
+    static final byte REPLACEMENT_BYTE = (byte) '?';
+    private static final int CHUNK_LENGTH = 512;
+    // NOTE: A CHARACTER IS ENCODED AS AT MOST THREE (3) BYTES
+    // (A SURROGATE PAIR TAKES FOUR (4) BYTES FOR TWO (2) CHARACTERS)...
+    private static final int CHUNK_BUFFER_LENGTH = CHUNK_LENGTH * 3;
+
+    private Utf8Codec() { }
+
+    /**
+     * Computes the number of bytes required to encode the characters as UTF-8.
+     * @param text Characters to encode.
+     * @param startIndex Index of the first character to encode.
+     * @return The number of bytes.
+     */
+    public static int getEncodedLength(final CharSequence text, final int startIndex) {
+        final var length = text.length();
+        var encodedLength = 0L;
+
+        for (var i = startIndex; i < length; ++i) {
+            final var character = text.charAt(i);
+
+            if (character < 0x80) {
+                ++encodedLength;
+            } else if (character < 0x800) {
+                encodedLength += 2;
+            } else if (Character.isHighSurrogate(character)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // a surrogate pair is encoded as four (4) bytes...
+                encodedLength += 4;
+                ++i;
+            } else if (Character.isSurrogate(character)) {
+                // unpaired surrogates are replaced...
+                ++encodedLength;
+            } else {
+                encodedLength += 3;
+            }
+        }
+
+        // if the encoded length exceeds the maximum array length, we shall throw exception...
+        if (encodedLength > Integer.MAX_VALUE) { throw new IllegalArgumentException("Text is too long to encode."); }
+
+        return (int) encodedLength;
+    }
+
+    /**
+     * Encodes the characters into the buffer. The buffer
+     * must have enough space (see {@link #getEncodedLength}).
+     * @param text Characters to encode.
+     * @param startIndex Index of the first character to encode.
+     * @param buffer Buffer to write the encoded bytes to.
+     * @param offset Offset of the buffer to start writing at.
+     * @return The offset next to the last written byte.
+     */
+    public static int encode(final CharSequence text, final int startIndex, final byte[] buffer, final int offset) {
+        return encode(text, startIndex, text.length(), buffer, offset);
+    }
+
+    /**
+     * Encodes the characters within the range into the buffer.
+     * @param text Characters to encode.
+     * @param startIndex Index of the first character to encode.
+     * @param endIndex Index next to the last character to encode.
+     * @param buffer Buffer to write the encoded bytes to.
+     * @param offset Offset of the buffer to start writing at.
+     * @return The offset next to the last written byte.
+     */
+    public static int encode(
+            final CharSequence text,
+            final int startIndex,
+            final int endIndex,
+            final byte[] buffer,
+            final int offset) {
+        final var length = endIndex;
+        var position = offset;
+
+        for (var i = startIndex; i < length; ++i) {
+            final var character = text.charAt(i);
+
+            if (character < 0x80) {
+                buffer[position++] = (byte) character;
+            } else if (character < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (character >>> 6));
+                buffer[position++] = (byte) (0x80 | (character & 0x3F));
+            } else if (Character.isHighSurrogate(character)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final var codePoint = Character.toCodePoint(character, text.charAt(++i));
+
+                buffer[position++] = (byte) (0xF0 | (codePoint >>> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(character)) {
+                buffer[position++] = REPLACEMENT_BYTE;
+            } else {
+                buffer[position++] = (byte) (0xE0 | (character >>> 12));
+                buffer[position++] = (byte) (0x80 | ((character >>> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Encodes the characters as UTF-8 and writes them to the stream in chunks
+     * using a pooled scratch buffer, so no array is allocated per call.
+     * @param text Characters to encode.
+     * @param outputStream Stream to write the encoded bytes to.
+     * @return The number of bytes written.
+     * @throws IOException If the write fails.
+     */
+    static int encodeTo(final CharSequence text, final MemoryOutputStream outputStream) throws IOException {
+        final var bufferPool = BufferPool.getInstance();
+        final var chunkBuffer = bufferPool.rent(CHUNK_BUFFER_LENGTH);
+        final var length = text.length();
+        var writtenLength = 0;
+
+        try {
+            for (var startIndex = 0; startIndex < length; ) {
+                var endIndex = Math.min(startIndex + CHUNK_LENGTH, length);
+
+                // a surrogate pair must not be split between the chunks...
+                if (endIndex < length && Character.isHighSurrogate(text.charAt(endIndex - 1))) { --endIndex; }
+                // NOTE: IF THE CHUNK CONTAINS ONLY A HIGH SURROGATE, IT IS ENCODED ALONE...
+                if (endIndex == startIndex) { endIndex = startIndex + 1; }
+
+                final var encodedLength = encode(text, startIndex, endIndex, chunkBuffer, 0);
+
+                outputStream.write(chunkBuffer, 0, encodedLength);
+
+                writtenLength += encodedLength;
+                startIndex = endIndex;
+            }
+        } finally {
+            bufferPool.release(chunkBuffer);
+        }
+
+        return writtenLength;
+    }
+}
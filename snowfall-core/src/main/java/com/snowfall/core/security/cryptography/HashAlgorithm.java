@@ -49,7 +49,13 @@ public enum HashAlgorithm {
     /**
      * 512-bits SHA3 (Secure Hash Algorithm 3).
      */
-    SHA3_512("SHA3-512");
+    SHA3_512("SHA3-512"),
+    /**
+     * 64-bits xxHash (XXH64). A fast, non-cryptographic hash suitable for
+     * checksums and content fingerprints (e.g. ETags). It must NOT be used
+     * where collision resistance against an adversary is required.
+     */
+    XXHASH64("XXH64");
 
     private final String name;
 
@@ -4,24 +4,39 @@ import com.snowfall.core.text.Encoder;
 import com.snowfall.core.text.Encoding;
 import com.snowfall.core.utilities.CollectionUtilities;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class HashProviderImpl implements HashProvider {
 
+    // NOTE: THE POOLS ARE KEYED BY ALGORITHM NAME SO THAT ALIASES (E.G. SHA256 AND SHA2_256) SHARE A POOL...
+    private final ConcurrentMap<String, MessageDigestPool> messageDigestPools = new ConcurrentHashMap<>();
+
     HashProviderImpl() { }
 
     @Override
     public byte[] computeHash(final byte[] bytes, final HashAlgorithm algorithm) throws Exception {
-        // creates an instance of message digest...
-        final var messageDigest = createMessageDigest(algorithm);
-        // updates the digest...
-        messageDigest.update(bytes);
+        // non-cryptographic hash algorithms are not provided by the message digest...
+        if (algorithm == HashAlgorithm.XXHASH64) { return computeXxHash64(bytes); }
+
+        // rents an instance of message digest...
+        final var messageDigestPool = getMessageDigestPool(algorithm);
+        final var messageDigest = messageDigestPool.rent();
+
+        try {
+            // updates the digest...
+            messageDigest.update(bytes);
 
-        // computes the hash and performs any final operations necessary (e.g. padding)...
-        final var computedHash = messageDigest.digest();
+            // computes the hash and performs any final operations necessary (e.g. padding)...
+            final var computedHash = messageDigest.digest();
 
-        return computedHash;
+            return computedHash;
+        } finally {
+            // returns the message digest to the pool...
+            messageDigestPool.release(messageDigest);
+        }
     }
 
     @Override
@@ -89,11 +104,14 @@ class HashProviderImpl implements HashProvider {
         return matched;
     }
 
-    private static MessageDigest createMessageDigest(final HashAlgorithm algorithm) throws Exception {
-        // creates a new instance of message digest by algorithm name...
-        final var messageDigest = MessageDigest.getInstance(algorithm.getName());
+    private static byte[] computeXxHash64(final byte[] bytes) {
+        final var computedHash = XxHash64.hash(bytes, 0, bytes.length, 0L);
+
+        // NOTE: THE CANONICAL REPRESENTATION OF XXH64 IS BIG-ENDIAN...
+        return ByteBuffer.allocate(Long.BYTES).putLong(computedHash).array();
+    }
 
-        // returns the message digest...
-        return messageDigest;
+    private MessageDigestPool getMessageDigestPool(final HashAlgorithm algorithm) {
+        return messageDigestPools.computeIfAbsent(algorithm.getName(), MessageDigestPool::new);
     }
 }
@@ -0,0 +1,85 @@
+package com.snowfall.core.security.cryptography;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reuses message digests of a single algorithm. Every stripe holds at most one
+ * idle message digest which is taken and returned with a single atomic operation.
+ * When no idle message digest is available, a new one is cloned from a prototype
+ * which avoids looking the algorithm up among the security providers.
+ * @implNote Message digests are striped by thread instead of being held in
+ * thread-locals because virtual threads are numerous and short-lived, so
+ * thread-local message digests would rarely be reused.
+ */
+class MessageDigestPool {
+
+    private final String algorithmName;
+    private final int stripeMask;
+    private final AtomicReferenceArray<MessageDigest> idleMessageDigests;
+    // NOTE: THE PROTOTYPE IS NEVER HANDED OUT. IT IS ONLY CLONED...
+    private volatile MessageDigest prototype = null;
+    private volatile boolean cloneSupported = true;
+
+    MessageDigestPool(final String algorithmName) {
+        final var stripeCount = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 4 - 1) << 1;
+
+        this.algorithmName = algorithmName;
+        stripeMask = stripeCount - 1;
+        idleMessageDigests = new AtomicReferenceArray<>(stripeCount);
+    }
+
+    /**
+     * Takes an idle message digest or creates a new one.
+     * The message digest must be returned using {@link #release(MessageDigest)}.
+     * @throws NoSuchAlgorithmException If the algorithm is not supported.
+     */
+    MessageDigest rent() throws NoSuchAlgorithmException {
+        final var stripeIndex = getStripeIndex();
+
+        // if the stripe holds an idle message digest, we shall try taking it...
+        if (idleMessageDigests.get(stripeIndex) != null) {
+            final var messageDigest = idleMessageDigests.getAndSet(stripeIndex, null);
+
+            if (messageDigest != null) { return messageDigest; }
+        }
+
+        return createMessageDigest();
+    }
+
+    /**
+     * Resets the message digest and keeps it for reuse. If the stripe
+     * already holds an idle message digest, the message digest is discarded.
+     */
+    void release(final MessageDigest messageDigest) {
+        // NOTE: THE MESSAGE DIGEST MAY HAVE BEEN UPDATED WITHOUT BEING COMPLETED (E.G. ON FAILURE)...
+        messageDigest.reset();
+        idleMessageDigests.compareAndSet(getStripeIndex(), null, messageDigest);
+    }
+
+    private MessageDigest createMessageDigest() throws NoSuchAlgorithmException {
+        // if cloning is not supported by the provider, we shall look the algorithm up...
+        if (!cloneSupported) { return MessageDigest.getInstance(algorithmName); }
+
+        var prototype = this.prototype;
+
+        // NOTE: CONCURRENT CALLERS MAY CREATE MULTIPLE PROTOTYPES
+        // BUT ONLY ONE OF THEM IS KEPT WHICH IS HARMLESS...
+        if (prototype == null) { this.prototype = prototype = MessageDigest.getInstance(algorithmName); }
+
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (final CloneNotSupportedException exception) {
+            cloneSupported = false;
+
+            return MessageDigest.getInstance(algorithmName);
+        }
+    }
+
+    private int getStripeIndex() {
+        final var threadId = Thread.currentThread().threadId();
+
+        return (int) (threadId * 0x9E3779B97F4A7C15L >>> 32) & stripeMask;
+    }
+}
@@ -0,0 +1,99 @@
+package com.snowfall.core.security.cryptography;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 64-bits xxHash (XXH64). A fast, non-cryptographic hash function.
+ * @implNote This class is stateless and thread-safe.
+ */
+final class XxHash64 {
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+    // NOTE: XXH64 READS THE INPUT IN LITTLE-ENDIAN ORDER...
+    private static final VarHandle longHandle = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle intHandle = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private XxHash64() { }
+
+    /**
+     * Computes the hash of the bytes.
+     * @param bytes Bytes to hash.
+     * @param offset Offset of the first byte to hash.
+     * @param length Number of bytes to hash.
+     * @param seed Seed of the hash.
+     * @return The computed hash.
+     */
+    static long hash(final byte[] bytes, final int offset, final int length, final long seed) {
+        final var end = offset + length;
+        var position = offset;
+        long hash;
+
+        if (length >= 32) {
+            var accumulator1 = seed + PRIME_1 + PRIME_2;
+            var accumulator2 = seed + PRIME_2;
+            var accumulator3 = seed;
+            var accumulator4 = seed - PRIME_1;
+            final var limit = end - 32;
+
+            // processes 32-byte stripes using four independent accumulators...
+            do {
+                accumulator1 = round(accumulator1, (long) longHandle.get(bytes, position));
+                accumulator2 = round(accumulator2, (long) longHandle.get(bytes, position + 8));
+                accumulator3 = round(accumulator3, (long) longHandle.get(bytes, position + 16));
+                accumulator4 = round(accumulator4, (long) longHandle.get(bytes, position + 24));
+                position += 32;
+            } while (position <= limit);
+
+            hash = Long.rotateLeft(accumulator1, 1) + Long.rotateLeft(accumulator2, 7)
+                    + Long.rotateLeft(accumulator3, 12) + Long.rotateLeft(accumulator4, 18);
+            hash = mergeRound(hash, accumulator1);
+            hash = mergeRound(hash, accumulator2);
+            hash = mergeRound(hash, accumulator3);
+            hash = mergeRound(hash, accumulator4);
+        } else {
+            hash = seed + PRIME_5;
+        }
+
+        hash += length;
+
+        // processes the remaining bytes...
+        for (; position + 8 <= end; position += 8) {
+            hash ^= round(0L, (long) longHandle.get(bytes, position));
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+        }
+
+        if (position + 4 <= end) {
+            hash ^= ((int) intHandle.get(bytes, position) & 0xFFFFFFFFL) * PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+            position += 4;
+        }
+
+        for (; position < end; ++position) {
+            hash ^= (bytes[position] & 0xFFL) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+        }
+
+        // final avalanche...
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+
+        return hash;
+    }
+
+    private static long round(final long accumulator, final long input) {
+        return Long.rotateLeft(accumulator + input * PRIME_2, 31) * PRIME_1;
+    }
+
+    private static long mergeRound(final long hash, final long accumulator) {
+        return (hash ^ round(0L, accumulator)) * PRIME_1 + PRIME_4;
+    }
+}
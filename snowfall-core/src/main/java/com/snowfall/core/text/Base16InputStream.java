@@ -0,0 +1,129 @@
+package com.snowfall.core.text;
+
+import com.snowfall.core.io.BufferPool;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads hex/base16 symbols from the underlying stream and decodes them
+ * as they are read. The symbols are read through a pooled buffer, so the
+ * memory usage is constant.
+ */
+class Base16InputStream extends FilterInputStream {
+
+    private boolean closed = false;
+    // NOTE: A SYMBOL THAT IS READ WITHOUT ITS PAIR IS KEPT AT THE BEGINNING OF THE SYMBOL BUFFER...
+    private boolean symbolPending = false;
+    private final BufferPool bufferPool;
+    private byte[] symbolBuffer;
+
+    private static final int SYMBOL_BUFFER_LENGTH = 8 * 1024;
+
+    Base16InputStream(final InputStream inputStream) {
+        super(inputStream);
+
+        bufferPool = BufferPool.getInstance();
+        symbolBuffer = bufferPool.rent(SYMBOL_BUFFER_LENGTH);
+    }
+
+    private void throwExceptionIfClosed() throws IOException {
+        if (!closed) { return; }
+
+        throw new IOException("Stream is closed.");
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var buffer = new byte[1];
+        final var byteCount = read(buffer, 0, 1);
+
+        return byteCount == -1 ? -1 : buffer[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        throwExceptionIfClosed();
+
+        // if the length is zero (0), we shall not read anything...
+        if (length == 0) { return 0; }
+
+        // NOTE: EVERY BYTE IS DECODED FROM TWO (2) SYMBOLS...
+        final var symbolCountToRead = (int) Math.min(length * 2L, symbolBuffer.length);
+
+        while (true) {
+            final var symbolOffset = symbolPending ? 1 : 0;
+            final var symbolsRead = in.read(symbolBuffer, symbolOffset, symbolCountToRead - symbolOffset);
+
+            // if the end of the underlying stream is reached...
+            if (symbolsRead == -1) {
+                // if a symbol is left without its pair, we shall throw exception...
+                if (symbolPending) { throw new IOException("Unexpected end of hex stream. The number of symbols is odd."); }
+
+                return -1;
+            }
+
+            final var symbolCount = symbolOffset + symbolsRead;
+            final int byteCount;
+
+            try {
+                byteCount = Encoder.decodeBase16(symbolBuffer, 0, symbolCount, buffer, offset);
+            } catch (final IllegalArgumentException exception) {
+                throw new IOException("Invalid hex stream.", exception);
+            }
+
+            symbolPending = (symbolCount & 1) == 1;
+
+            // if a symbol is left without its pair, we shall keep it for the next read...
+            if (symbolPending) { symbolBuffer[0] = symbolBuffer[symbolCount - 1]; }
+            // if at least one byte is decoded, we shall return...
+            if (byteCount > 0) { return byteCount; }
+        }
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+        final var buffer = new byte[(int) Math.min(Math.max(count, 0L), 4096L)];
+        var skippedCount = 0L;
+
+        while (skippedCount < count) {
+            final var byteCount = read(buffer, 0, (int) Math.min(buffer.length, count - skippedCount));
+
+            if (byteCount == -1) { break; }
+
+            skippedCount += byteCount;
+        }
+
+        return skippedCount;
+    }
+
+    @Override
+    public int available() throws IOException {
+        throwExceptionIfClosed();
+
+        return (in.available() + (symbolPending ? 1 : 0)) >>> 1;
+    }
+
+    @Override
+    public boolean markSupported() { return false; }
+
+    @Override
+    public synchronized void mark(final int readLimit) { }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Mark/reset is not supported.");
+    }
+
+    @Override
+    public void close() throws IOException {
+        // if this instance is already closed, we shall do nothing...
+        if (closed) { return; }
+
+        closed = true;
+        bufferPool.release(symbolBuffer);
+        symbolBuffer = null;
+        in.close();
+    }
+}
@@ -0,0 +1,71 @@
+package com.snowfall.core.text;
+
+import com.snowfall.core.io.BufferPool;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes the bytes written to this stream as hex/base16 symbols and
+ * writes the symbols to the underlying stream. Nothing is buffered
+ * between the writes, so the memory usage is constant.
+ */
+class Base16OutputStream extends FilterOutputStream {
+
+    private boolean closed = false;
+    private final boolean upperCased;
+    private final BufferPool bufferPool;
+    private byte[] symbolBuffer;
+
+    private static final int SYMBOL_BUFFER_LENGTH = 8 * 1024;
+
+    Base16OutputStream(final OutputStream outputStream, final boolean upperCased) {
+        super(outputStream);
+
+        this.upperCased = upperCased;
+        bufferPool = BufferPool.getInstance();
+        symbolBuffer = bufferPool.rent(SYMBOL_BUFFER_LENGTH);
+    }
+
+    private void throwExceptionIfClosed() throws IOException {
+        if (!closed) { return; }
+
+        throw new IOException("Stream is closed.");
+    }
+
+    @Override
+    public void write(final int byteValue) throws IOException {
+        throwExceptionIfClosed();
+
+        final var symbolCount = Encoder.toBase16(new byte[] { (byte) byteValue }, 0, 1, symbolBuffer, 0, upperCased);
+
+        out.write(symbolBuffer, 0, symbolCount);
+    }
+
+    @Override
+    public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+        throwExceptionIfClosed();
+
+        // NOTE: EVERY BYTE IS ENCODED AS TWO (2) SYMBOLS...
+        final var chunkLength = symbolBuffer.length >>> 1;
+
+        for (var chunkOffset = 0; chunkOffset < length; chunkOffset += chunkLength) {
+            final var symbolCount = Encoder.toBase16(buffer, offset + chunkOffset,
+                    Math.min(chunkLength, length - chunkOffset), symbolBuffer, 0, upperCased);
+
+            out.write(symbolBuffer, 0, symbolCount);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // if this instance is already closed, we shall do nothing...
+        if (closed) { return; }
+
+        closed = true;
+        bufferPool.release(symbolBuffer);
+        symbolBuffer = null;
+        out.close();
+    }
+}
@@ -0,0 +1,143 @@
+package com.snowfall.core.text;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes and decodes hex/base16 symbols sixteen (16) bytes at a time using the Vector API.
+ * NOTE: THIS CLASS MUST ONLY BE LOADED IF THE jdk.incubator.vector MODULE IS PRESENT
+ * (SEE {@link Encoder}). OTHERWISE, LOADING THIS CLASS FAILS...
+ */
+final class Base16VectorCodec {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+    private static final int LANE_COUNT = SPECIES.length();
+    private static final ByteVector LOWER_CASED_SYMBOLS = ByteVector.fromArray(SPECIES, "0123456789abcdef".getBytes(StandardCharsets.US_ASCII), 0);
+    private static final ByteVector UPPER_CASED_SYMBOLS = ByteVector.fromArray(SPECIES, "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII), 0);
+    // NOTE: NEGATIVE INDEXES SELECT THE LANES OF THE SECOND VECTOR (INDEX + LANE COUNT)...
+    // interleaves the first halves of the high and low nibble symbols...
+    private static final VectorShuffle<Byte> FIRST_HALF_INTERLEAVING_SHUFFLE = createInterleavingShuffle(0);
+    // interleaves the second halves of the high and low nibble symbols...
+    private static final VectorShuffle<Byte> SECOND_HALF_INTERLEAVING_SHUFFLE = createInterleavingShuffle(LANE_COUNT / 2);
+    // selects the even lanes of both vectors (the high nibbles)...
+    private static final VectorShuffle<Byte> EVEN_LANE_SHUFFLE = createCompressingShuffle(0);
+    // selects the odd lanes of both vectors (the low nibbles)...
+    private static final VectorShuffle<Byte> ODD_LANE_SHUFFLE = createCompressingShuffle(1);
+
+    private Base16VectorCodec() { }
+
+    /**
+     * Checks if the platform executes sixteen (16) byte vectors natively.
+     * Otherwise, the Vector API falls back to a slow Java implementation.
+     */
+    static boolean isSupported() {
+        return ByteVector.SPECIES_PREFERRED.length() >= LANE_COUNT;
+    }
+
+    /**
+     * Encodes the bytes as hex/base16 symbols in blocks of sixteen (16) bytes.
+     * @param bytes Bytes to encode.
+     * @param offset Offset of the first byte to encode.
+     * @param length Number of bytes to encode.
+     * @param symbols Array to write the symbols to. Must have space for twice the length.
+     * @param symbolOffset Offset of the symbols array to start writing at.
+     * @param upperCased Flag to write upper-cased symbols.
+     * @return The number of bytes encoded. The remaining bytes must be encoded by the caller.
+     */
+    static int encode(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] symbols,
+            final int symbolOffset,
+            final boolean upperCased) {
+        final var symbolTable = upperCased ? UPPER_CASED_SYMBOLS : LOWER_CASED_SYMBOLS;
+        final var encodableLength = SPECIES.loopBound(length);
+        var index = 0;
+
+        for (; index < encodableLength; index += LANE_COUNT) {
+            final var vector = ByteVector.fromArray(SPECIES, bytes, offset + index);
+            // NOTE: THE NIBBLES ARE USED AS INDEXES OF THE SYMBOL TABLE...
+            final var highSymbols = vector.lanewise(VectorOperators.LSHR, 4).selectFrom(symbolTable);
+            final var lowSymbols = vector.and((byte) 0x0F).selectFrom(symbolTable);
+            final var symbolIndex = symbolOffset + (index << 1);
+
+            highSymbols.rearrange(FIRST_HALF_INTERLEAVING_SHUFFLE, lowSymbols).intoArray(symbols, symbolIndex);
+            highSymbols.rearrange(SECOND_HALF_INTERLEAVING_SHUFFLE, lowSymbols).intoArray(symbols, symbolIndex + LANE_COUNT);
+        }
+
+        return index;
+    }
+
+    /**
+     * Decodes the hex/base16 symbols in blocks of thirty-two (32) symbols.
+     * Decoding stops at the first block that contains an invalid symbol.
+     * @param symbols Symbols to decode (Latin-1 bytes). The length must be even.
+     * @param bytes Array to write the decoded bytes to. Must be half as long as the symbols.
+     * @return The number of symbols decoded. The remaining symbols must be decoded
+     * (and validated) by the caller.
+     */
+    static int decode(final byte[] symbols, final byte[] bytes) {
+        final var blockLength = LANE_COUNT * 2;
+        final var length = symbols.length - (symbols.length % blockLength);
+        var index = 0;
+
+        for (; index < length; index += blockLength) {
+            final var firstNibbles = toNibbles(ByteVector.fromArray(SPECIES, symbols, index));
+            final var secondNibbles = toNibbles(ByteVector.fromArray(SPECIES, symbols, index + LANE_COUNT));
+
+            // if any of the symbols is invalid, we shall stop here...
+            if (firstNibbles == null || secondNibbles == null) { break; }
+
+            final var highNibbles = firstNibbles.rearrange(EVEN_LANE_SHUFFLE, secondNibbles);
+            final var lowNibbles = firstNibbles.rearrange(ODD_LANE_SHUFFLE, secondNibbles);
+
+            highNibbles.lanewise(VectorOperators.LSHL, 4).or(lowNibbles).intoArray(bytes, index >>> 1);
+        }
+
+        return index;
+    }
+
+    /**
+     * Converts the symbols to their numeric values.
+     * @return The numeric values. Returns null if any of the symbols is invalid.
+     */
+    private static ByteVector toNibbles(final ByteVector symbols) {
+        // '0'-'9' become 0-9...
+        final var digits = symbols.sub((byte) '0');
+        final var digitMask = digits.compare(VectorOperators.UNSIGNED_LT, (byte) 10);
+        // 'A'-'F' and 'a'-'f' become 0-5 (setting the lower-case bit)...
+        final var letters = symbols.or((byte) 0x20).sub((byte) 'a');
+        final var letterMask = letters.compare(VectorOperators.UNSIGNED_LT, (byte) 6);
+
+        if (!digitMask.or(letterMask).allTrue()) { return null; }
+
+        return digits.blend(letters.add((byte) 10), letterMask);
+    }
+
+    private static VectorShuffle<Byte> createInterleavingShuffle(final int offset) {
+        final var indexes = new int[LANE_COUNT];
+
+        for (var i = 0; i < LANE_COUNT / 2; ++i) {
+            indexes[i * 2] = offset + i;
+            indexes[i * 2 + 1] = offset + i - LANE_COUNT;
+        }
+
+        return VectorShuffle.fromArray(SPECIES, indexes, 0);
+    }
+
+    private static VectorShuffle<Byte> createCompressingShuffle(final int offset) {
+        final var indexes = new int[LANE_COUNT];
+
+        for (var i = 0; i < LANE_COUNT / 2; ++i) {
+            indexes[i] = offset + i * 2;
+            indexes[i + LANE_COUNT / 2] = offset + i * 2 - LANE_COUNT;
+        }
+
+        return VectorShuffle.fromArray(SPECIES, indexes, 0);
+    }
+}
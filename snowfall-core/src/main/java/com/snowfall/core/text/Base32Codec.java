@@ -0,0 +1,192 @@
+package com.snowfall.core.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes Crockford's base32 (without check symbol and padding).
+ * The symbols exclude I, L, O and U so that the encoded text is not ambiguous.
+ * Decoding is case-insensitive, treats I and L as 1 and O as 0, and ignores hyphens.
+ */
+final class Base32Codec {
+
+    private static final byte HYPHEN = '-';
+    private static final byte[] SYMBOLS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+    // NOTE: THIS TABLE CONTAINS -1 FOR THE SYMBOLS THAT DO NOT BELONG TO THE ALPHABET...
+    private static final byte[] SYMBOL_VALUES = createSymbolValues();
+    // NOTE: SIXTY-FOUR (64) BITS REQUIRE THIRTEEN (13) SYMBOLS...
+    private static final int MAXIMUM_LONG_SYMBOL_COUNT = 13;
+
+    private Base32Codec() { }
+
+    /**
+     * Computes the number of symbols required to encode the given number of bytes.
+     * @throws IllegalArgumentException If the encoded length exceeds the maximum array length.
+     */
+    static int getEncodedLength(final int length) {
+        final var encodedLength = (length * 8L + 4L) / 5L;
+
+        // if the encoded length exceeds the maximum array length, we shall throw exception...
+        if (encodedLength > Integer.MAX_VALUE) { throw new IllegalArgumentException("Provided length is too long to encode."); }
+
+        return (int) encodedLength;
+    }
+
+    /**
+     * Encodes the bytes into the array. Every five (5) bits become a symbol
+     * and the last symbol is padded with zero bits.
+     * @return The number of symbols written.
+     */
+    static int encode(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] destination,
+            final int destinationOffset) {
+        final var endIndex = offset + length;
+        var position = destinationOffset;
+        var bitBuffer = 0;
+        var bitCount = 0;
+
+        for (var index = offset; index < endIndex; ++index) {
+            // NOTE: ONLY THE LOWER (BIT COUNT) BITS OF THE BUFFER ARE MEANINGFUL...
+            bitBuffer = (bitBuffer << 8) | (bytes[index] & 0xFF);
+            bitCount += 8;
+
+            while (bitCount >= 5) {
+                bitCount -= 5;
+                destination[position++] = SYMBOLS[(bitBuffer >>> bitCount) & 0x1F];
+            }
+        }
+
+        // if bits are remaining, we shall pad them with zeros...
+        if (bitCount > 0) { destination[position++] = SYMBOLS[(bitBuffer << (5 - bitCount)) & 0x1F]; }
+
+        return position - destinationOffset;
+    }
+
+    /**
+     * Decodes the encoded text.
+     * @throws IllegalArgumentException If the encoded text contains invalid symbols,
+     * has an invalid length or the padding bits are not zero.
+     */
+    static byte[] decode(final CharSequence encodedText) {
+        final var symbolCount = getSymbolCount(encodedText);
+        final var remainingBitCount = (symbolCount * 5) & 7;
+
+        // NOTE: FIVE (5) OR MORE REMAINING BITS WOULD HAVE BEEN WRITTEN AS AN ADDITIONAL BYTE...
+        if (remainingBitCount >= 5) { throw new IllegalArgumentException("Provided encoded text has an invalid length."); }
+
+        final var bytes = new byte[(int) (symbolCount * 5L / 8L)];
+        var position = 0;
+        var bitBuffer = 0;
+        var bitCount = 0;
+
+        for (var index = 0; index < encodedText.length(); ++index) {
+            final var symbol = encodedText.charAt(index);
+
+            // NOTE: HYPHENS MAY BE USED TO GROUP THE SYMBOLS...
+            if (symbol == HYPHEN) { continue; }
+
+            bitBuffer = (bitBuffer << 5) | getSymbolValue(symbol, index);
+            bitCount += 5;
+
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                bytes[position++] = (byte) (bitBuffer >>> bitCount);
+            }
+        }
+
+        // if the padding bits are not zero, we shall throw exception...
+        if ((bitBuffer & ((1 << bitCount) - 1)) != 0) {
+            throw new IllegalArgumentException("Provided encoded text has non-zero padding bits.");
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Encodes the value as unsigned number without leading zeros.
+     * @return The encoded text.
+     */
+    static String encode(final long value) {
+        final var symbols = new byte[MAXIMUM_LONG_SYMBOL_COUNT];
+        var position = symbols.length;
+        var remainingValue = value;
+
+        // NOTE: ZERO (0) IS WRITTEN AS A SINGLE SYMBOL...
+        do {
+            symbols[--position] = SYMBOLS[(int) (remainingValue & 0x1F)];
+            remainingValue >>>= 5;
+        } while (remainingValue != 0);
+
+        return new String(symbols, position, symbols.length - position, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decodes the encoded text as unsigned number.
+     * @throws IllegalArgumentException If the encoded text is empty, contains
+     * invalid symbols or the value does not fit in sixty-four (64) bits.
+     */
+    static long decodeAsLong(final CharSequence encodedText) {
+        var value = 0L;
+        var symbolCount = 0;
+
+        for (var index = 0; index < encodedText.length(); ++index) {
+            final var symbol = encodedText.charAt(index);
+
+            if (symbol == HYPHEN) { continue; }
+
+            // if shifting would discard set bits, we shall throw exception...
+            if ((value >>> 59) != 0) { throw new IllegalArgumentException("Provided encoded text exceeds the range of long."); }
+
+            value = (value << 5) | getSymbolValue(symbol, index);
+            ++symbolCount;
+        }
+
+        // if there are no symbols, we shall throw exception...
+        if (symbolCount == 0) { throw new IllegalArgumentException("Provided encoded text is empty."); }
+
+        return value;
+    }
+
+    /**
+     * Counts the symbols excluding the hyphens.
+     */
+    private static int getSymbolCount(final CharSequence encodedText) {
+        var symbolCount = 0;
+
+        for (var index = 0; index < encodedText.length(); ++index) {
+            if (encodedText.charAt(index) != HYPHEN) { ++symbolCount; }
+        }
+
+        return symbolCount;
+    }
+
+    private static int getSymbolValue(final char symbol, final int index) {
+        final var value = symbol < SYMBOL_VALUES.length ? SYMBOL_VALUES[symbol] : -1;
+
+        // if the symbol does not belong to the alphabet, we shall throw exception...
+        if (value < 0) { throw new IllegalArgumentException("Provided encoded text contains invalid base32 symbol at index " + index + "."); }
+
+        return value;
+    }
+
+    private static byte[] createSymbolValues() {
+        final var symbolValues = new byte[128];
+
+        Arrays.fill(symbolValues, (byte) -1);
+
+        for (var i = 0; i < SYMBOLS.length; ++i) {
+            symbolValues[SYMBOLS[i]] = (byte) i;
+            symbolValues[Character.toLowerCase(SYMBOLS[i])] = (byte) i;
+        }
+
+        // NOTE: THE SYMBOLS THAT ARE EASILY CONFUSED ARE DECODED AS THE SYMBOLS THEY RESEMBLE...
+        symbolValues['O'] = symbolValues['o'] = 0;
+        symbolValues['I'] = symbolValues['i'] = 1;
+        symbolValues['L'] = symbolValues['l'] = 1;
+
+        return symbolValues;
+    }
+}
@@ -0,0 +1,188 @@
+package com.snowfall.core.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes base64 (RFC 4648) into and from caller-provided arrays.
+ * Unlike {@link java.util.Base64}, the arrays may be written at any offset
+ * and the encoded text is read without converting it to a byte array.
+ */
+final class Base64Codec {
+
+    private static final byte PADDING_SYMBOL = '=';
+    private static final byte[] REGULAR_SYMBOLS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] URL_SAFE_SYMBOLS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    // NOTE: THESE TABLES CONTAIN -1 FOR THE SYMBOLS THAT DO NOT BELONG TO THE ALPHABET...
+    private static final byte[] REGULAR_SYMBOL_VALUES = createSymbolValues(REGULAR_SYMBOLS);
+    private static final byte[] URL_SAFE_SYMBOL_VALUES = createSymbolValues(URL_SAFE_SYMBOLS);
+
+    private Base64Codec() { }
+
+    /**
+     * Computes the number of symbols required to encode the given number of bytes.
+     * @throws IllegalArgumentException If the encoded length exceeds the maximum array length.
+     */
+    static int getEncodedLength(final int length, final boolean paddingEnabled) {
+        final var encodedLength = paddingEnabled
+                ? (length + 2L) / 3L * 4L
+                : (length * 4L + 2L) / 3L;
+
+        // if the encoded length exceeds the maximum array length, we shall throw exception...
+        if (encodedLength > Integer.MAX_VALUE) { throw new IllegalArgumentException("Provided length is too long to encode."); }
+
+        return (int) encodedLength;
+    }
+
+    /**
+     * Computes the number of bytes the encoded text decodes to.
+     * @throws IllegalArgumentException If the length of the encoded text is invalid.
+     */
+    static int getDecodedLength(final CharSequence encodedText) {
+        final var symbolCount = getSymbolCount(encodedText);
+        final var remainingSymbolCount = symbolCount & 3;
+
+        // NOTE: A SINGLE REMAINING SYMBOL CANNOT REPRESENT A BYTE...
+        if (remainingSymbolCount == 1) { throw new IllegalArgumentException("Provided encoded text has an invalid length."); }
+
+        return (symbolCount >>> 2) * 3 + (remainingSymbolCount == 0 ? 0 : remainingSymbolCount - 1);
+    }
+
+    /**
+     * Encodes the bytes into the array.
+     * @return The number of symbols written.
+     */
+    static int encode(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean urlSafe,
+            final boolean paddingEnabled) {
+        final var symbols = urlSafe ? URL_SAFE_SYMBOLS : REGULAR_SYMBOLS;
+        final var endIndex = offset + length;
+        // NOTE: EVERY THREE (3) BYTES ARE ENCODED AS FOUR (4) SYMBOLS...
+        final var blockEndIndex = offset + length - length % 3;
+        var index = offset;
+        var position = destinationOffset;
+
+        for (; index < blockEndIndex; index += 3) {
+            final var bits = (bytes[index] & 0xFF) << 16 | (bytes[index + 1] & 0xFF) << 8 | (bytes[index + 2] & 0xFF);
+
+            destination[position++] = symbols[bits >>> 18];
+            destination[position++] = symbols[(bits >>> 12) & 0x3F];
+            destination[position++] = symbols[(bits >>> 6) & 0x3F];
+            destination[position++] = symbols[bits & 0x3F];
+        }
+
+        final var remainingLength = endIndex - index;
+
+        // if there are no remaining bytes, we shall not proceed any further...
+        if (remainingLength == 0) { return position - destinationOffset; }
+
+        final var bits = remainingLength == 1
+                ? (bytes[index] & 0xFF) << 16
+                : (bytes[index] & 0xFF) << 16 | (bytes[index + 1] & 0xFF) << 8;
+
+        destination[position++] = symbols[bits >>> 18];
+        destination[position++] = symbols[(bits >>> 12) & 0x3F];
+
+        if (remainingLength == 2) { destination[position++] = symbols[(bits >>> 6) & 0x3F]; }
+        else if (paddingEnabled) { destination[position++] = PADDING_SYMBOL; }
+
+        if (paddingEnabled) { destination[position++] = PADDING_SYMBOL; }
+
+        return position - destinationOffset;
+    }
+
+    /**
+     * Decodes the encoded text into the array. The array must have
+     * enough space (see {@link #getDecodedLength(CharSequence)}).
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the encoded text contains invalid symbols.
+     */
+    static int decode(
+            final CharSequence encodedText,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean urlSafe) {
+        final var symbolValues = urlSafe ? URL_SAFE_SYMBOL_VALUES : REGULAR_SYMBOL_VALUES;
+        final var symbolCount = getSymbolCount(encodedText);
+        final var blockEndIndex = symbolCount & ~3;
+        var index = 0;
+        var position = destinationOffset;
+
+        for (; index < blockEndIndex; index += 4) {
+            final var bits = getSymbolValue(encodedText, index, symbolValues) << 18
+                    | getSymbolValue(encodedText, index + 1, symbolValues) << 12
+                    | getSymbolValue(encodedText, index + 2, symbolValues) << 6
+                    | getSymbolValue(encodedText, index + 3, symbolValues);
+
+            destination[position++] = (byte) (bits >>> 16);
+            destination[position++] = (byte) (bits >>> 8);
+            destination[position++] = (byte) bits;
+        }
+
+        final var remainingSymbolCount = symbolCount - index;
+
+        // if there are no remaining symbols, we shall not proceed any further...
+        if (remainingSymbolCount == 0) { return position - destinationOffset; }
+        // NOTE: A SINGLE REMAINING SYMBOL CANNOT REPRESENT A BYTE...
+        if (remainingSymbolCount == 1) { throw new IllegalArgumentException("Provided encoded text has an invalid length."); }
+
+        var bits = getSymbolValue(encodedText, index, symbolValues) << 18
+                | getSymbolValue(encodedText, index + 1, symbolValues) << 12;
+
+        if (remainingSymbolCount == 3) { bits |= getSymbolValue(encodedText, index + 2, symbolValues) << 6; }
+
+        destination[position++] = (byte) (bits >>> 16);
+
+        if (remainingSymbolCount == 3) { destination[position++] = (byte) (bits >>> 8); }
+
+        return position - destinationOffset;
+    }
+
+    /**
+     * Counts the symbols excluding the padding.
+     * @throws IllegalArgumentException If the padding is invalid.
+     */
+    private static int getSymbolCount(final CharSequence encodedText) {
+        final var length = encodedText.length();
+        var symbolCount = length;
+
+        // NOTE: AT MOST TWO (2) PADDING SYMBOLS MAY APPEAR AT THE END...
+        while (symbolCount > 0 && length - symbolCount < 2 && encodedText.charAt(symbolCount - 1) == PADDING_SYMBOL) {
+            --symbolCount;
+        }
+
+        // if padding is present, the length must be a multiple of four (4)...
+        if (symbolCount != length && (length & 3) != 0) {
+            throw new IllegalArgumentException("Provided encoded text has invalid padding.");
+        }
+
+        return symbolCount;
+    }
+
+    private static int getSymbolValue(final CharSequence encodedText, final int index, final byte[] symbolValues) {
+        final var symbol = encodedText.charAt(index);
+        final var value = symbol < symbolValues.length ? symbolValues[symbol] : -1;
+
+        // if the symbol does not belong to the alphabet, we shall throw exception...
+        if (value < 0) { throw new IllegalArgumentException("Provided encoded text contains invalid base64 symbol at index " + index + "."); }
+
+        return value;
+    }
+
+    private static byte[] createSymbolValues(final byte[] symbols) {
+        final var symbolValues = new byte[128];
+
+        Arrays.fill(symbolValues, (byte) -1);
+
+        for (var i = 0; i < symbols.length; ++i) { symbolValues[symbols[i]] = (byte) i; }
+
+        return symbolValues;
+    }
+}
@@ -1,9 +1,21 @@
 package com.snowfall.core.text;
 
+import com.snowfall.core.io.BufferPool;
+import com.snowfall.core.io.MemoryInputStream;
+import com.snowfall.core.io.MemoryOutputStream;
+import com.snowfall.core.io.Utf8Codec;
 import com.snowfall.core.utilities.CollectionUtilities;
 import com.snowfall.core.utilities.StringUtilities;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 
 public final class Encoder {
@@ -18,6 +30,24 @@ public final class Encoder {
             'a', 'b', 'c', 'd', 'e', 'f',
     };
 
+    // NOTE: EACH ENTRY HOLDS BOTH THE HEXADECIMAL SYMBOLS OF A BYTE VALUE
+    // SO THAT A BYTE IS ENCODED WITH A SINGLE TWO (2) BYTE STORE...
+    private static final short[] UPPER_CASED_HEXADECIMAL_SYMBOL_PAIRS = createHexadecimalSymbolPairs(UPPER_CASED_HEXADECIMAL_SYMBOLS);
+    private static final short[] LOWER_CASED_HEXADECIMAL_SYMBOL_PAIRS = createHexadecimalSymbolPairs(LOWER_CASED_HEXADECIMAL_SYMBOLS);
+    // NOTE: THIS TABLE CONTAINS -1 FOR THE SYMBOLS THAT ARE NOT HEXADECIMAL...
+    private static final byte[] HEXADECIMAL_SYMBOL_VALUES = createHexadecimalSymbolValues();
+    private static final VarHandle shortHandle = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    // NOTE: THE VECTOR API IS ONLY USED IF THE APPLICATION IS STARTED WITH
+    // '--add-modules jdk.incubator.vector'. OTHERWISE, SCALAR IMPLEMENTATION IS USED...
+    private static final boolean VECTORIZATION_ENABLED = isVectorizationSupported();
+    // NOTE: FOR SHORTER INPUTS, THE SCALAR IMPLEMENTATION IS FASTER...
+    private static final int BASE16_ENCODING_VECTORIZATION_THRESHOLD = 32;
+    private static final int BASE16_DECODING_VECTORIZATION_THRESHOLD = 64;
+    // NOTE: THIS LENGTH MUST BE A MULTIPLE OF THREE (3) SO THAT
+    // BASE64 PADDING IS ONLY WRITTEN AFTER THE LAST CHUNK...
+    private static final int CHUNK_LENGTH = 3 * 1024;
+    private static final int CHUNK_BUFFER_LENGTH = CHUNK_LENGTH * 2;
+
     // NOTE: INSTANCES OF Base64.Encoder and Base64.Decoder CLASSES ARE THREAD SAFE...
     // we are saving an instance of regular Base64 encoder which has padding enabled...
     private static final Base64.Encoder paddingEnabledBase64Encoder = Base64.getEncoder();
@@ -51,9 +81,6 @@ public final class Encoder {
 
     /**
      * Converts an array of bytes to hex/base16 string.
-     * @implNote This algorithm is taken from StackOverflow (answered by Crystark).
-     * You may check the following URL for more details.
-     * https://stackoverflow.com/questions/2817752/how-can-i-convert-a-byte-array-to-hexadecimal-in-java
      * @param bytes Array of bytes to be converted.
      * @return Lower-cased hex/base16 string.
      */
@@ -63,9 +90,9 @@ public final class Encoder {
 
     /**
      * Converts an array of bytes to hex/base16 string.
-     * @implNote This algorithm is taken from StackOverflow (answered by Crystark).
-     * You may check the following URL for more details.
-     * https://stackoverflow.com/questions/2817752/how-can-i-convert-a-byte-array-to-hexadecimal-in-java
+     * @implNote The symbols are written as Latin-1 bytes, so the
+     * string is created without inflating to UTF-16. Long inputs are
+     * encoded using the Vector API if available.
      * @param bytes Array of bytes to be converted.
      * @param upperCased If set to true, the output of the hexadecimal symbols
      *                   shall be upper-cased. Otherwise, the symbols shall be
@@ -73,95 +100,165 @@ public final class Encoder {
      * @return Hex/Base16 string.
      */
     public static String toBase16(final byte[] bytes, final boolean upperCased) {
-        // selecting hexadecimal symbols based on the flag...
-        final var hexadecimalSymbols = upperCased
-                ? UPPER_CASED_HEXADECIMAL_SYMBOLS
-                : LOWER_CASED_HEXADECIMAL_SYMBOLS;
-        // this array of characters shall hold the base-16 representation of the bytes.
+        // this array shall hold the base-16 representation of the bytes.
         // the length of the array shall be twice the number of bytes...
-        final var bytesAsHexadecimalSymbols = new char[bytes.length * 2];
+        final var bytesAsHexadecimalSymbols = new byte[getBase16EncodedLength(bytes.length)];
+
+        encodeBase16(bytes, 0, bytes.length, bytesAsHexadecimalSymbols, 0, upperCased);
 
-        for (int i = 0, j = 0; i < bytes.length; ++i, j += 2) {
-            // selecting byte value at index 'i'...
-            final var byteValue = bytes[i];
-            final var hexadecimalSymbolA = hexadecimalSymbols[(byteValue & 0xF0) >> 4];
-            final var hexadecimalSymbolB = hexadecimalSymbols[byteValue & 0x0F];
+        // creates a string from the symbols...
+        // NOTE: LATIN-1 BYTES ARE COPIED TO THE COMPACT STRING AS IS...
+        return new String(bytesAsHexadecimalSymbols, StandardCharsets.ISO_8859_1);
+    }
 
-            // sets both hexadecimal symbols to the character array...
-            bytesAsHexadecimalSymbols[j] = hexadecimalSymbolA;
-            bytesAsHexadecimalSymbols[j + 1] = hexadecimalSymbolB;
+    private static int encodeBase16(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean upperCased) {
+        var i = 0;
+
+        // if the input is long enough, we shall encode most of it using vector instructions...
+        if (VECTORIZATION_ENABLED && length >= BASE16_ENCODING_VECTORIZATION_THRESHOLD) {
+            i = Base16VectorCodec.encode(bytes, offset, length, destination, destinationOffset, upperCased);
         }
 
-        // creates a string from the array of characters...
-        final var base16Text = new String(bytesAsHexadecimalSymbols);
+        // selecting hexadecimal symbol pairs based on the flag...
+        final var hexadecimalSymbolPairs = upperCased
+                ? UPPER_CASED_HEXADECIMAL_SYMBOL_PAIRS
+                : LOWER_CASED_HEXADECIMAL_SYMBOL_PAIRS;
 
-        // returns hex/base16 string...
-        return base16Text;
+        // encodes the remaining bytes...
+        for (; i < length; ++i) {
+            shortHandle.set(destination, destinationOffset + (i << 1), hexadecimalSymbolPairs[bytes[offset + i] & 0xFF]);
+        }
+
+        return length << 1;
     }
 
     /**
      * Gets the numerical value (decimal equivalent) of the hex/base-16 symbol.
      * e.g. '1' = 1, 'A'/'a' = 10, 'F'/'f' = 15.
-     * @implNote To make it performant, some checks were not made.
-     * So, this method is not very secure due to the lack of some
-     * bound checks. Non-hex symbols shall return erroneous values.
      * @param base16Symbol Hex/Base-16 symbol of which the numeric value
      *                     shall be retrieved. e.g. '1', 'A', 'f'.
      * @return The numerical value of the hex/base-16 symbol.
+     * Returns -1 if the symbol is not a hex/base-16 symbol.
      */
     private static int getValueOfBase16Symbol(final char base16Symbol) {
-        // ascii value of the base-16 symbol...
-        var asciiValue = (int)base16Symbol;
-
-        // if the symbol is less than or equal to '9' (as character),
-        // we shall subtract the ascii value of '0' to get the numeric value
-        // of the symbol...
-        if (asciiValue < 58) { return asciiValue - 48; }        // <-- 48 is the ascii value of '0' and 57 is the ascii value of '9'...
-        // if the symbol is less than or equal to 'F', we shall subtract
-        // the ascii value of 'A' to get the numeric value of the symbol...
-        // NOTE: WE ARE RETURNING (asciiValue - 65 + 10) = (asciiValue - 55)
-        // BECAUSE, 65 IS THE ASCII VALUE OF 'A' AND 'A' IN HEXADECIMAL IS
-        // EQUIVALENT TO 10 IN DECIMAL NUMBER SYSTEM...
-        if (asciiValue < 71) { return asciiValue - 55; }        // <-- 70 is the ascii value of 'F'...
-
-        // otherwise, we shall subtract the ascii value of 'A'
-        // to get the numeric value of the symbol...
-        // NOTE: WE ARE RETURNING (asciiValue - 97 + 10) = (asciiValue - 87)
-        // BECAUSE, 97 IS THE ASCII VALUE OF 'a' AND 'a' IN HEXADECIMAL IS
-        // EQUIVALENT TO 10 IN DECIMAL NUMBER SYSTEM...
-        return asciiValue - 87;                                 // <-- 97 is the ascii value of 'a'...
+        return base16Symbol < HEXADECIMAL_SYMBOL_VALUES.length
+                ? HEXADECIMAL_SYMBOL_VALUES[base16Symbol]
+                : -1;
     }
 
     /**
      * Decodes the encoded text.
+     * @implNote Long inputs are decoded using the Vector API if available.
      * @param encodedText Encoded text to be decoded.
      * @return Returns the decoded content.
+     * @throws IllegalArgumentException If the length of the encoded text is odd
+     * or the encoded text contains symbols that are not hex/base16 symbols.
      */
     public static byte[] fromBase16(final String encodedText) {
-        // converts the encoded text into an array of characters...
-        final var encodedTextAsCharacters = encodedText.toCharArray();
+        // if provided encoded text is null or empty,
+        // we shall return an array of length zero (0)...
+        if (StringUtilities.isNullOrEmpty(encodedText)) { return CollectionUtilities.getEmptyByteArray(); }
+
         // gets the length of the encoded text...
-        final var encodedTextLength = encodedTextAsCharacters.length;
+        final var encodedTextLength = encodedText.length();
+
+        // if the length is odd, we shall throw exception...
+        if ((encodedTextLength & 1) != 0) { throw new IllegalArgumentException("Provided encoded text has an odd length."); }
+
         // the length of the byte array shall be half the length
         // of the hex/base16 encoded text...
-        final var byteArrayLength = encodedTextLength / 2;
-        // initializing a byte array...
-        final var bytes = new byte[byteArrayLength];
-
-        for (int i = 0, j = 0; i < encodedTextLength; i += 2, ++j) {
-            final var base16SymbolA = encodedTextAsCharacters[i];
-            final var base16SymbolB = encodedTextAsCharacters[i + 1];
-            final var numericValueA = getValueOfBase16Symbol(base16SymbolA);
-            final var numericValueB = getValueOfBase16Symbol(base16SymbolB);
-            final var byteValue = (byte) ((numericValueA << 4) + numericValueB);
-
-            bytes[j] =  byteValue;
+        final var bytes = new byte[encodedTextLength >>> 1];
+        var i = 0;
+
+        // if the input is long enough, we shall decode most of it using vector instructions...
+        if (VECTORIZATION_ENABLED && encodedTextLength >= BASE16_DECODING_VECTORIZATION_THRESHOLD) {
+            // NOTE: NON-LATIN-1 CHARACTERS BECOME '?' WHICH IS REJECTED AS AN INVALID SYMBOL...
+            i = Base16VectorCodec.decode(encodedText.getBytes(StandardCharsets.ISO_8859_1), bytes);
+        }
+
+        // decodes (and validates) the remaining symbols...
+        for (; i < encodedTextLength; i += 2) {
+            final var numericValueA = getValueOfBase16Symbol(encodedText.charAt(i));
+            final var numericValueB = getValueOfBase16Symbol(encodedText.charAt(i + 1));
+
+            // if any of the symbols is invalid, we shall throw exception...
+            if ((numericValueA | numericValueB) < 0) {
+                throw new IllegalArgumentException("Provided encoded text contains invalid hex symbol near index " + i + ".");
+            }
+
+            bytes[i >>> 1] = (byte) ((numericValueA << 4) | numericValueB);
         }
 
         // returns the decoded bytes...
         return bytes;
     }
 
+    /**
+     * Decodes the hex/base16 symbols (Latin-1 bytes) into the destination.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If any of the symbols is invalid.
+     */
+    static int decodeBase16(
+            final byte[] symbols,
+            final int offset,
+            final int length,
+            final byte[] destination,
+            final int destinationOffset) {
+        for (var i = 0; i + 1 < length; i += 2) {
+            final var numericValueA = getValueOfBase16Symbol((char) (symbols[offset + i] & 0xFF));
+            final var numericValueB = getValueOfBase16Symbol((char) (symbols[offset + i + 1] & 0xFF));
+
+            // if any of the symbols is invalid, we shall throw exception...
+            if ((numericValueA | numericValueB) < 0) {
+                throw new IllegalArgumentException("Invalid hex symbol found near index " + i + ".");
+            }
+
+            destination[destinationOffset + (i >>> 1)] = (byte) ((numericValueA << 4) | numericValueB);
+        }
+
+        return length >>> 1;
+    }
+
+    private static short[] createHexadecimalSymbolPairs(final char[] hexadecimalSymbols) {
+        final var hexadecimalSymbolPairs = new short[256];
+
+        for (var i = 0; i < hexadecimalSymbolPairs.length; ++i) {
+            hexadecimalSymbolPairs[i] = (short) ((hexadecimalSymbols[i >>> 4] << 8) | hexadecimalSymbols[i & 0x0F]);
+        }
+
+        return hexadecimalSymbolPairs;
+    }
+
+    private static byte[] createHexadecimalSymbolValues() {
+        final var hexadecimalSymbolValues = new byte[128];
+
+        Arrays.fill(hexadecimalSymbolValues, (byte) -1);
+
+        for (var i = 0; i < 16; ++i) {
+            hexadecimalSymbolValues[UPPER_CASED_HEXADECIMAL_SYMBOLS[i]] = (byte) i;
+            hexadecimalSymbolValues[LOWER_CASED_HEXADECIMAL_SYMBOLS[i]] = (byte) i;
+        }
+
+        return hexadecimalSymbolValues;
+    }
+
+    private static boolean isVectorizationSupported() {
+        // if the vector module is not present, we must not load the vectorized codec...
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) { return false; }
+
+        try {
+            return Base16VectorCodec.isSupported();
+        } catch (final Throwable throwable) {
+            return false;
+        }
+    }
+
     private static Base64.Encoder getBase64Encoder(final boolean urlSafe, final boolean paddingEnabled) {
         // if URL safe flag is true...
         if (urlSafe) {
@@ -289,6 +386,633 @@ public final class Encoder {
         return fromBase64(encodedText, true);
     }
 
+    /**
+     * Converts an array of bytes to Crockford's base32 string
+     * (upper-cased, without padding).
+     * @param bytes Array of bytes to be converted.
+     * @return Base32 string.
+     */
+    public static String toBase32(final byte[] bytes) {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        final var symbols = new byte[Base32Codec.getEncodedLength(bytes.length)];
+
+        Base32Codec.encode(bytes, 0, bytes.length, symbols, 0);
+
+        // NOTE: LATIN-1 BYTES ARE COPIED TO THE COMPACT STRING AS IS...
+        return new String(symbols, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Converts the value (as unsigned number) to Crockford's base32 string
+     * without leading zeros. No array of bytes is involved.
+     * NOTE: THE RESULT DIFFERS FROM ENCODING THE EIGHT (8) BYTES OF THE VALUE...
+     * @param value Value to be converted.
+     * @return Base32 string.
+     */
+    public static String toBase32(final long value) {
+        return Base32Codec.encode(value);
+    }
+
+    /**
+     * Decodes Crockford's base32 encoded text. Decoding is case-insensitive,
+     * 'I' and 'L' are decoded as '1', 'O' is decoded as '0' and hyphens are ignored.
+     * @param encodedText Base32 encoded text to be decoded.
+     * @return Returns the decoded content.
+     * @throws IllegalArgumentException If the encoded text is invalid.
+     */
+    public static byte[] fromBase32(final String encodedText) {
+        // if provided encoded text is null or empty,
+        // we shall return an array of length zero (0)...
+        if (StringUtilities.isNullOrEmpty(encodedText)) { return CollectionUtilities.getEmptyByteArray(); }
+
+        return Base32Codec.decode(encodedText);
+    }
+
+    /**
+     * Decodes Crockford's base32 encoded text as unsigned number.
+     * @param encodedText Base32 encoded text to be decoded (see {@link #toBase32(long)}).
+     * @return Returns the decoded value.
+     * @throws IllegalArgumentException If the encoded text is null, empty,
+     * invalid or exceeds the range of long.
+     */
+    public static long fromBase32AsLong(final CharSequence encodedText) {
+        // if encoded text is null, we shall throw exception...
+        if (encodedText == null) { throw new IllegalArgumentException("Provided encoded text is null."); }
+
+        return Base32Codec.decodeAsLong(encodedText);
+    }
+
+    /**
+     * Converts an array of bytes to base58 string (Bitcoin alphabet).
+     * Leading zero bytes are written as leading '1' symbols.
+     * @implNote Radix conversion is quadratic in the length of the input.
+     * Therefore, this encoding suits identifiers and keys rather than
+     * large payloads.
+     * @param bytes Array of bytes to be converted.
+     * @return Base58 string.
+     */
+    public static String toBase58(final byte[] bytes) {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        return RadixCodec.BASE_58.encode(bytes);
+    }
+
+    /**
+     * Converts the value (as unsigned number) to base58 string.
+     * No array of bytes is involved.
+     * NOTE: THE RESULT DIFFERS FROM ENCODING THE EIGHT (8) BYTES OF THE VALUE...
+     * @param value Value to be converted.
+     * @return Base58 string.
+     */
+    public static String toBase58(final long value) {
+        return RadixCodec.BASE_58.encode(value);
+    }
+
+    /**
+     * Decodes the base58 encoded text.
+     * @param encodedText Base58 encoded text to be decoded.
+     * @return Returns the decoded content.
+     * @throws IllegalArgumentException If the encoded text contains invalid symbols.
+     */
+    public static byte[] fromBase58(final String encodedText) {
+        // if provided encoded text is null or empty,
+        // we shall return an array of length zero (0)...
+        if (StringUtilities.isNullOrEmpty(encodedText)) { return CollectionUtilities.getEmptyByteArray(); }
+
+        return RadixCodec.BASE_58.decode(encodedText);
+    }
+
+    /**
+     * Decodes the base58 encoded text as unsigned number.
+     * @param encodedText Base58 encoded text to be decoded (see {@link #toBase58(long)}).
+     * @return Returns the decoded value.
+     * @throws IllegalArgumentException If the encoded text is null, empty,
+     * invalid or exceeds the range of long.
+     */
+    public static long fromBase58AsLong(final CharSequence encodedText) {
+        // if encoded text is null, we shall throw exception...
+        if (encodedText == null) { throw new IllegalArgumentException("Provided encoded text is null."); }
+
+        return RadixCodec.BASE_58.decodeAsLong(encodedText);
+    }
+
+    /**
+     * Converts an array of bytes to base62 string (0-9, A-Z, a-z).
+     * Leading zero bytes are written as leading '0' symbols.
+     * @implNote Radix conversion is quadratic in the length of the input.
+     * Therefore, this encoding suits identifiers and keys rather than
+     * large payloads.
+     * @param bytes Array of bytes to be converted.
+     * @return Base62 string.
+     */
+    public static String toBase62(final byte[] bytes) {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        return RadixCodec.BASE_62.encode(bytes);
+    }
+
+    /**
+     * Converts the value (as unsigned number) to base62 string.
+     * No array of bytes is involved.
+     * NOTE: THE RESULT DIFFERS FROM ENCODING THE EIGHT (8) BYTES OF THE VALUE...
+     * @param value Value to be converted.
+     * @return Base62 string.
+     */
+    public static String toBase62(final long value) {
+        return RadixCodec.BASE_62.encode(value);
+    }
+
+    /**
+     * Decodes the base62 encoded text.
+     * @param encodedText Base62 encoded text to be decoded.
+     * @return Returns the decoded content.
+     * @throws IllegalArgumentException If the encoded text contains invalid symbols.
+     */
+    public static byte[] fromBase62(final String encodedText) {
+        // if provided encoded text is null or empty,
+        // we shall return an array of length zero (0)...
+        if (StringUtilities.isNullOrEmpty(encodedText)) { return CollectionUtilities.getEmptyByteArray(); }
+
+        return RadixCodec.BASE_62.decode(encodedText);
+    }
+
+    /**
+     * Decodes the base62 encoded text as unsigned number.
+     * @param encodedText Base62 encoded text to be decoded (see {@link #toBase62(long)}).
+     * @return Returns the decoded value.
+     * @throws IllegalArgumentException If the encoded text is null, empty,
+     * invalid or exceeds the range of long.
+     */
+    public static long fromBase62AsLong(final CharSequence encodedText) {
+        // if encoded text is null, we shall throw exception...
+        if (encodedText == null) { throw new IllegalArgumentException("Provided encoded text is null."); }
+
+        return RadixCodec.BASE_62.decodeAsLong(encodedText);
+    }
+
+    /**
+     * Computes the length of the hex/base16 representation of the given number of bytes.
+     * @param length Number of bytes.
+     * @return The number of symbols.
+     * @throws IllegalArgumentException If the length is negative or the encoded length exceeds the maximum array length.
+     */
+    public static int getBase16EncodedLength(final int length) {
+        // if the length is invalid, we shall throw exception...
+        if (length < 0 || length > Integer.MAX_VALUE / 2) { throw new IllegalArgumentException("Invalid length provided."); }
+
+        return length << 1;
+    }
+
+    public static int getBase16DecodedLength(final int encodedLength) {
+        return encodedLength >>> 1;
+    }
+
+    /**
+     * Computes the length of the base64 representation of the given number of bytes.
+     * @param length Number of bytes.
+     * @param paddingEnabled Flag to determine if padding symbols are written.
+     * @return The number of symbols.
+     * @throws IllegalArgumentException If the encoded length exceeds the maximum array length.
+     */
+    public static int getBase64EncodedLength(final int length, final boolean paddingEnabled) {
+        return Base64Codec.getEncodedLength(length, paddingEnabled);
+    }
+
+    /**
+     * Computes the number of bytes the base64 encoded text decodes to.
+     * @param encodedText Base64 encoded text (padded or not).
+     * @return The number of bytes.
+     * @throws IllegalArgumentException If the length or the padding of the encoded text is invalid.
+     */
+    public static int getBase64DecodedLength(final CharSequence encodedText) {
+        return Base64Codec.getDecodedLength(encodedText);
+    }
+
+    public static int getUtf8EncodedLength(final CharSequence text) {
+        return Utf8Codec.getEncodedLength(text, 0);
+    }
+
+    /**
+     * Encodes a portion of the bytes as hex/base16 symbols (Latin-1 bytes) into the destination.
+     * @param bytes Array of bytes to be encoded.
+     * @param offset Offset of the first byte to encode.
+     * @param length Number of bytes to encode.
+     * @param destination Array to write the symbols to.
+     * @param destinationOffset Offset of the destination to start writing at.
+     * @param upperCased If set to true, the symbols shall be upper-cased.
+     * @return The number of symbols written.
+     * @throws IllegalArgumentException If any of the arrays is null or the destination is too small.
+     */
+    public static int toBase16(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean upperCased) {
+        validate(bytes, offset, length);
+        validateDestination(destination, destinationOffset, getBase16EncodedLength(length));
+
+        return encodeBase16(bytes, offset, length, destination, destinationOffset, upperCased);
+    }
+
+    public static int toBase16(final byte[] bytes, final byte[] destination, final int destinationOffset) {
+        return toBase16(bytes, 0, bytes == null ? 0 : bytes.length, destination, destinationOffset, false);
+    }
+
+    /**
+     * Encodes the bytes as hex/base16 symbols into the byte buffer
+     * starting at its position. The position is advanced.
+     * @return The number of symbols written.
+     * @throws IllegalArgumentException If the byte buffer does not have enough space remaining.
+     */
+    public static int toBase16(final byte[] bytes, final ByteBuffer destination, final boolean upperCased) {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        return encodeInChunks(bytes, getBase16EncodedLength(bytes.length), destination,
+                (chunk, offset, length, buffer, bufferOffset) ->
+                        encodeBase16(chunk, offset, length, buffer, bufferOffset, upperCased));
+    }
+
+    /**
+     * Encodes the bytes as hex/base16 symbols and writes them to the stream.
+     * The symbols are encoded through a pooled buffer.
+     * @return The number of symbols written.
+     * @throws IOException If the stream is closed.
+     */
+    public static int toBase16(
+            final byte[] bytes,
+            final MemoryOutputStream outputStream,
+            final boolean upperCased) throws IllegalArgumentException, IOException {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        return encodeInChunks(bytes, getBase16EncodedLength(bytes.length), outputStream,
+                (chunk, offset, length, buffer, bufferOffset) ->
+                        encodeBase16(chunk, offset, length, buffer, bufferOffset, upperCased));
+    }
+
+    /**
+     * Decodes the hex/base16 encoded text into the destination.
+     * @param encodedText Encoded text to be decoded.
+     * @param destination Array to write the decoded bytes to.
+     * @param destinationOffset Offset of the destination to start writing at.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the encoded text is invalid or the destination is too small.
+     */
+    public static int fromBase16(final CharSequence encodedText, final byte[] destination, final int destinationOffset) {
+        // if encoded text is null, we shall throw exception...
+        if (encodedText == null) { throw new IllegalArgumentException("Provided encoded text is null."); }
+
+        final var encodedTextLength = encodedText.length();
+
+        // if the length is odd, we shall throw exception...
+        if ((encodedTextLength & 1) != 0) { throw new IllegalArgumentException("Provided encoded text has an odd length."); }
+
+        validateDestination(destination, destinationOffset, getBase16DecodedLength(encodedTextLength));
+
+        for (var i = 0; i < encodedTextLength; i += 2) {
+            final var numericValueA = getValueOfBase16Symbol(encodedText.charAt(i));
+            final var numericValueB = getValueOfBase16Symbol(encodedText.charAt(i + 1));
+
+            // if any of the symbols is invalid, we shall throw exception...
+            if ((numericValueA | numericValueB) < 0) {
+                throw new IllegalArgumentException("Provided encoded text contains invalid hex symbol near index " + i + ".");
+            }
+
+            destination[destinationOffset + (i >>> 1)] = (byte) ((numericValueA << 4) | numericValueB);
+        }
+
+        return encodedTextLength >>> 1;
+    }
+
+    /**
+     * Encodes a portion of the bytes as base64 symbols (ASCII bytes) into the destination.
+     * @param bytes Array of bytes to be encoded.
+     * @param offset Offset of the first byte to encode.
+     * @param length Number of bytes to encode.
+     * @param destination Array to write the symbols to.
+     * @param destinationOffset Offset of the destination to start writing at.
+     * @param urlSafe If set to true, the output shall be URL safe.
+     * @param paddingEnabled If set to true, the output shall contain padding symbols.
+     * @return The number of symbols written.
+     * @throws IllegalArgumentException If any of the arrays is null or the destination is too small.
+     */
+    public static int toBase64(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean urlSafe,
+            final boolean paddingEnabled) {
+        validate(bytes, offset, length);
+        validateDestination(destination, destinationOffset, getBase64EncodedLength(length, paddingEnabled));
+
+        return Base64Codec.encode(bytes, offset, length, destination, destinationOffset, urlSafe, paddingEnabled);
+    }
+
+    public static int toBase64(final byte[] bytes, final byte[] destination, final int destinationOffset) {
+        return toBase64(bytes, 0, bytes == null ? 0 : bytes.length, destination, destinationOffset, false, true);
+    }
+
+    public static int toUrlSafeBase64(
+            final byte[] bytes,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean paddingEnabled) {
+        return toBase64(bytes, 0, bytes == null ? 0 : bytes.length, destination, destinationOffset, true, paddingEnabled);
+    }
+
+    /**
+     * Encodes the bytes as base64 symbols into the byte buffer
+     * starting at its position. The position is advanced.
+     * @return The number of symbols written.
+     * @throws IllegalArgumentException If the byte buffer does not have enough space remaining.
+     */
+    public static int toBase64(
+            final byte[] bytes,
+            final ByteBuffer destination,
+            final boolean urlSafe,
+            final boolean paddingEnabled) {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        return encodeInChunks(bytes, getBase64EncodedLength(bytes.length, paddingEnabled), destination,
+                (chunk, offset, length, buffer, bufferOffset) ->
+                        Base64Codec.encode(chunk, offset, length, buffer, bufferOffset, urlSafe, paddingEnabled));
+    }
+
+    /**
+     * Encodes the bytes as base64 symbols and writes them to the stream.
+     * The symbols are encoded through a pooled buffer.
+     * @return The number of symbols written.
+     * @throws IOException If the stream is closed.
+     */
+    public static int toBase64(
+            final byte[] bytes,
+            final MemoryOutputStream outputStream,
+            final boolean urlSafe,
+            final boolean paddingEnabled) throws IllegalArgumentException, IOException {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+
+        return encodeInChunks(bytes, getBase64EncodedLength(bytes.length, paddingEnabled), outputStream,
+                (chunk, offset, length, buffer, bufferOffset) ->
+                        Base64Codec.encode(chunk, offset, length, buffer, bufferOffset, urlSafe, paddingEnabled));
+    }
+
+    /**
+     * Decodes the base64 encoded text (padded or not) into the destination.
+     * @param encodedText Base64 encoded text to be decoded.
+     * @param destination Array to write the decoded bytes to.
+     * @param destinationOffset Offset of the destination to start writing at.
+     * @param urlSafe If set to true, the encoded text will be considered as URL safe.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the encoded text is invalid or the destination is too small.
+     */
+    public static int fromBase64(
+            final CharSequence encodedText,
+            final byte[] destination,
+            final int destinationOffset,
+            final boolean urlSafe) {
+        // if encoded text is null, we shall throw exception...
+        if (encodedText == null) { throw new IllegalArgumentException("Provided encoded text is null."); }
+
+        validateDestination(destination, destinationOffset, getBase64DecodedLength(encodedText));
+
+        return Base64Codec.decode(encodedText, destination, destinationOffset, urlSafe);
+    }
+
+    /**
+     * Encodes the text as UTF-8 into the destination.
+     * Unpaired surrogates are written as '?'.
+     * @param text Text to be encoded.
+     * @param destination Array to write the encoded bytes to.
+     * @param destinationOffset Offset of the destination to start writing at.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the text is null or the destination is too small.
+     */
+    public static int fromUtf8(final CharSequence text, final byte[] destination, final int destinationOffset) {
+        // if text is null, we shall throw exception...
+        if (text == null) { throw new IllegalArgumentException("Provided text is null."); }
+
+        validateDestination(destination, destinationOffset, getUtf8EncodedLength(text));
+
+        return Utf8Codec.encode(text, 0, destination, destinationOffset) - destinationOffset;
+    }
+
+    /**
+     * Wraps the output stream so that the bytes written to the returned stream
+     * are encoded as base64 on the fly. Only the last (up to 2) bytes are held
+     * until the next write, so payloads of any size are encoded in constant memory.
+     * NOTE: THE RETURNED STREAM MUST BE CLOSED TO WRITE THE LAST SYMBOLS (AND THE PADDING)...
+     * Closing the returned stream closes the provided stream.
+     * @param outputStream Stream to write the base64 symbols to.
+     * @param urlSafe If set to true, URL safe alphabet is used.
+     * @param paddingEnabled If set to true, padding is written at the end.
+     * @return The encoding stream.
+     */
+    public static OutputStream createBase64EncodingStream(
+            final OutputStream outputStream,
+            final boolean urlSafe,
+            final boolean paddingEnabled) {
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+
+        return getBase64Encoder(urlSafe, paddingEnabled).wrap(outputStream);
+    }
+
+    /**
+     * Wraps the memory output stream so that the bytes written to the returned
+     * stream are encoded as base64 on the fly.
+     * NOTE: THE RETURNED STREAM MUST BE CLOSED TO WRITE THE LAST SYMBOLS (AND THE PADDING)...
+     * Unlike {@link #createBase64EncodingStream(OutputStream, boolean, boolean)},
+     * closing the returned stream does not close the memory output stream,
+     * so that the encoded content can be read afterward.
+     */
+    public static OutputStream createBase64EncodingStream(
+            final MemoryOutputStream outputStream,
+            final boolean urlSafe,
+            final boolean paddingEnabled) {
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+
+        return createBase64EncodingStream(new UnclosableOutputStream(outputStream.asOutputStream()), urlSafe, paddingEnabled);
+    }
+
+    /**
+     * Wraps the input stream so that the base64 symbols (padded or not)
+     * read from it are decoded on the fly.
+     * Reading from the returned stream throws IOException if the symbols are invalid.
+     * Closing the returned stream closes the provided stream.
+     * @param inputStream Stream to read the base64 symbols from.
+     * @param urlSafe If set to true, the symbols will be considered as URL safe.
+     * @return The decoding stream.
+     */
+    public static InputStream createBase64DecodingStream(final InputStream inputStream, final boolean urlSafe) {
+        // if input stream is null, we shall throw exception...
+        if (inputStream == null) { throw new IllegalArgumentException("Provided input stream is null."); }
+
+        return (urlSafe ? urlSafeBase64Decoder : base64Decoder).wrap(inputStream);
+    }
+
+    public static InputStream createBase64DecodingStream(final MemoryInputStream inputStream, final boolean urlSafe) {
+        // if input stream is null, we shall throw exception...
+        if (inputStream == null) { throw new IllegalArgumentException("Provided input stream is null."); }
+
+        return createBase64DecodingStream(inputStream.asInputStream(), urlSafe);
+    }
+
+    /**
+     * Wraps the output stream so that the bytes written to the returned stream
+     * are encoded as hex/base16 symbols on the fly. Nothing is held between
+     * the writes, so payloads of any size are encoded in constant memory.
+     * Closing the returned stream closes the provided stream.
+     * @param outputStream Stream to write the symbols to.
+     * @param upperCased If set to true, the symbols shall be upper-cased.
+     * @return The encoding stream.
+     */
+    public static OutputStream createBase16EncodingStream(final OutputStream outputStream, final boolean upperCased) {
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+
+        return new Base16OutputStream(outputStream, upperCased);
+    }
+
+    /**
+     * Wraps the memory output stream so that the bytes written to the returned
+     * stream are encoded as hex/base16 symbols on the fly.
+     * Closing the returned stream does not close the memory output stream.
+     */
+    public static OutputStream createBase16EncodingStream(final MemoryOutputStream outputStream, final boolean upperCased) {
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+
+        return createBase16EncodingStream(new UnclosableOutputStream(outputStream.asOutputStream()), upperCased);
+    }
+
+    /**
+     * Wraps the input stream so that the hex/base16 symbols read from it
+     * are decoded on the fly. The symbols are case-insensitive.
+     * Reading from the returned stream throws IOException if the symbols are invalid.
+     * Closing the returned stream closes the provided stream.
+     * @param inputStream Stream to read the symbols from.
+     * @return The decoding stream.
+     */
+    public static InputStream createBase16DecodingStream(final InputStream inputStream) {
+        // if input stream is null, we shall throw exception...
+        if (inputStream == null) { throw new IllegalArgumentException("Provided input stream is null."); }
+
+        return new Base16InputStream(inputStream);
+    }
+
+    public static InputStream createBase16DecodingStream(final MemoryInputStream inputStream) {
+        // if input stream is null, we shall throw exception...
+        if (inputStream == null) { throw new IllegalArgumentException("Provided input stream is null."); }
+
+        return createBase16DecodingStream(inputStream.asInputStream());
+    }
+
+    private static void validate(final byte[] bytes, final int offset, final int length) {
+        // if bytes is null, we shall throw exception...
+        if (bytes == null) { throw new IllegalArgumentException("Provided bytes are null."); }
+        // if offset is less than zero (0) or, the length is less than zero (0),
+        // or the summation of the offset and the length exceeds the array length,
+        // we shall throw exception...
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Invalid offset or length provided.");
+        }
+    }
+
+    private static void validateDestination(final byte[] destination, final int destinationOffset, final int length) {
+        // if destination is null, we shall throw exception...
+        if (destination == null) { throw new IllegalArgumentException("Provided destination is null."); }
+        // if the destination does not have enough space, we shall throw exception...
+        if (destinationOffset < 0 || destinationOffset > destination.length - length) {
+            throw new IllegalArgumentException("Provided destination is too small.");
+        }
+    }
+
+    /**
+     * Encodes the bytes into the byte buffer. Byte buffers backed by an accessible
+     * array are written directly. Otherwise, the bytes are encoded in chunks
+     * through a pooled buffer.
+     * @return The number of symbols written.
+     */
+    private static int encodeInChunks(
+            final byte[] bytes,
+            final int encodedLength,
+            final ByteBuffer byteBuffer,
+            final ChunkEncoder chunkEncoder) throws IllegalArgumentException {
+        // if byte buffer is null, we shall throw exception...
+        if (byteBuffer == null) { throw new IllegalArgumentException("Provided byte buffer is null."); }
+        // if the byte buffer does not have enough space, we shall throw exception...
+        if (byteBuffer.remaining() < encodedLength) { throw new IllegalArgumentException("Provided byte buffer is too small."); }
+
+        // if the byte buffer is backed by an accessible array, we shall encode into the array directly...
+        if (byteBuffer.hasArray()) {
+            final var position = byteBuffer.position();
+
+            chunkEncoder.encode(bytes, 0, bytes.length, byteBuffer.array(), byteBuffer.arrayOffset() + position);
+            byteBuffer.position(position + encodedLength);
+
+            return encodedLength;
+        }
+
+        final var bufferPool = BufferPool.getInstance();
+        final var chunkBuffer = bufferPool.rent(CHUNK_BUFFER_LENGTH);
+
+        try {
+            for (var offset = 0; offset < bytes.length; offset += CHUNK_LENGTH) {
+                final var length = Math.min(CHUNK_LENGTH, bytes.length - offset);
+
+                byteBuffer.put(chunkBuffer, 0, chunkEncoder.encode(bytes, offset, length, chunkBuffer, 0));
+            }
+        } finally {
+            bufferPool.release(chunkBuffer);
+        }
+
+        return encodedLength;
+    }
+
+    /**
+     * Encodes the bytes in chunks through a pooled buffer and writes them to the stream.
+     * @return The number of symbols written.
+     */
+    private static int encodeInChunks(
+            final byte[] bytes,
+            final int encodedLength,
+            final MemoryOutputStream outputStream,
+            final ChunkEncoder chunkEncoder) throws IllegalArgumentException, IOException {
+        // if output stream is null, we shall throw exception...
+        if (outputStream == null) { throw new IllegalArgumentException("Provided output stream is null."); }
+
+        final var bufferPool = BufferPool.getInstance();
+        final var chunkBuffer = bufferPool.rent(CHUNK_BUFFER_LENGTH);
+
+        try {
+            for (var offset = 0; offset < bytes.length; offset += CHUNK_LENGTH) {
+                final var length = Math.min(CHUNK_LENGTH, bytes.length - offset);
+
+                outputStream.write(chunkBuffer, 0, chunkEncoder.encode(bytes, offset, length, chunkBuffer, 0));
+            }
+        } finally {
+            bufferPool.release(chunkBuffer);
+        }
+
+        return encodedLength;
+    }
+
+    private interface ChunkEncoder {
+        int encode(final byte[] bytes, final int offset, final int length, final byte[] destination, final int destinationOffset);
+    }
+
     /**
      * Encodes the given bytes into the specified encoding.
      * @implNote Uses the default options for the specified
@@ -304,6 +1028,9 @@ public final class Encoder {
             case HEX, BASE_16 -> toBase16(bytes);
             case BASE_64 -> toBase64(bytes);
             case URL_SAFE_BASE_64 -> toUrlSafeBase64(bytes);
+            case BASE_32 -> toBase32(bytes);
+            case BASE_58 -> toBase58(bytes);
+            case BASE_62 -> toBase62(bytes);
             default -> StringUtilities.getEmptyString();
         };
 
@@ -324,6 +1051,9 @@ public final class Encoder {
             case HEX, BASE_16 -> fromBase16(encodedText);
             case BASE_64 -> fromBase64(encodedText);
             case URL_SAFE_BASE_64 -> fromUrlSafeBase64(encodedText);
+            case BASE_32 -> fromBase32(encodedText);
+            case BASE_58 -> fromBase58(encodedText);
+            case BASE_62 -> fromBase62(encodedText);
             default -> CollectionUtilities.getEmptyByteArray();
         };
 
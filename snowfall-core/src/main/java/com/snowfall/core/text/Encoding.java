@@ -6,4 +6,8 @@ public enum Encoding {
     BASE_16,
     BASE_64,
     URL_SAFE_BASE_64,
+    // NOTE: CROCKFORD'S BASE32...
+    BASE_32,
+    BASE_58,
+    BASE_62,
 }
@@ -61,6 +61,23 @@ public final class JsonSerializer {
         return StringUtilities.getEmptyString();
     }
 
+    /**
+     * Serializes the object as UTF-8 encoded JSON bytes (without pretty-printing).
+     * This avoids the intermediate string when the JSON is stored or transmitted as bytes.
+     * Unlike {@link #serialize(Object)}, failure is not swallowed so that callers
+     * never store or transmit an empty body in place of the object.
+     * @param object Object to serialize.
+     * @return The UTF-8 encoded JSON bytes.
+     * @throws RuntimeException If serialization fails.
+     */
+    public static byte[] serializeAsBytes(final Object object) throws RuntimeException {
+        try {
+            return secondaryObjectMapper.writeValueAsBytes(object);
+        } catch (final Exception exception) {
+            throw new RuntimeException("An exception occurred while serializing object as JSON bytes.", exception);
+        }
+    }
+
     private static <Type> Type _deserialize(final String json, final Class<Type> classOfType) throws RuntimeException {
         try {
             return primaryObjectMapper.readValue(json, classOfType);
@@ -87,6 +104,22 @@ public final class JsonSerializer {
         }
     }
 
+    /**
+     * Deserializes UTF-8 encoded JSON bytes as object.
+     * @param json UTF-8 encoded JSON bytes.
+     * @param classOfType Class of the object.
+     * @return The deserialized object. Returns null if deserialization fails.
+     */
+    public static <Type> Type deserialize(final byte[] json, final Class<Type> classOfType) {
+        try {
+            return primaryObjectMapper.readValue(json, classOfType);
+        } catch (final Exception exception) {
+            logger.log(Level.ERROR, "An exception occurred while deserializing JSON bytes as object.", exception);
+
+            return null;
+        }
+    }
+
     public static <Type> Type deserialize(
             final String json,
             final Class<Type> classOfType,
@@ -0,0 +1,246 @@
+package com.snowfall.core.text;
+
+import com.snowfall.core.utilities.CollectionUtilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes bytes as a big number in the radix of the alphabet
+ * (e.g. base58 and base62). Leading zero bytes are written as leading
+ * zero symbols, so that the bytes are restored exactly.
+ *
+ * <p>
+ * Radix conversion is quadratic in the length of the input. To keep it fast
+ * for identifiers and keys, the conversion works on large limbs: thirty-two (32)
+ * bits on the binary side and five (5) symbols on the other side. Inputs that
+ * are several kilobytes long should rather be encoded as base64.
+ * </p>
+ */
+final class RadixCodec {
+
+    private final int radix;
+    private final byte[] symbols;
+    // NOTE: THIS TABLE CONTAINS -1 FOR THE SYMBOLS THAT DO NOT BELONG TO THE ALPHABET...
+    private final byte[] symbolValues;
+    // radix to the power of five (5)...
+    private final long limbRadix;
+    private final int maximumLongSymbolCount;
+    private final String name;
+
+    // NOTE: RADIX TO THE POWER OF FIVE (5) MUST FIT IN THIRTY-ONE (31) BITS. OTHERWISE,
+    // MULTIPLYING A LIMB BY TWO TO THE POWER OF THIRTY-TWO (32) OVERFLOWS A LONG...
+    private static final int SYMBOLS_PER_LIMB = 5;
+    private static final int BITS_PER_BINARY_LIMB = 32;
+
+    static final RadixCodec BASE_58 = new RadixCodec("base58", "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz");
+    static final RadixCodec BASE_62 = new RadixCodec("base62", "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+
+    private RadixCodec(final String name, final String alphabet) {
+        this.name = name;
+        radix = alphabet.length();
+        symbols = alphabet.getBytes(StandardCharsets.US_ASCII);
+        symbolValues = new byte[128];
+        Arrays.fill(symbolValues, (byte) -1);
+
+        for (var i = 0; i < symbols.length; ++i) { symbolValues[symbols[i]] = (byte) i; }
+
+        var limbRadix = 1L;
+
+        for (var i = 0; i < SYMBOLS_PER_LIMB; ++i) { limbRadix *= radix; }
+
+        this.limbRadix = limbRadix;
+        maximumLongSymbolCount = (int) Math.ceil(Long.SIZE / (Math.log(radix) / Math.log(2)));
+    }
+
+    /**
+     * Encodes the bytes as symbols.
+     * @return The encoded text.
+     */
+    String encode(final byte[] bytes) {
+        final var leadingZeroCount = getLeadingZeroCount(bytes);
+        final var significantLength = bytes.length - leadingZeroCount;
+        // NOTE: EVERY SYMBOL HOLDS AT LEAST log2(radix) BITS...
+        final var maximumSymbolCount = (int) (significantLength * 8L * Math.log(2) / Math.log(radix)) + 1;
+        final var limbs = new long[maximumSymbolCount / SYMBOLS_PER_LIMB + 1];
+        // the limbs are stored from the least significant one...
+        var limbCount = 0;
+        // NOTE: THE FIRST CHUNK HOLDS THE BYTES THAT DO NOT FILL A WHOLE BINARY LIMB...
+        var chunkLength = significantLength % 4 == 0 ? 4 : significantLength % 4;
+
+        for (var index = leadingZeroCount; index < bytes.length; index += chunkLength, chunkLength = 4) {
+            var carry = 0L;
+
+            for (var i = 0; i < chunkLength; ++i) { carry = (carry << 8) | (bytes[index + i] & 0xFF); }
+
+            // multiplies the number by two to the power of the chunk bits and adds the chunk...
+            for (var i = 0; i < limbCount; ++i) {
+                carry += limbs[i] << (chunkLength * 8);
+                limbs[i] = carry % limbRadix;
+                carry /= limbRadix;
+            }
+
+            while (carry != 0) {
+                limbs[limbCount++] = carry % limbRadix;
+                carry /= limbRadix;
+            }
+        }
+
+        final var encodedSymbols = new byte[leadingZeroCount + limbCount * SYMBOLS_PER_LIMB];
+        var position = encodedSymbols.length;
+
+        for (var i = 0; i < limbCount; ++i) {
+            var limb = limbs[i];
+
+            for (var j = 0; j < SYMBOLS_PER_LIMB; ++j) {
+                encodedSymbols[--position] = symbols[(int) (limb % radix)];
+                limb /= radix;
+            }
+        }
+
+        // skips the leading zero symbols of the most significant limb...
+        while (position < encodedSymbols.length && encodedSymbols[position] == symbols[0]) { ++position; }
+
+        // writes a zero symbol for each leading zero byte...
+        for (var i = 0; i < leadingZeroCount; ++i) { encodedSymbols[--position] = symbols[0]; }
+
+        // NOTE: LATIN-1 BYTES ARE COPIED TO THE COMPACT STRING AS IS...
+        return new String(encodedSymbols, position, encodedSymbols.length - position, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decodes the encoded text.
+     * @throws IllegalArgumentException If the encoded text contains invalid symbols.
+     */
+    byte[] decode(final CharSequence encodedText) {
+        final var length = encodedText.length();
+        var leadingZeroCount = 0;
+
+        while (leadingZeroCount < length && encodedText.charAt(leadingZeroCount) == symbols[0]) { ++leadingZeroCount; }
+
+        final var significantLength = length - leadingZeroCount;
+
+        // if there are only zero symbols, we shall not proceed any further...
+        if (significantLength == 0) {
+            return leadingZeroCount == 0 ? CollectionUtilities.getEmptyByteArray() : new byte[leadingZeroCount];
+        }
+
+        // NOTE: EVERY SYMBOL HOLDS AT MOST log2(radix) BITS...
+        final var maximumByteCount = (int) (significantLength * Math.log(radix) / Math.log(2) / 8.0) + 1;
+        // the binary limbs are stored from the least significant one...
+        final var limbs = new int[maximumByteCount / 4 + 1];
+        var limbCount = 0;
+        // NOTE: THE FIRST CHUNK HOLDS THE SYMBOLS THAT DO NOT FILL A WHOLE LIMB...
+        var chunkLength = significantLength % SYMBOLS_PER_LIMB == 0 ? SYMBOLS_PER_LIMB : significantLength % SYMBOLS_PER_LIMB;
+
+        for (var index = leadingZeroCount; index < length; index += chunkLength, chunkLength = SYMBOLS_PER_LIMB) {
+            var carry = 0L;
+            var multiplier = 1L;
+
+            for (var i = 0; i < chunkLength; ++i) {
+                carry = carry * radix + getSymbolValue(encodedText, index + i);
+                multiplier *= radix;
+            }
+
+            // multiplies the number by radix to the power of the chunk length and adds the chunk...
+            for (var i = 0; i < limbCount; ++i) {
+                carry += (limbs[i] & 0xFFFFFFFFL) * multiplier;
+                limbs[i] = (int) carry;
+                carry >>>= BITS_PER_BINARY_LIMB;
+            }
+
+            while (carry != 0) {
+                limbs[limbCount++] = (int) carry;
+                carry >>>= BITS_PER_BINARY_LIMB;
+            }
+        }
+
+        var significantByteCount = limbCount * 4;
+
+        // skips the leading zero bytes of the most significant limb...
+        while (significantByteCount > 0 && getByte(limbs, significantByteCount - 1) == 0) { --significantByteCount; }
+
+        final var bytes = new byte[leadingZeroCount + significantByteCount];
+
+        for (var i = 0; i < significantByteCount; ++i) {
+            bytes[bytes.length - 1 - i] = getByte(limbs, i);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Encodes the value as unsigned number without leading zeros.
+     * @return The encoded text.
+     */
+    String encode(final long value) {
+        final var encodedSymbols = new byte[maximumLongSymbolCount];
+        var position = encodedSymbols.length;
+        var remainingValue = value;
+
+        // if the value does not fit in a signed long, we shall perform the first division unsigned...
+        if (remainingValue < 0) {
+            final var quotient = Long.divideUnsigned(remainingValue, radix);
+
+            encodedSymbols[--position] = symbols[(int) (remainingValue - quotient * radix)];
+            remainingValue = quotient;
+        }
+
+        // NOTE: ZERO (0) IS WRITTEN AS A SINGLE SYMBOL...
+        do {
+            encodedSymbols[--position] = symbols[(int) (remainingValue % radix)];
+            remainingValue /= radix;
+        } while (remainingValue != 0);
+
+        return new String(encodedSymbols, position, encodedSymbols.length - position, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decodes the encoded text as unsigned number.
+     * @throws IllegalArgumentException If the encoded text is empty, contains
+     * invalid symbols or the value does not fit in sixty-four (64) bits.
+     */
+    long decodeAsLong(final CharSequence encodedText) {
+        // if the encoded text is empty, we shall throw exception...
+        if (encodedText.isEmpty()) { throw new IllegalArgumentException("Provided encoded text is empty."); }
+
+        final var maximumValueBeforeMultiplication = Long.divideUnsigned(-1L, radix);
+        var value = 0L;
+
+        for (var index = 0; index < encodedText.length(); ++index) {
+            final var symbolValue = getSymbolValue(encodedText, index);
+
+            // if multiplying or adding overflows, we shall throw exception...
+            if (Long.compareUnsigned(value, maximumValueBeforeMultiplication) > 0
+                    || Long.compareUnsigned(value * radix + symbolValue, value * radix) < 0) {
+                throw new IllegalArgumentException("Provided encoded text exceeds the range of long.");
+            }
+
+            value = value * radix + symbolValue;
+        }
+
+        return value;
+    }
+
+    private int getSymbolValue(final CharSequence encodedText, final int index) {
+        final var symbol = encodedText.charAt(index);
+        final var value = symbol < symbolValues.length ? symbolValues[symbol] : -1;
+
+        // if the symbol does not belong to the alphabet, we shall throw exception...
+        if (value < 0) { throw new IllegalArgumentException("Provided encoded text contains invalid " + name + " symbol at index " + index + "."); }
+
+        return value;
+    }
+
+    private static byte getByte(final int[] limbs, final int index) {
+        return (byte) (limbs[index >>> 2] >>> ((index & 3) << 3));
+    }
+
+    private static int getLeadingZeroCount(final byte[] bytes) {
+        var count = 0;
+
+        while (count < bytes.length && bytes[count] == 0) { ++count; }
+
+        return count;
+    }
+}
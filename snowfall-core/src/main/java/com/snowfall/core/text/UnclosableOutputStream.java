@@ -0,0 +1,29 @@
+package com.snowfall.core.text;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Forwards everything to the underlying stream except closing.
+ * Closing this stream only flushes the underlying stream.
+ * Used when the caller owns the underlying stream (e.g. a
+ * {@link com.snowfall.core.io.MemoryOutputStream} whose content
+ * is read after the encoding stream is closed).
+ */
+class UnclosableOutputStream extends FilterOutputStream {
+
+    UnclosableOutputStream(final OutputStream outputStream) {
+        super(outputStream);
+    }
+
+    @Override
+    public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+        out.write(buffer, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+}
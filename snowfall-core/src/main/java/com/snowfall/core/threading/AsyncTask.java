@@ -1,9 +1,11 @@
 package com.snowfall.core.threading;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.Function;
 
 public interface AsyncTask<Type> {
 
@@ -101,6 +103,128 @@ public interface AsyncTask<Type> {
         return AsyncTaskExecutor.run(task);
     }
 
+    /**
+     * Asynchronously executes a CPU-bound task (e.g. hashing,
+     * serialization) on a dedicated work-stealing pool of
+     * platform threads.
+     * @implNote This method is thread-safe.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     */
+    static AsyncTask<?> runCpu(final Runnable task) {
+        return AsyncTaskExecutor.runCpu(task);
+    }
+
+    /**
+     * Asynchronously executes a CPU-bound task (e.g. hashing,
+     * serialization) on a dedicated work-stealing pool of
+     * platform threads.
+     * @implNote This method is thread-safe.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<Type> runCpu(final Callable<Type> task) {
+        return AsyncTaskExecutor.runCpu(task);
+    }
+
+    /**
+     * Asynchronously executes a task after the given delay.
+     * @implNote This method is thread-safe. Scheduling does not
+     * occupy any thread while waiting.
+     * @param delayInMilliseconds Delay (in milliseconds) after which the task shall be executed.
+     * @param task Task to execute.
+     * @return An AsyncTask object. Cancelling its future cancels the scheduled task.
+     */
+    static AsyncTask<?> schedule(final long delayInMilliseconds, final Runnable task) {
+        return AsyncTaskExecutor.schedule(delayInMilliseconds, task);
+    }
+
+    /**
+     * Asynchronously executes a task after the given delay.
+     * @implNote This method is thread-safe. Scheduling does not
+     * occupy any thread while waiting.
+     * @param delayInMilliseconds Delay (in milliseconds) after which the task shall be executed.
+     * @param task Task to execute.
+     * @return An AsyncTask object. Cancelling its future cancels the scheduled task.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<Type> schedule(final long delayInMilliseconds, final Callable<Type> task) {
+        return AsyncTaskExecutor.schedule(delayInMilliseconds, task);
+    }
+
+    /**
+     * Periodically executes a task at a fixed rate. If a run takes
+     * longer than the period, the next run starts immediately after
+     * it (runs never overlap).
+     * @implNote This method is thread-safe.
+     * @param initialDelayInMilliseconds Delay (in milliseconds) before the first run.
+     * @param periodInMilliseconds Period (in milliseconds) between two consecutive runs.
+     * @param task Task to execute.
+     * @return An AsyncTask object that completes only if the task throws exception.
+     * Cancelling its future stops the periodic execution.
+     */
+    static AsyncTask<?> scheduleAtFixedRate(
+            final long initialDelayInMilliseconds,
+            final long periodInMilliseconds,
+            final Runnable task) {
+        return AsyncTaskExecutor.scheduleAtFixedRate(initialDelayInMilliseconds, periodInMilliseconds, task);
+    }
+
+    /**
+     * Asynchronously executes all the tasks as a single batch.
+     * Tasks are split into chunks and each chunk is executed
+     * sequentially on its own virtual thread.
+     * @implNote This method is thread-safe. If any of the tasks
+     * throws exception, the remaining tasks are cancelled and
+     * awaiting the returned task throws that exception.
+     * @param tasks Tasks to execute.
+     * @return An AsyncTask that resolves to the results in the order of the tasks.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<List<Type>> runAll(final Collection<? extends Callable<Type>> tasks) {
+        return AsyncTaskExecutor.runAll(tasks, AsyncTaskExecutor.getDefaultBatchParallelism());
+    }
+
+    /**
+     * Asynchronously executes all the tasks as a single batch.
+     * Tasks are split into chunks and each chunk is executed
+     * sequentially on its own virtual thread.
+     * @implNote This method is thread-safe. If any of the tasks
+     * throws exception, the remaining tasks are cancelled and
+     * awaiting the returned task throws that exception.
+     * @param tasks Tasks to execute.
+     * @param parallelism Maximum number of chunks executed in parallel.
+     * @return An AsyncTask that resolves to the results in the order of the tasks.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<List<Type>> runAll(
+            final Collection<? extends Callable<Type>> tasks,
+            final int parallelism) {
+        return AsyncTaskExecutor.runAll(tasks, parallelism);
+    }
+
+    /**
+     * Asynchronously applies the mapper on all the items as a single batch.
+     * Items are split into chunks and each chunk is processed
+     * sequentially on its own virtual thread.
+     * @implNote This method is thread-safe. If the mapper
+     * throws exception for any of the items, the remaining items are
+     * not processed and awaiting the returned task throws that exception.
+     * @param items Items to be mapped.
+     * @param mapper Function to apply on each item.
+     * @param parallelism Maximum number of chunks processed in parallel.
+     * @return An AsyncTask that resolves to the results in the order of the items.
+     * @param <InputType> Type of the items.
+     * @param <OutputType> Type of the results.
+     */
+    static <InputType, OutputType> AsyncTask<List<OutputType>> map(
+            final Collection<InputType> items,
+            final Function<? super InputType, ? extends OutputType> mapper,
+            final int parallelism) {
+        return AsyncTaskExecutor.map(items, mapper, parallelism);
+    }
+
     /**
      * Awaits all the async tasks.
      * @param asyncTasks Async tasks to be awaited.
@@ -184,6 +308,24 @@ public interface AsyncTask<Type> {
         return AsyncTaskExecutor.getExecutorService();
     }
 
+    /**
+     * Retrieves the executor service responsible for the
+     * CPU-bound asynchronous tasks.
+     * @return The CPU-bound executor service.
+     */
+    static ExecutorService getCpuBoundExecutorService() {
+        return AsyncTaskExecutor.getCpuBoundExecutorService();
+    }
+
+    /**
+     * Retrieves the timer wheel responsible for the
+     * scheduled asynchronous tasks.
+     * @return The timer wheel.
+     */
+    static TimerWheel getTimerWheel() {
+        return AsyncTaskExecutor.getTimerWheel();
+    }
+
     /**
      * Releases all the resources associated with the
      * asynchronous task execution runtime.
@@ -1,5 +1,7 @@
 package com.snowfall.core.threading;
 
+import com.snowfall.core.configurations.ConfigurationProvider;
+import com.snowfall.core.utilities.CollectionUtilities;
 import com.snowfall.core.utilities.ObjectUtilities;
 import com.snowfall.core.utilities.ThreadUtilities;
 import org.apache.logging.log4j.Level;
@@ -7,17 +9,61 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 final class AsyncTaskExecutor {
 
     private static final int EXECUTOR_SERVICE_TERMINATION_WAIT_TIMEOUT_IN_MILLISECONDS = 20;
+    private static final long TIMER_WHEEL_TICK_DURATION_IN_MILLISECONDS = 1L;
     private static final Logger logger = LogManager.getLogger(AsyncTaskExecutor.class);
     private static final ThreadFactory virtualThreadFactory = Thread.ofVirtual()
             .name("virtual-", 1L)
             .factory();
     private static final ExecutorService executorService = Executors.newThreadPerTaskExecutor(virtualThreadFactory);
+    // NOTE: THIS LOCK GUARDS THE LAZY INITIALIZATION OF THE CPU-BOUND EXECUTOR SERVICE...
+    private static final Lock cpuBoundExecutorServiceLock = new ReentrantLock(false);
+    // NOTE: CPU-BOUND EXECUTOR SERVICE IS CREATED ON FIRST USE SO THAT
+    // IT CAN BE SIZED FROM THE LOADED CONFIGURATION...
+    private static volatile ForkJoinPool cpuBoundExecutorService;
+    // NOTE: THIS LOCK GUARDS THE LAZY INITIALIZATION OF THE TIMER WHEEL...
+    private static final Lock timerWheelLock = new ReentrantLock(false);
+    // NOTE: TIMER WHEEL IS CREATED ON FIRST USE SO THAT NO TICKER
+    // THREAD IS STARTED UNLESS SCHEDULING IS USED...
+    private static volatile TimerWheel timerWheel;
+
+    /**
+     * Maps an item to a result. Unlike {@link Function},
+     * this interface allows checked exceptions to be thrown.
+     */
+    private interface ItemMapper<InputType, OutputType> {
+        OutputType map(final InputType item) throws Exception;
+    }
+
+    /**
+     * Retrieves the parallelism of the CPU-bound executor service.
+     * @implNote The parallelism is taken from the virtual thread
+     * scheduler configuration (if loaded). Otherwise, the number of
+     * available processors is used.
+     * @return The parallelism of the CPU-bound executor service.
+     */
+    private static int getCpuBoundParallelism() {
+        final var configuration = ConfigurationProvider.getConfiguration();
+        final var virtualThreadSchedulerConfiguration = configuration == null
+                ? null
+                : configuration.getVirtualThreadScheduler();
+        final var parallelism = virtualThreadSchedulerConfiguration == null
+                ? Runtime.getRuntime().availableProcessors()
+                : virtualThreadSchedulerConfiguration.getAvailablePlatformThreadCount();
+
+        // parallelism must be at least one (1)...
+        return Math.max(parallelism, 1);
+    }
 
     /**
      * This method submits a task to the executor service
@@ -26,8 +72,22 @@ final class AsyncTaskExecutor {
      * @return An AsyncTask object.
      * @param <Type> Asynchronous task result type.
      */
-    @SuppressWarnings(value = "unchecked")
     private static <Type> AsyncTask<Type> submitTaskToExecutorService(final Object task) {
+        return submitTaskToExecutorService(executorService, task);
+    }
+
+    /**
+     * This method submits a task to the provided executor service
+     * in a thread-safe manner.
+     * @param executorService Executor service to submit the task to.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     * @param <Type> Asynchronous task result type.
+     */
+    @SuppressWarnings(value = "unchecked")
+    private static <Type> AsyncTask<Type> submitTaskToExecutorService(
+            final ExecutorService executorService,
+            final Object task) {
         Future<?> future = null;
         Throwable throwable = null;
 
@@ -77,6 +137,288 @@ final class AsyncTaskExecutor {
         return submitTaskToExecutorService(task);
     }
 
+    /**
+     * Asynchronously executes a CPU-bound task on a dedicated
+     * pool of platform threads so that it does not monopolize
+     * the carrier threads of the virtual threads.
+     * @implNote This method is thread-safe.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     */
+    static AsyncTask<?> runCpu(final Runnable task) {
+        return submitTaskToExecutorService(getCpuBoundExecutorService(), task);
+    }
+
+    /**
+     * Asynchronously executes a CPU-bound task on a dedicated
+     * pool of platform threads so that it does not monopolize
+     * the carrier threads of the virtual threads.
+     * @implNote This method is thread-safe.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<Type> runCpu(final Callable<Type> task) {
+        return submitTaskToExecutorService(getCpuBoundExecutorService(), task);
+    }
+
+    /**
+     * Executes the task and completes the future with the result.
+     * @param future Future to complete.
+     * @param task Task to execute.
+     * @param <Type> Asynchronous task result type.
+     */
+    private static <Type> void completeScheduledTask(
+            final ScheduledTaskFuture<Type> future,
+            final Callable<Type> task) {
+        // if the future is already cancelled, we shall not execute the task...
+        if (future.isDone()) { return; }
+
+        try {
+            future.complete(task.call());
+        } catch (final Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Completes the future of a scheduled task that will never be executed
+     * (e.g. the timer wheel is closed before the task is due).
+     * @param future Future representing the scheduled task.
+     */
+    private static void discardScheduledTask(final CompletableFuture<?> future) {
+        future.completeExceptionally(new IllegalStateException("Scheduled task is discarded because the timer wheel is closed."));
+    }
+
+    /**
+     * Asynchronously executes a task after the given delay.
+     * @implNote This method is thread-safe.
+     * @param delayInMilliseconds Delay (in milliseconds) after which the task shall be executed.
+     * @param task Task to execute.
+     * @return An AsyncTask object. Cancelling its future cancels the scheduled task.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<Type> schedule(final long delayInMilliseconds, final Callable<Type> task) {
+        final var future = new ScheduledTaskFuture<Type>();
+
+        try {
+            final var timeout = getTimerWheel().schedule(delayInMilliseconds, TimeUnit.MILLISECONDS,
+                    () -> completeScheduledTask(future, task), () -> discardScheduledTask(future));
+
+            future.setTimeout(timeout);
+        } catch (final Throwable throwable) {
+            logger.log(Level.ERROR, "An exception occurred while scheduling the async task.", throwable);
+
+            return AsyncTask.from(throwable);
+        }
+
+        return AsyncTask.from(future);
+    }
+
+    /**
+     * Asynchronously executes a task after the given delay.
+     * @implNote This method is thread-safe.
+     * @param delayInMilliseconds Delay (in milliseconds) after which the task shall be executed.
+     * @param task Task to execute.
+     * @return An AsyncTask object. Cancelling its future cancels the scheduled task.
+     */
+    static AsyncTask<?> schedule(final long delayInMilliseconds, final Runnable task) {
+        return schedule(delayInMilliseconds, () -> {
+            task.run();
+
+            return null;
+        });
+    }
+
+    /**
+     * Schedules the next run of a periodic task.
+     * @param future Future representing the periodic task.
+     * @param task Task to execute.
+     * @param deadlineInNanoseconds Deadline of the next run (relative to System.nanoTime()).
+     * @param periodInNanoseconds Period between two consecutive runs.
+     */
+    private static void scheduleNextRun(
+            final ScheduledTaskFuture<Object> future,
+            final Runnable task,
+            final long deadlineInNanoseconds,
+            final long periodInNanoseconds) {
+        // if the periodic task is cancelled or failed, we shall not proceed any further...
+        if (future.isDone()) { return; }
+
+        final var delayInNanoseconds = deadlineInNanoseconds - System.nanoTime();
+        final Timeout timeout;
+
+        try {
+            timeout = getTimerWheel().schedule(delayInNanoseconds, TimeUnit.NANOSECONDS, () -> {
+                if (future.isDone()) { return; }
+
+                try {
+                    task.run();
+                } catch (final Throwable throwable) {
+                    logger.log(Level.ERROR, "An exception occurred while running the periodic task.", throwable);
+
+                    // NOTE: LIKE ScheduledExecutorService, SUBSEQUENT RUNS ARE SUPPRESSED...
+                    future.completeExceptionally(throwable);
+
+                    return;
+                }
+
+                // NOTE: THE NEXT DEADLINE IS BASED ON THE PREVIOUS DEADLINE (NOT ON THE COMPLETION TIME)
+                // SO THAT THE RATE IS PRESERVED. IF A RUN TAKES LONGER THAN THE PERIOD, THE NEXT RUN
+                // STARTS IMMEDIATELY (RUNS NEVER OVERLAP)...
+                scheduleNextRun(future, task, deadlineInNanoseconds + periodInNanoseconds, periodInNanoseconds);
+            }, () -> discardScheduledTask(future));
+        } catch (final Throwable throwable) {
+            logger.log(Level.ERROR, "An exception occurred while scheduling the next run of the periodic task.", throwable);
+
+            // NOTE: THE FUTURE MUST BE COMPLETED. OTHERWISE, THE CALLERS
+            // AWAITING THE PERIODIC TASK WOULD BLOCK FOREVER...
+            future.completeExceptionally(throwable);
+
+            return;
+        }
+
+        future.setTimeout(timeout);
+    }
+
+    /**
+     * Periodically executes a task at a fixed rate.
+     * @implNote This method is thread-safe.
+     * @param initialDelayInMilliseconds Delay (in milliseconds) before the first run.
+     * @param periodInMilliseconds Period (in milliseconds) between two consecutive runs.
+     * @param task Task to execute.
+     * @return An AsyncTask object that completes only if the task throws exception.
+     * Cancelling its future stops the periodic execution.
+     */
+    static AsyncTask<?> scheduleAtFixedRate(
+            final long initialDelayInMilliseconds,
+            final long periodInMilliseconds,
+            final Runnable task) {
+        if (periodInMilliseconds < 1L) {
+            return AsyncTask.from(new IllegalArgumentException("Period must be greater than zero."));
+        }
+
+        final var future = new ScheduledTaskFuture<Object>();
+        final var deadlineInNanoseconds = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(Math.max(initialDelayInMilliseconds, 0L));
+
+        // NOTE: IF THE FIRST RUN CANNOT BE SCHEDULED, THE FUTURE IS COMPLETED EXCEPTIONALLY...
+        scheduleNextRun(future, task, deadlineInNanoseconds, TimeUnit.MILLISECONDS.toNanos(periodInMilliseconds));
+
+        return AsyncTask.from(future);
+    }
+
+    /**
+     * Retrieves the default parallelism of the batch operations.
+     * @return The default batch parallelism.
+     */
+    static int getDefaultBatchParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Maps all the items in chunks. Each chunk is processed sequentially
+     * on its own virtual thread and at most the given number of chunks
+     * are processed in parallel.
+     * @param items Items to be mapped.
+     * @param mapper Mapper to apply on each item.
+     * @param parallelism Maximum number of chunks processed in parallel.
+     * @return An AsyncTask that resolves to the results in the order of the items.
+     * @param <InputType> Type of the items.
+     * @param <OutputType> Type of the results.
+     */
+    @SuppressWarnings(value = "unchecked")
+    private static <InputType, OutputType> AsyncTask<List<OutputType>> mapInChunks(
+            final List<InputType> items,
+            final ItemMapper<InputType, OutputType> mapper,
+            final int parallelism) {
+        // if no item is provided, we shall return an empty list...
+        if (items == null || items.isEmpty()) { return AsyncTask.from(CollectionUtilities.getEmptyList()); }
+
+        final var itemCount = items.size();
+        // parallelism must be within the range [1, item count]...
+        final var sanitizedParallelism = Math.min(Math.max(parallelism, 1), itemCount);
+        // calculating the number of items per chunk (rounded up)...
+        final var itemCountPerChunk = (itemCount + sanitizedParallelism - 1) / sanitizedParallelism;
+        // splitting the items into chunks...
+        // NOTE: ALL THE CHUNKS EXCEPT THE LAST ONE CONTAIN EXACTLY itemCountPerChunk ITEMS...
+        final var chunks = CollectionUtilities.split(items, itemCountPerChunk);
+
+        return run(() -> {
+            // this array holds the results of all the items...
+            final var results = new Object[itemCount];
+            final var futures = new Future<?>[chunks.size()];
+
+            for (var i = 0; i < futures.length; ++i) {
+                final var chunk = chunks.get(i);
+                final var offset = i * itemCountPerChunk;
+
+                futures[i] = executorService.submit(() -> {
+                    for (var j = 0; j < chunk.size(); ++j) {
+                        results[offset + j] = mapper.map(chunk.get(j));
+                    }
+
+                    return null;
+                });
+            }
+
+            try {
+                // waits for all the chunks to complete...
+                for (final var future : futures) { future.get(); }
+            } catch (final ExecutionException exception) {
+                // if any of the chunks fails, we shall cancel the remaining chunks...
+                for (final var future : futures) { future.cancel(true); }
+
+                final var cause = exception.getCause();
+
+                // and re-throw the original exception...
+                if (cause instanceof Exception _exception) { throw _exception; }
+
+                throw exception;
+            }
+
+            return (List<OutputType>) Arrays.asList(results);
+        });
+    }
+
+    /**
+     * Asynchronously executes all the tasks in chunks.
+     * @implNote This method is thread-safe.
+     * @param tasks Tasks to execute.
+     * @param parallelism Maximum number of chunks executed in parallel.
+     * @return An AsyncTask that resolves to the results in the order of the tasks.
+     * @param <Type> Asynchronous task result type.
+     */
+    static <Type> AsyncTask<List<Type>> runAll(
+            final Collection<? extends Callable<Type>> tasks,
+            final int parallelism) {
+        final List<Callable<Type>> taskList = tasks == null ? null : new ArrayList<>(tasks);
+
+        return mapInChunks(taskList, Callable::call, parallelism);
+    }
+
+    /**
+     * Asynchronously maps all the items in chunks.
+     * @implNote This method is thread-safe.
+     * @param items Items to be mapped.
+     * @param mapper Function to apply on each item.
+     * @param parallelism Maximum number of chunks processed in parallel.
+     * @return An AsyncTask that resolves to the results in the order of the items.
+     * @param <InputType> Type of the items.
+     * @param <OutputType> Type of the results.
+     */
+    @SuppressWarnings(value = "unchecked")
+    static <InputType, OutputType> AsyncTask<List<OutputType>> map(
+            final Collection<InputType> items,
+            final Function<? super InputType, ? extends OutputType> mapper,
+            final int parallelism) {
+        final List<InputType> itemList = items == null || items instanceof List<InputType>
+                ? (List<InputType>) items
+                : new ArrayList<>(items);
+
+        return mapInChunks(itemList, mapper::apply, parallelism);
+    }
+
     /**
      * Throws exception if the provided array of objects
      * contains exception.
@@ -225,6 +567,76 @@ final class AsyncTaskExecutor {
         return executorService;
     }
 
+    /**
+     * Retrieves the work-stealing executor service responsible
+     * for the CPU-bound asynchronous tasks. The executor service
+     * is created on first use.
+     * @return The CPU-bound executor service.
+     */
+    static ExecutorService getCpuBoundExecutorService() {
+        var cpuBoundExecutorService = AsyncTaskExecutor.cpuBoundExecutorService;
+
+        // if the executor service is already created, we shall return it...
+        if (cpuBoundExecutorService != null) { return cpuBoundExecutorService; }
+
+        cpuBoundExecutorServiceLock.lock();         // <-- synchronized initialization starts...
+
+        try {
+            // NOTE: WITHIN THE LOCK, WE MUST CHECK AGAIN IF ANY OTHER THREAD HAS ALREADY CREATED THE EXECUTOR SERVICE...
+            cpuBoundExecutorService = AsyncTaskExecutor.cpuBoundExecutorService;
+
+            if (cpuBoundExecutorService == null) {
+                final var parallelism = getCpuBoundParallelism();
+
+                logger.log(Level.INFO, "Creating CPU-bound executor service with parallelism of {}.", parallelism);
+
+                cpuBoundExecutorService = new ForkJoinPool(parallelism, pool -> {
+                    final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("cpu-" + thread.getPoolIndex());
+
+                    return thread;
+                }, null, true);         // <-- asynchronous mode (FIFO) suits independently submitted tasks...
+
+                AsyncTaskExecutor.cpuBoundExecutorService = cpuBoundExecutorService;
+            }
+        } finally {
+            cpuBoundExecutorServiceLock.unlock();   // <-- synchronized initialization ends...
+        }
+
+        return cpuBoundExecutorService;
+    }
+
+    /**
+     * Retrieves the timer wheel responsible for the scheduled
+     * asynchronous tasks. The timer wheel is created on first use.
+     * @return The timer wheel.
+     */
+    static TimerWheel getTimerWheel() {
+        var timerWheel = AsyncTaskExecutor.timerWheel;
+
+        // if the timer wheel is already created, we shall return it...
+        if (timerWheel != null) { return timerWheel; }
+
+        timerWheelLock.lock();          // <-- synchronized initialization starts...
+
+        try {
+            // NOTE: WITHIN THE LOCK, WE MUST CHECK AGAIN IF ANY OTHER THREAD HAS ALREADY CREATED THE TIMER WHEEL...
+            timerWheel = AsyncTaskExecutor.timerWheel;
+
+            if (timerWheel == null) {
+                // NOTE: EXPIRED TASKS ARE EXECUTED ON VIRTUAL THREADS...
+                timerWheel = new TimerWheel("timer-wheel", TIMER_WHEEL_TICK_DURATION_IN_MILLISECONDS,
+                        TimeUnit.MILLISECONDS, executorService);
+
+                AsyncTaskExecutor.timerWheel = timerWheel;
+            }
+        } finally {
+            timerWheelLock.unlock();    // <-- synchronized initialization ends...
+        }
+
+        return timerWheel;
+    }
+
     /**
      * Releases all the resources associated with the
      * asynchronous task execution runtime.
@@ -232,6 +644,12 @@ final class AsyncTaskExecutor {
     static void dispose() {
         logger.log(Level.INFO, "Releasing all the resources associated with the asynchronous task executor.");
 
+        // retrieving the timer wheel (if created)...
+        final var timerWheel = AsyncTaskExecutor.timerWheel;
+
+        // stops the ticker thread so that no more scheduled tasks are submitted...
+        if (timerWheel != null) { timerWheel.close(); }
+
         try {
             executorService.shutdownNow();
 
@@ -248,6 +666,25 @@ final class AsyncTaskExecutor {
 
         logger.log(Level.INFO, "Successfully terminated the executor service.");
 
+        // retrieving the CPU-bound executor service (if created)...
+        final var cpuBoundExecutorService = AsyncTaskExecutor.cpuBoundExecutorService;
+
+        if (cpuBoundExecutorService != null) {
+            try {
+                cpuBoundExecutorService.shutdownNow();
+
+                logger.log(Level.INFO, "CPU-bound executor service shutdown successful.");
+            } catch (final Throwable throwable) {
+                logger.log(Level.ERROR, "An exception occurred while shutting down the CPU-bound executor service.", throwable);
+            }
+
+            // waits for the CPU-bound executor service termination...
+            while (!ThreadUtilities.awaitExecutorServiceTermination(
+                    EXECUTOR_SERVICE_TERMINATION_WAIT_TIMEOUT_IN_MILLISECONDS, cpuBoundExecutorService)) {
+                logger.log(Level.INFO, "Waiting for the CPU-bound executor service termination.");
+            }
+        }
+
         try {
             executorService.close();
 
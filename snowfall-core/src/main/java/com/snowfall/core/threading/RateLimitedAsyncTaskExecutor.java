@@ -0,0 +1,255 @@
+package com.snowfall.core.threading;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This class makes sure that asynchronous tasks are started
+ * at a limited rate (permits per second) per execution context.
+ * @implNote If the rate is set to 0, no limit is applied.
+ * Calling the no-argument constructor also sets the rate
+ * to 0.
+ */
+public class RateLimitedAsyncTaskExecutor {
+
+    private final Logger logger = LogManager.getLogger(RateLimitedAsyncTaskExecutor.class);
+    private final double defaultPermitsPerSecond;
+    private final int defaultBurstCapacity;
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock(false);      // <-- this lock is used for thread synchronization...
+    // NOTE: READ LOCK CAN BE ACQUIRED BY MULTIPLE THREADS SIMULTANEOUSLY
+    // WHEN NO OTHER THREAD HAS ACQUIRED THE WRITE LOCK...
+    private final Lock readLock = readWriteLock.readLock();
+    // NOTE: WRITE LOCK CAN ONLY BE ACQUIRED BY A SINGLE THREAD...
+    private final Lock writeLock = readWriteLock.writeLock();
+    private final Map<String, Double> permitsPerSecondMapByContext;
+    // NOTE: THIS MAP CONTAINS RATE LIMITER AS VALUE AND CONTEXT AS KEY...
+    private final Map<String, RateLimiter> rateLimiterMapByContext
+            = new HashMap<>(RATE_LIMITER_MAP_BY_CONTEXT_INITIAL_CAPACITY);
+
+    private static final int RATE_LIMITER_MAP_BY_CONTEXT_INITIAL_CAPACITY = 16;
+    // NOTE: THIS IS A GARBAGE VALUE...
+    private static final String DEFAULT_CONTEXT = "9#b1e0Q7c2d@4f8a!63e5d90R1b7c4e2a8f05T3";
+
+    public RateLimitedAsyncTaskExecutor() {
+        // setting the default rate to 0 by calling the other constructor...
+        this(0.0);
+    }
+
+    public RateLimitedAsyncTaskExecutor(final double defaultPermitsPerSecond) {
+        this(defaultPermitsPerSecond, 1);
+    }
+
+    public RateLimitedAsyncTaskExecutor(final double defaultPermitsPerSecond, final int defaultBurstCapacity) {
+        this(defaultPermitsPerSecond, defaultBurstCapacity, null);
+    }
+
+    public RateLimitedAsyncTaskExecutor(
+            final double defaultPermitsPerSecond,
+            final int defaultBurstCapacity,
+            final Map<String, Double> permitsPerSecondMapByContext) {
+        // applying the sanitized default rate...
+        this.defaultPermitsPerSecond = sanitizePermitsPerSecond(defaultPermitsPerSecond);
+        // burst capacity must be at least one (1)...
+        this.defaultBurstCapacity = Math.max(defaultBurstCapacity, 1);
+        // setting the rate map by context...
+        this.permitsPerSecondMapByContext = permitsPerSecondMapByContext;
+
+        // if map is not provided, we shall not proceed any further...
+        if (permitsPerSecondMapByContext == null) { return; }
+
+        // otherwise, we shall retrieve all the entries of the map...
+        final var entrySet = permitsPerSecondMapByContext.entrySet();
+
+        // and initialize our map...
+        for (final var entry : entrySet) {
+            // retrieving the context...
+            final var context = entry.getKey();
+            // retrieving and sanitizing the rate to be applied for the context...
+            final var sanitizedPermitsPerSecond = sanitizePermitsPerSecond(entry.getValue());
+
+            // if rate is zero (0), we shall skip this iteration...
+            // NOTE: IF sanitizedPermitsPerSecond IS ZERO (0), WE ARE NOT CREATING THE RATE LIMITER
+            // BEFOREHAND SO THAT IT GETS CREATED LATER UTILIZING THE DEFAULT RATE...
+            if (sanitizedPermitsPerSecond == 0.0) { continue; }
+
+            // then we shall create a new rate limiter for the context...
+            final var rateLimiter = new RateLimiter(sanitizedPermitsPerSecond, this.defaultBurstCapacity);
+
+            // and finally we shall put the rate limiter to the map...
+            // NOTE: THREAD SYNCHRONIZATION IS NOT NEEDED BECAUSE
+            // THIS OPERATION IS BEING PERFORMED IN THE CONSTRUCTOR...
+            rateLimiterMapByContext.put(context, rateLimiter);
+        }
+    }
+
+    /**
+     * Retrieves rate limiter by context.
+     * @implNote This method provides synchronous access to rate limiter.
+     * @param context Context for which rate limiter shall be retrieved.
+     * @return The rate limiter.
+     */
+    private RateLimiter retrieveRateLimiter(final String context) {
+        RateLimiter rateLimiter;
+
+        readLock.lock();        // <-- synchronized read starts...
+
+        // gets the rate limiter by context...
+        rateLimiter = rateLimiterMapByContext.get(context);
+
+        readLock.unlock();      // <-- synchronized read ends...
+
+        // if rate limiter is found, we'll return the rate limiter...
+        if (rateLimiter != null) { return rateLimiter; }
+
+        writeLock.lock();       // <-- synchronized write starts...
+
+        // we shall try to get the rate limiter by context once again...
+        // NOTE: WITHIN THE WRITE LOCK, WE MUST FIRST CHECK IF ANY OTHER THREAD HAS ALREADY CREATED A RATE LIMITER...
+        rateLimiter = rateLimiterMapByContext.get(context);
+
+        // if rate limiter is not found...
+        // NOTE: IF RATE IS EQUAL TO ZERO (0), WE SHALL NOT
+        // CREATE NEW RATE LIMITER. INSTEAD, WE SHALL RETURN NULL...
+        if (defaultPermitsPerSecond > 0.0 && rateLimiter == null) {
+            logger.log(Level.INFO, "Creating a new rate limiter because no rate limiter found for the given context, \"{}\".", context);
+
+            // we shall create a new rate limiter for the context...
+            rateLimiter = new RateLimiter(defaultPermitsPerSecond, defaultBurstCapacity);
+
+            // put the newly created rate limiter to the map...
+            rateLimiterMapByContext.put(context, rateLimiter);
+        }
+
+        writeLock.unlock();      // <-- synchronized write ends...
+
+        // return the rate limiter...
+        return rateLimiter;
+    }
+
+    public double getDefaultPermitsPerSecond() {
+        return defaultPermitsPerSecond;
+    }
+
+    public int getDefaultBurstCapacity() {
+        return defaultBurstCapacity;
+    }
+
+    public double getPermitsPerSecond(final String context) {
+        if (context == null || permitsPerSecondMapByContext == null) { return getDefaultPermitsPerSecond(); }
+
+        return permitsPerSecondMapByContext.getOrDefault(context, getDefaultPermitsPerSecond());
+    }
+
+    /**
+     * Tries to acquire a permit on the default execution
+     * context without waiting.
+     * @implNote This method is thread-safe.
+     * @return True if the permit is acquired. Otherwise, false.
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(DEFAULT_CONTEXT);
+    }
+
+    /**
+     * Tries to acquire a permit on the provided execution
+     * context without waiting.
+     * @implNote This method is thread-safe.
+     * @param context Task execution context.
+     * @return True if the permit is acquired. Otherwise, false.
+     */
+    public boolean tryAcquire(final String context) {
+        final var rateLimiter = retrieveRateLimiter(context);
+
+        // if rate limiter is null, it means no rate is applied...
+        if (rateLimiter == null) { return true; }
+
+        return rateLimiter.tryAcquire();
+    }
+
+    /**
+     * Asynchronously executes a task with the applied rate
+     * on the default execution context.
+     * @implNote This method is thread-safe.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     */
+    public AsyncTask<?> run(final Runnable task) {
+        return run(DEFAULT_CONTEXT, task);
+    }
+
+    /**
+     * Asynchronously executes a task with the applied rate
+     * on the provided execution context.
+     * @implNote This method is thread-safe.
+     * @param context Task execution context.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     */
+    public AsyncTask<?> run(final String context, final Runnable task) {
+        return run(context, () -> {
+            task.run();
+
+            return null;
+        });
+    }
+
+    /**
+     * Asynchronously executes a task with the applied rate
+     * on the default execution context.
+     * @implNote This method is thread-safe.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     */
+    public <Type> AsyncTask<Type> run(final Callable<Type> task) {
+        return run(DEFAULT_CONTEXT, task);
+    }
+
+    /**
+     * Asynchronously executes a task with the applied rate
+     * on the provided execution context. The virtual thread
+     * executing the task sleeps until a permit becomes available.
+     * @implNote This method is thread-safe.
+     * @param context Task execution context.
+     * @param task Task to execute.
+     * @return An AsyncTask object.
+     */
+    public <Type> AsyncTask<Type> run(final String context, final Callable<Type> task) {
+        return AsyncTask.run(() -> {
+            // retrieve rate limiter by the provided task execution context...
+            final var rateLimiter = retrieveRateLimiter(context);
+
+            // if rate limiter is null, it means the rate is zero...
+            if (rateLimiter == null) {
+                // so we shall execute the task as usual...
+                return task.call();
+            }
+
+            try {
+                // waits until a permit becomes available...
+                rateLimiter.acquire();
+            } catch (final InterruptedException exception) {
+                logger.log(Level.WARN, "An exception occurred while acquiring permit from the rate limiter.", exception);
+
+                // if acquiring permit fails, we'll return null...
+                return null;
+            }
+
+            // otherwise, we shall execute the task...
+            return task.call();
+        });
+    }
+
+    private static double sanitizePermitsPerSecond(final double permitsPerSecond) {
+        // if the rate is less than or equal to zero (0) or not a number, we shall return zero (0).
+        // otherwise, we shall return the rate...
+        return permitsPerSecond > 0.0 ? permitsPerSecond : 0.0;
+    }
+}
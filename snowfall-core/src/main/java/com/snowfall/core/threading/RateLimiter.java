@@ -0,0 +1,105 @@
+package com.snowfall.core.threading;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free rate limiter based on the generic cell rate algorithm (GCRA).
+ * Each permit advances a single "theoretical arrival time" by the emission
+ * interval (1 / permits per second). A request is allowed as long as the
+ * theoretical arrival time does not run ahead of the current time by more
+ * than the burst capacity allows.
+ * @implNote This class is thread-safe. Waiting is performed by sleeping
+ * the current thread, which unmounts virtual threads from their carrier
+ * instead of spinning.
+ */
+public class RateLimiter {
+
+    private final double permitsPerSecond;
+    private final int burstCapacity;
+    private final long emissionIntervalInNanoseconds;
+    private final long burstToleranceInNanoseconds;
+    // NOTE: THIS VALUE IS RELATIVE TO System.nanoTime()...
+    private final AtomicLong theoreticalArrivalTime;
+
+    private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+
+    public RateLimiter(final double permitsPerSecond) {
+        this(permitsPerSecond, 1);
+    }
+
+    public RateLimiter(final double permitsPerSecond, final int burstCapacity) {
+        // if permits per second is not positive, we shall throw exception...
+        if (!(permitsPerSecond > 0.0)) {
+            throw new IllegalArgumentException("Permits per second must be greater than zero.");
+        }
+
+        this.permitsPerSecond = permitsPerSecond;
+        // burst capacity must be at least one (1)...
+        this.burstCapacity = Math.max(burstCapacity, 1);
+        // calculating the interval between two consecutive permits...
+        emissionIntervalInNanoseconds = Math.max((long) (NANOSECONDS_PER_SECOND / permitsPerSecond), 1L);
+        // calculating how far the theoretical arrival time may run ahead of the current time...
+        burstToleranceInNanoseconds = emissionIntervalInNanoseconds * this.burstCapacity;
+        // NOTE: STARTING WITH THE CURRENT TIME ALLOWS AN IMMEDIATE FULL BURST...
+        theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    /**
+     * Tries to acquire a permit without waiting.
+     * @return True if the permit is acquired. Otherwise, false.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            final var currentTime = System.nanoTime();
+            final var previousArrivalTime = theoreticalArrivalTime.get();
+            final var nextArrivalTime = Math.max(previousArrivalTime, currentTime) + emissionIntervalInNanoseconds;
+
+            // if the permit would exceed the burst tolerance, we shall reject the request...
+            if (nextArrivalTime - currentTime > burstToleranceInNanoseconds) { return false; }
+            // otherwise, we shall try to claim the permit...
+            if (theoreticalArrivalTime.compareAndSet(previousArrivalTime, nextArrivalTime)) { return true; }
+        }
+    }
+
+    /**
+     * Reserves a permit and calculates how long the caller
+     * must wait before the permit can be used.
+     * @return The time to wait (in nanoseconds). Zero (0) means
+     * the permit can be used immediately.
+     */
+    public long reserve() {
+        while (true) {
+            final var currentTime = System.nanoTime();
+            final var previousArrivalTime = theoreticalArrivalTime.get();
+            final var nextArrivalTime = Math.max(previousArrivalTime, currentTime) + emissionIntervalInNanoseconds;
+
+            // if another thread updated the arrival time, we shall retry...
+            if (!theoreticalArrivalTime.compareAndSet(previousArrivalTime, nextArrivalTime)) { continue; }
+
+            // the permit becomes available when the arrival time falls within the burst tolerance...
+            return Math.max(nextArrivalTime - burstToleranceInNanoseconds - currentTime, 0L);
+        }
+    }
+
+    /**
+     * Acquires a permit, waiting if necessary.
+     * @throws InterruptedException If the current thread is interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        final var waitTimeInNanoseconds = reserve();
+
+        // if no waiting is required, we shall return...
+        if (waitTimeInNanoseconds == 0L) { return; }
+
+        // NOTE: SLEEPING A VIRTUAL THREAD RELEASES ITS CARRIER THREAD...
+        Thread.sleep(waitTimeInNanoseconds / 1_000_000L, (int) (waitTimeInNanoseconds % 1_000_000L));
+    }
+}
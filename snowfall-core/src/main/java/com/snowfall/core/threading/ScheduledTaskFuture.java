@@ -0,0 +1,33 @@
+package com.snowfall.core.threading;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A future representing a task scheduled on the timer wheel.
+ * Cancelling the future also cancels the underlying timeout.
+ * @param <Type> Type of the task result.
+ */
+class ScheduledTaskFuture<Type> extends CompletableFuture<Type> {
+
+    private volatile Timeout timeout;
+
+    ScheduledTaskFuture() { }
+
+    void setTimeout(final Timeout timeout) {
+        this.timeout = timeout;
+
+        // NOTE: THE FUTURE MIGHT HAVE BEEN CANCELLED BEFORE THE TIMEOUT WAS ASSIGNED...
+        if (isCancelled()) { timeout.cancel(); }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final var cancelled = super.cancel(mayInterruptIfRunning);
+        final var timeout = this.timeout;
+
+        // if the future is cancelled, we shall also cancel the timeout...
+        if (cancelled && timeout != null) { timeout.cancel(); }
+
+        return cancelled;
+    }
+}
@@ -0,0 +1,186 @@
+package com.snowfall.core.threading;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent executions of the same work. While a task is
+ * in flight for a key, every other caller with the same key receives
+ * the same async task instead of executing the work again.
+ * @implNote This class is thread-safe. The entry for a key is removed
+ * as soon as the task completes, so results are never cached. If the
+ * task throws exception, the exception is propagated to all the callers
+ * awaiting the task.
+ * @param <KeyType> Type of the keys.
+ * @param <ValueType> Type of the results.
+ */
+public class SingleFlight<KeyType, ValueType> {
+
+    // NOTE: THIS MAP CONTAINS IN-FLIGHT FUTURE AS VALUE AND KEY AS KEY...
+    private final Map<KeyType, CompletableFuture<ValueType>> futureMapByKey
+            = new ConcurrentHashMap<>(FUTURE_MAP_BY_KEY_INITIAL_CAPACITY);
+
+    private static final int FUTURE_MAP_BY_KEY_INITIAL_CAPACITY = 16;
+
+    /**
+     * Asynchronously executes the task unless a task with
+     * the same key is already in flight.
+     * @param key Key that identifies the work.
+     * @param task Task to execute.
+     * @return An AsyncTask object shared by all the concurrent callers with the same key.
+     */
+    public AsyncTask<ValueType> execute(final KeyType key, final Callable<ValueType> task) {
+        // if key is null, we shall throw exception...
+        if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+
+        final var future = new CompletableFuture<ValueType>();
+        // NOTE: ONLY ONE OF THE CONCURRENT CALLERS SUCCEEDS TO PUT ITS FUTURE...
+        final var inFlightFuture = futureMapByKey.putIfAbsent(key, future);
+
+        // if another caller is already executing the work, we shall share its future...
+        if (inFlightFuture != null) { return AsyncTask.from(inFlightFuture); }
+
+        // otherwise, we shall execute the task...
+        final var asyncTask = AsyncTask.run(() -> {
+            ValueType result;
+
+            try {
+                result = task.call();
+            } catch (final Throwable throwable) {
+                // NOTE: ENTRY MUST BE REMOVED BEFORE COMPLETING THE FUTURE
+                // SO THAT LATER CALLERS START A FRESH EXECUTION...
+                futureMapByKey.remove(key, future);
+                future.completeExceptionally(throwable);
+
+                return null;
+            }
+
+            futureMapByKey.remove(key, future);
+            future.complete(result);
+
+            return null;
+        });
+
+        // if the task could not be submitted, we shall propagate the exception...
+        if (asyncTask.getThrowable() != null) {
+            futureMapByKey.remove(key, future);
+            future.completeExceptionally(asyncTask.getThrowable());
+        }
+
+        return AsyncTask.from(future);
+    }
+
+    /**
+     * Asynchronously executes a single batch for the keys that are not in flight.
+     * Keys that are already in flight join their in-flight tasks. Every other key
+     * is registered as in flight and completes from the shared batch, so that
+     * concurrent callers with the same key (of this method or
+     * {@link #execute(Object, Callable)}) join the batch instead of executing
+     * the work again.
+     * @param keys Keys that identify the work.
+     * @param batchTask Starts the work for the keys that are not in flight. It is not
+     *                  invoked if all the keys are in flight. Keys missing from the
+     *                  resulting map complete with null.
+     * @return AsyncTask objects mapped by key (in the order of the keys).
+     */
+    public Map<KeyType, AsyncTask<ValueType>> executeAll(
+            final Collection<? extends KeyType> keys,
+            final Function<List<KeyType>, AsyncTask<Map<KeyType, ValueType>>> batchTask) {
+        // if keys are null, we shall throw exception...
+        if (keys == null) { throw new IllegalArgumentException("Provided keys are null."); }
+        // if batch task is null, we shall throw exception...
+        if (batchTask == null) { throw new IllegalArgumentException("Provided batch task is null."); }
+        // NOTE: KEYS MUST BE VALIDATED BEFORE REGISTERING ANY OF THEM.
+        // OTHERWISE, THE REGISTERED FUTURES WOULD NEVER COMPLETE...
+        for (final var key : keys) {
+            if (key == null) { throw new IllegalArgumentException("Provided key is null."); }
+        }
+
+        final var asyncTaskMapByKey = new LinkedHashMap<KeyType, AsyncTask<ValueType>>(keys.size());
+        final var ownedFutureMapByKey = new LinkedHashMap<KeyType, CompletableFuture<ValueType>>();
+
+        for (final var key : keys) {
+            // if the key is already processed, we shall skip...
+            if (asyncTaskMapByKey.containsKey(key)) { continue; }
+
+            final var future = new CompletableFuture<ValueType>();
+            final var inFlightFuture = futureMapByKey.putIfAbsent(key, future);
+
+            // if another caller is already executing the work, we shall share its future...
+            if (inFlightFuture != null) {
+                asyncTaskMapByKey.put(key, AsyncTask.from(inFlightFuture));
+
+                continue;
+            }
+
+            ownedFutureMapByKey.put(key, future);
+            asyncTaskMapByKey.put(key, AsyncTask.from(future));
+        }
+
+        // if all the keys are in flight, we shall not proceed any further...
+        if (ownedFutureMapByKey.isEmpty()) { return asyncTaskMapByKey; }
+
+        final var ownedKeys = new ArrayList<>(ownedFutureMapByKey.keySet());
+        final var asyncTask = AsyncTask.run(() -> {
+            Map<KeyType, ValueType> valueMapByKey;
+
+            try {
+                valueMapByKey = batchTask.apply(ownedKeys).await();
+            } catch (final Throwable throwable) {
+                completeAll(ownedFutureMapByKey, null, throwable);
+
+                return null;
+            }
+
+            completeAll(ownedFutureMapByKey, valueMapByKey, null);
+
+            return null;
+        });
+
+        // if the task could not be submitted, we shall propagate the exception...
+        if (asyncTask.getThrowable() != null) { completeAll(ownedFutureMapByKey, null, asyncTask.getThrowable()); }
+
+        return asyncTaskMapByKey;
+    }
+
+    /**
+     * Checks if a task is in flight for the given key.
+     * @param key Key that identifies the work.
+     * @return True if a task is in flight. Otherwise, false.
+     */
+    public boolean isInFlight(final KeyType key) {
+        return key != null && futureMapByKey.containsKey(key);
+    }
+
+    /**
+     * Gets the number of tasks currently in flight.
+     * @return The number of tasks in flight.
+     */
+    public int getInFlightCount() {
+        return futureMapByKey.size();
+    }
+
+    private void completeAll(
+            final Map<KeyType, CompletableFuture<ValueType>> ownedFutureMapByKey,
+            final Map<KeyType, ValueType> valueMapByKey,
+            final Throwable throwable) {
+        for (final var entry : ownedFutureMapByKey.entrySet()) {
+            final var key = entry.getKey();
+            final var future = entry.getValue();
+
+            // NOTE: ENTRY MUST BE REMOVED BEFORE COMPLETING THE FUTURE
+            // SO THAT LATER CALLERS START A FRESH EXECUTION...
+            futureMapByKey.remove(key, future);
+
+            if (throwable != null) { future.completeExceptionally(throwable); }
+            else { future.complete(valueMapByKey == null ? null : valueMapByKey.get(key)); }
+        }
+    }
+}
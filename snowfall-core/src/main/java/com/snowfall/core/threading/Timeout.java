@@ -0,0 +1,111 @@
+package com.snowfall.core.threading;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A handle to a task scheduled on a {@link TimerWheel}.
+ * @implNote This class is thread-safe.
+ */
+public final class Timeout {
+
+    private final TimerWheel timerWheel;
+    private final Runnable task;
+    private final Runnable discardHandler;
+    private final long deadlineInNanoseconds;
+    private final long deadlineTick;
+    // NOTE: STATE IS UPDATED USING FIELD UPDATER TO AVOID
+    // ALLOCATING AN ATOMIC OBJECT PER TIMEOUT...
+    private volatile int state = STATE_PENDING;
+
+    // NOTE: THE FOLLOWING FIELDS ARE ONLY ACCESSED BY THE TICKER THREAD...
+    TimerWheel.Bucket bucket;
+    Timeout previous;
+    Timeout next;
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+    private static final AtomicIntegerFieldUpdater<Timeout> stateUpdater
+            = AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    Timeout(
+            final TimerWheel timerWheel,
+            final Runnable task,
+            final Runnable discardHandler,
+            final long deadlineInNanoseconds,
+            final long deadlineTick) {
+        this.timerWheel = timerWheel;
+        this.task = task;
+        this.discardHandler = discardHandler;
+        this.deadlineInNanoseconds = deadlineInNanoseconds;
+        this.deadlineTick = deadlineTick;
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+
+    /**
+     * Gets the task to execute if the timeout is discarded.
+     * @return The discard handler. Null if not provided.
+     */
+    Runnable getDiscardHandler() {
+        return discardHandler;
+    }
+
+    long getDeadlineTick() {
+        return deadlineTick;
+    }
+
+    /**
+     * Gets the deadline of this timeout.
+     * @return The deadline, relative to {@link System#nanoTime()}.
+     */
+    public long getDeadlineInNanoseconds() {
+        return deadlineInNanoseconds;
+    }
+
+    public boolean isPending() {
+        return state == STATE_PENDING;
+    }
+
+    public boolean isCancelled() {
+        return state == STATE_CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state == STATE_EXPIRED;
+    }
+
+    /**
+     * Cancels this timeout so that the associated task is never executed.
+     * @return True if the timeout is cancelled by this call. False if the
+     * timeout has already expired or has been cancelled.
+     */
+    public boolean cancel() {
+        // if the timeout is no longer pending, we shall return false...
+        if (!stateUpdater.compareAndSet(this, STATE_PENDING, STATE_CANCELLED)) { return false; }
+
+        // otherwise, we shall let the timer wheel remove this timeout...
+        timerWheel.onCancelled(this);
+
+        return true;
+    }
+
+    /**
+     * Marks this timeout as expired.
+     * @return True if the timeout was pending. Otherwise, false.
+     */
+    boolean expire() {
+        return stateUpdater.compareAndSet(this, STATE_PENDING, STATE_EXPIRED);
+    }
+
+    /**
+     * Marks this timeout as cancelled without notifying the timer wheel.
+     * Used when the timer wheel discards its timeouts (e.g. on close).
+     * @return True if the timeout was pending. Otherwise, false.
+     */
+    boolean discard() {
+        return stateUpdater.compareAndSet(this, STATE_PENDING, STATE_CANCELLED);
+    }
+}
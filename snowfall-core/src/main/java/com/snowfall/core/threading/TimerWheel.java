@@ -0,0 +1,413 @@
+package com.snowfall.core.threading;
+
+import com.snowfall.core.utilities.ThreadUtilities;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hierarchical hashed timer wheel driven by a single ticker thread.
+ * Each level contains 64 slots and every slot of a level spans 64 slots
+ * of the level below. Timeouts are placed in the level that covers their
+ * remaining delay and cascade towards the lowest level as time advances.
+ * @implNote Scheduling and cancellation are O(1) and thread-safe. Newly
+ * scheduled and cancelled timeouts are handed to the ticker thread through
+ * lock-free queues, so the wheel itself is only accessed by the ticker thread.
+ * Expired tasks are executed on the provided executor, never on the ticker thread.
+ */
+public final class TimerWheel implements AutoCloseable {
+
+    private final Logger logger = LogManager.getLogger(TimerWheel.class);
+    private final long tickDurationInNanoseconds;
+    private final long startTime;
+    private final Executor executor;
+    private final Bucket[][] buckets = new Bucket[LEVEL_COUNT][SLOT_COUNT];
+    private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeoutCount = new AtomicLong();
+    private final Thread tickerThread;
+    private volatile boolean idle = false;
+    private volatile boolean closed = false;
+
+    // NOTE: THE FOLLOWING FIELDS ARE ONLY ACCESSED BY THE TICKER THREAD...
+    private long currentTick = 0L;
+    private long placedTimeoutCount = 0L;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 4;
+    // NOTE: DELAYS BEYOND THIS MANY TICKS ARE PLACED IN THE HIGHEST LEVEL
+    // AND RE-PLACED WHEN THEY CASCADE...
+    private static final long MAXIMUM_TICK_SPAN = 1L << (SLOT_BITS * LEVEL_COUNT);
+
+    public TimerWheel(final String name, final long tickDuration, final TimeUnit unit, final Executor executor) {
+        // if executor is null, we shall throw exception...
+        if (executor == null) { throw new IllegalArgumentException("Provided executor is null."); }
+
+        tickDurationInNanoseconds = Math.max(unit.toNanos(tickDuration), 1L);
+        startTime = System.nanoTime();
+        this.executor = executor;
+
+        for (var level = 0; level < LEVEL_COUNT; ++level) {
+            for (var slot = 0; slot < SLOT_COUNT; ++slot) {
+                buckets[level][slot] = new Bucket();
+            }
+        }
+
+        tickerThread = Thread.ofPlatform()
+                .name(name)
+                .daemon(true)
+                .start(this::tick);
+    }
+
+    public long getTickDurationInNanoseconds() {
+        return tickDurationInNanoseconds;
+    }
+
+    /**
+     * Gets the number of timeouts that have neither
+     * expired nor been cancelled.
+     * @return The number of pending timeouts.
+     */
+    public long getPendingTimeoutCount() {
+        return pendingTimeoutCount.get();
+    }
+
+    /**
+     * Schedules a task to be executed after the given delay.
+     * @implNote This method is thread-safe.
+     * @param delay Delay after which the task shall be executed.
+     * @param unit Time unit of the delay.
+     * @param task Task to execute.
+     * @return A handle that can be used to cancel the task.
+     */
+    public Timeout schedule(final long delay, final TimeUnit unit, final Runnable task) {
+        return schedule(delay, unit, task, null);
+    }
+
+    /**
+     * Schedules a task to be executed after the given delay.
+     * @implNote This method is thread-safe.
+     * @param delay Delay after which the task shall be executed.
+     * @param unit Time unit of the delay.
+     * @param task Task to execute.
+     * @param discardHandler Task to execute (on the closing thread or the ticker thread)
+     *                       if the timer wheel is closed or the executor rejects the task
+     *                       before it is executed. May be null.
+     * @return A handle that can be used to cancel the task.
+     */
+    public Timeout schedule(final long delay, final TimeUnit unit, final Runnable task, final Runnable discardHandler) {
+        // if task is null, we shall throw exception...
+        if (task == null) { throw new IllegalArgumentException("Provided task is null."); }
+        // if the timer wheel is closed, we shall throw exception...
+        if (closed) { throw new IllegalStateException("Timer wheel is closed."); }
+
+        final var deadlineInNanoseconds = System.nanoTime() + Math.max(unit.toNanos(delay), 0L);
+        final var elapsedTimeInNanoseconds = deadlineInNanoseconds - startTime;
+        // NOTE: DEADLINE TICK IS ROUNDED UP SO THAT TASKS NEVER RUN EARLY...
+        final var deadlineTick = (elapsedTimeInNanoseconds + tickDurationInNanoseconds - 1) / tickDurationInNanoseconds;
+        final var timeout = new Timeout(this, task, discardHandler, deadlineInNanoseconds, deadlineTick);
+
+        pendingTimeoutCount.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+
+        // if the timer wheel got closed in the meantime, the ticker thread
+        // may have exited already. so we shall discard the timeout here...
+        if (closed) { discardScheduledTimeouts(); }
+
+        // if the ticker thread is waiting for work, we shall wake it up...
+        if (idle) { LockSupport.unpark(tickerThread); }
+
+        return timeout;
+    }
+
+    void onCancelled(final Timeout timeout) {
+        pendingTimeoutCount.decrementAndGet();
+        cancelledTimeouts.add(timeout);
+    }
+
+    private void tick() {
+        while (!closed) {
+            try {
+                final var targetTick = (System.nanoTime() - startTime) / tickDurationInNanoseconds;
+
+                // removes cancelled timeouts from their buckets...
+                removeCancelledTimeouts();
+
+                // if no timeout is placed, there is nothing to process.
+                // so we shall fast-forward to the target tick before placing
+                // newly scheduled timeouts. otherwise, the timeouts would be
+                // placed relative to a stale tick and every tick missed while
+                // idle would be replayed one by one...
+                if (placedTimeoutCount == 0L) { currentTick = Math.max(currentTick, targetTick); }
+
+                // places newly scheduled timeouts in their buckets...
+                placeScheduledTimeouts();
+
+                while (currentTick < targetTick) { processTick(++currentTick); }
+
+                await();
+            } catch (final Throwable throwable) {
+                logger.log(Level.ERROR, "An exception occurred while processing the timer wheel tick.", throwable);
+            }
+        }
+
+        // NOTE: THE BUCKETS ARE ONLY ACCESSED BY THE TICKER THREAD.
+        // SO THE TICKER THREAD DISCARDS THE REMAINING TIMEOUTS ON EXIT...
+        discardPlacedTimeouts();
+        discardScheduledTimeouts();
+        cancelledTimeouts.clear();
+    }
+
+    private void await() {
+        // if timeouts are placed, we shall wait until the next tick...
+        if (placedTimeoutCount > 0L) {
+            final var nextTickTime = startTime + (currentTick + 1) * tickDurationInNanoseconds;
+
+            LockSupport.parkNanos(this, Math.max(nextTickTime - System.nanoTime(), 0L));
+
+            return;
+        }
+
+        // otherwise, we shall wait until a new timeout is scheduled...
+        idle = true;
+
+        // NOTE: WE MUST CHECK THE QUEUE AGAIN AFTER SETTING THE IDLE FLAG
+        // BECAUSE A TIMEOUT MIGHT HAVE BEEN SCHEDULED IN THE MEANTIME...
+        if (scheduledTimeouts.isEmpty() && !closed) { LockSupport.park(this); }
+
+        idle = false;
+    }
+
+    /**
+     * Discards the timeouts placed in the buckets.
+     * @implNote This method must only be called by the ticker thread.
+     */
+    private void discardPlacedTimeouts() {
+        for (var level = 0; level < LEVEL_COUNT; ++level) {
+            for (var slot = 0; slot < SLOT_COUNT; ++slot) {
+                var timeout = buckets[level][slot].clear();
+
+                while (timeout != null) {
+                    final var next = timeout.next;
+
+                    timeout.next = null;
+                    discard(timeout);
+
+                    timeout = next;
+                }
+            }
+        }
+
+        placedTimeoutCount = 0L;
+    }
+
+    /**
+     * Discards the timeouts that are not placed yet.
+     * @implNote This method is thread-safe.
+     */
+    private void discardScheduledTimeouts() {
+        Timeout timeout;
+
+        while ((timeout = scheduledTimeouts.poll()) != null) { discard(timeout); }
+    }
+
+    private void discard(final Timeout timeout) {
+        // if the timeout has expired or been cancelled, we shall skip...
+        if (!timeout.discard()) { return; }
+
+        pendingTimeoutCount.decrementAndGet();
+        runDiscardHandler(timeout);
+    }
+
+    private void runDiscardHandler(final Timeout timeout) {
+        final var discardHandler = timeout.getDiscardHandler();
+
+        // if no discard handler is provided, we shall not proceed any further...
+        if (discardHandler == null) { return; }
+
+        try {
+            discardHandler.run();
+        } catch (final Throwable throwable) {
+            logger.log(Level.ERROR, "An exception occurred while executing the discard handler of the timeout.", throwable);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            final var bucket = timeout.bucket;
+
+            // if the timeout is not placed yet, it will be skipped while placing...
+            if (bucket == null) { continue; }
+
+            bucket.remove(timeout);
+            --placedTimeoutCount;
+        }
+    }
+
+    private void placeScheduledTimeouts() {
+        Timeout timeout;
+
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            // cancelled timeouts are not placed...
+            if (!timeout.isPending()) { continue; }
+
+            place(timeout);
+        }
+    }
+
+    private void place(final Timeout timeout) {
+        final var deadlineTick = timeout.getDeadlineTick();
+        final var remainingTickCount = deadlineTick - currentTick;
+
+        // if the deadline is already reached, we shall expire the timeout immediately...
+        if (remainingTickCount <= 0L) {
+            expire(timeout);
+
+            return;
+        }
+
+        // finding the lowest level that covers the remaining delay...
+        var level = 0;
+
+        while (level < LEVEL_COUNT - 1 && remainingTickCount >= 1L << (SLOT_BITS * (level + 1))) { ++level; }
+
+        // if the remaining delay exceeds the wheel span, we shall place it
+        // at the farthest slot so that it gets re-placed later...
+        final var tick = remainingTickCount < MAXIMUM_TICK_SPAN
+                ? deadlineTick
+                : currentTick + MAXIMUM_TICK_SPAN - 1;
+        final var slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        buckets[level][slot].add(timeout);
+        ++placedTimeoutCount;
+    }
+
+    private void processTick(final long tick) {
+        // cascades the higher levels (from the highest to the lowest) whose slots start at this tick...
+        for (var level = LEVEL_COUNT - 1; level > 0; --level) {
+            final var levelSpanMask = (1L << (SLOT_BITS * level)) - 1;
+
+            // if this tick is not at the start of a slot of this level, we shall skip...
+            if ((tick & levelSpanMask) != 0L) { continue; }
+
+            final var slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            var timeout = buckets[level][slot].clear();
+
+            while (timeout != null) {
+                final var next = timeout.next;
+
+                timeout.next = null;
+                --placedTimeoutCount;
+
+                // re-places the timeout into a lower level...
+                if (timeout.isPending()) { place(timeout); }
+
+                timeout = next;
+            }
+        }
+
+        // expires all the timeouts of the current slot in the lowest level...
+        var timeout = buckets[0][(int) (tick & SLOT_MASK)].clear();
+
+        while (timeout != null) {
+            final var next = timeout.next;
+
+            timeout.next = null;
+            --placedTimeoutCount;
+            expire(timeout);
+
+            timeout = next;
+        }
+    }
+
+    private void expire(final Timeout timeout) {
+        // if the timeout was cancelled in the meantime, we shall skip...
+        if (!timeout.expire()) { return; }
+
+        pendingTimeoutCount.decrementAndGet();
+
+        try {
+            executor.execute(timeout.getTask());
+        } catch (final Throwable throwable) {
+            logger.log(Level.ERROR, "An exception occurred while executing the expired timeout.", throwable);
+
+            // NOTE: THE TASK WILL NEVER BE EXECUTED (E.G. THE EXECUTOR IS SHUT DOWN)...
+            runDiscardHandler(timeout);
+        }
+    }
+
+    /**
+     * Stops the ticker thread. Pending timeouts are discarded
+     * and their discard handlers are executed.
+     */
+    @Override
+    public void close() {
+        if (closed) { return; }
+
+        closed = true;
+
+        LockSupport.unpark(tickerThread);
+        ThreadUtilities.tryJoin(tickerThread);
+    }
+
+    /**
+     * A doubly linked list of timeouts.
+     * @implNote This class is only accessed by the ticker thread.
+     */
+    static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(final Timeout timeout) {
+            timeout.bucket = this;
+            timeout.previous = tail;
+            timeout.next = null;
+
+            if (tail == null) { head = timeout; } else { tail.next = timeout; }
+
+            tail = timeout;
+        }
+
+        private void remove(final Timeout timeout) {
+            final var previous = timeout.previous;
+            final var next = timeout.next;
+
+            if (previous == null) { head = next; } else { previous.next = next; }
+            if (next == null) { tail = previous; } else { next.previous = previous; }
+
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        /**
+         * Detaches all the timeouts from this bucket.
+         * @return The first timeout of the detached list (linked via next).
+         */
+        private Timeout clear() {
+            final var first = head;
+
+            for (var timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.previous = null;
+            }
+
+            head = null;
+            tail = null;
+
+            return first;
+        }
+    }
+}
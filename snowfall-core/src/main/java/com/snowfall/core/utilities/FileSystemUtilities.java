@@ -1,9 +1,21 @@
 package com.snowfall.core.utilities;
 
+import com.snowfall.core.io.RecordHandler;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class FileSystemUtilities {
 
@@ -14,6 +26,13 @@ public final class FileSystemUtilities {
     private static final String[] PLATFORM_DEPENDENT_DIRECTORY_SEPARATORS = new String[] {
         "\\"
     };
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final long REPEATED_ONES = 0x0101010101010101L;
+    private static final long REPEATED_HIGH_BITS = 0x8080808080808080L;
+    // NOTE: LITTLE-ENDIAN ORDER PUTS THE BYTE AT THE LOWEST ADDRESS
+    // INTO THE LEAST SIGNIFICANT POSITION OF THE LONG...
+    private static final ValueLayout.OfLong LONG_LAYOUT = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
 
     public static String getDirectorySeparator() {
         return DIRECTORY_SEPARATOR;
@@ -116,4 +135,214 @@ public final class FileSystemUtilities {
         // returns if the directory is created...
         return directoryCreated;
     }
+
+    /**
+     * Maps the entire file into memory as a read-only segment.
+     * Files larger than 2 GB are supported. The mapping is
+     * released when the arena is closed.
+     * @param filePath Path of the file.
+     * @param arena Arena that controls the lifetime of the mapping.
+     * @return A read-only memory segment of the file content.
+     * @throws IllegalArgumentException If the arena is null.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MemorySegment map(final String filePath, final Arena arena) throws IllegalArgumentException, IOException {
+        // if arena is null, we shall throw exception...
+        if (arena == null) { throw new IllegalArgumentException("Provided arena is null."); }
+
+        // NOTE: THE MAPPING REMAINS VALID AFTER THE CHANNEL IS CLOSED...
+        try (final var fileChannel = FileChannel.open(Path.of(getAbsolutePath(filePath)), StandardOpenOption.READ)) {
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, fileChannel.size(), arena).asReadOnly();
+        }
+    }
+
+    /**
+     * Maps the entire file into memory as a read-only segment.
+     * The mapping is released when the segment becomes unreachable.
+     * Prefer {@link #map(String, Arena)} to release the mapping deterministically.
+     * @param filePath Path of the file.
+     * @return A read-only memory segment of the file content.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MemorySegment map(final String filePath) throws IOException {
+        return map(filePath, Arena.ofAuto());
+    }
+
+    /**
+     * Maps the entire file into memory as a read-only byte buffer.
+     * @param filePath Path of the file.
+     * @return A read-only byte buffer of the file content.
+     * @throws IOException If the file cannot be mapped or
+     * the file is larger than 2 GB (use {@link #map(String, Arena)} instead).
+     */
+    public static MappedByteBuffer mapAsByteBuffer(final String filePath) throws IOException {
+        try (final var fileChannel = FileChannel.open(Path.of(getAbsolutePath(filePath)), StandardOpenOption.READ)) {
+            final var size = fileChannel.size();
+
+            // if the file is too large for a byte buffer, we shall throw exception...
+            if (size > Integer.MAX_VALUE) { throw new IOException("File is too large to be mapped as a byte buffer."); }
+
+            return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+        }
+    }
+
+    /**
+     * Finds the first occurrence of the byte within the range.
+     * Eight (8) bytes are compared at a time.
+     * @param segment Segment to search.
+     * @param fromIndex Index to start searching from (inclusive).
+     * @param toIndex Index to stop searching at (exclusive).
+     * @param value Byte to find.
+     * @return The index of the byte. Returns -1 if not found.
+     */
+    public static long indexOf(final MemorySegment segment, final long fromIndex, final long toIndex, final byte value) {
+        final var pattern = REPEATED_ONES * (value & 0xFF);
+        var index = fromIndex;
+
+        for (; index + Long.BYTES <= toIndex; index += Long.BYTES) {
+            // matching bytes become zero (0)...
+            final var word = segment.get(LONG_LAYOUT, index) ^ pattern;
+            // the highest bit of the first zero (0) byte is set...
+            final var matches = (word - REPEATED_ONES) & ~word & REPEATED_HIGH_BITS;
+
+            if (matches != 0L) { return index + (Long.numberOfTrailingZeros(matches) >>> 3); }
+        }
+
+        for (; index < toIndex; ++index) {
+            if (segment.get(ValueLayout.JAVA_BYTE, index) == value) { return index; }
+        }
+
+        return -1L;
+    }
+
+    /**
+     * Splits the segment into chunks of roughly equal size. Every chunk
+     * (except the last one) ends with the delimiter, so a record is never
+     * split between two (2) chunks. The chunks are slices of the segment,
+     * so no data is copied.
+     * @param segment Segment to split (e.g. a mapped file).
+     * @param delimiter Byte that separates the records.
+     * @param chunkCount Desired number of chunks. Fewer chunks are
+     *                   returned if the records are too large.
+     * @return The chunks in order. Contains at least one (1) chunk.
+     * @throws IllegalArgumentException If the segment is null.
+     */
+    public static List<MemorySegment> split(
+            final MemorySegment segment,
+            final byte delimiter,
+            int chunkCount) throws IllegalArgumentException {
+        // if segment is null, we shall throw exception...
+        if (segment == null) { throw new IllegalArgumentException("Provided segment is null."); }
+        // if chunk count is less than one (1), we shall assign one (1)...
+        if (chunkCount < 1) { chunkCount = 1; }
+
+        final var size = segment.byteSize();
+        final var desiredChunkSize = Math.max(1L, size / chunkCount);
+        final List<MemorySegment> chunks = new ArrayList<>(chunkCount);
+        var startIndex = 0L;
+
+        for (var i = 1; i < chunkCount && startIndex < size; ++i) {
+            // the chunk shall end at the first delimiter after its desired end...
+            final var desiredEndIndex = Math.max(startIndex, desiredChunkSize * i);
+            final var delimiterIndex = indexOf(segment, desiredEndIndex, size, delimiter);
+
+            // if no delimiter is found, the remaining records belong to the last chunk...
+            if (delimiterIndex == -1L) { break; }
+
+            final var endIndex = delimiterIndex + 1;
+
+            chunks.add(segment.asSlice(startIndex, endIndex - startIndex));
+            startIndex = endIndex;
+        }
+
+        // the last chunk contains the remaining records...
+        if (startIndex < size || chunks.isEmpty()) { chunks.add(segment.asSlice(startIndex, size - startIndex)); }
+
+        return chunks;
+    }
+
+    /**
+     * Iterates over the records separated by the delimiter without copying them to the heap.
+     * If the segment ends with the delimiter, no empty record is reported at the end.
+     * @param segment Segment that contains the records (e.g. a mapped file).
+     * @param delimiter Byte that separates the records.
+     * @param recordHandler Handler to be invoked for each record.
+     * @return The number of records handled.
+     * @throws IllegalArgumentException If the segment or the record handler is null.
+     * @throws Exception If the record handler throws exception.
+     */
+    public static long forEachRecord(
+            final MemorySegment segment,
+            final byte delimiter,
+            final RecordHandler recordHandler) throws Exception {
+        return forEachRecord(segment, delimiter, false, recordHandler);
+    }
+
+    /**
+     * Iterates over the lines without copying them to the heap.
+     * Lines are separated by line feeds and a carriage return
+     * preceding the line feed is excluded from the line.
+     * @param segment Segment that contains the lines (e.g. a mapped file).
+     * @param recordHandler Handler to be invoked for each line.
+     * @return The number of lines handled.
+     * @throws IllegalArgumentException If the segment or the record handler is null.
+     * @throws Exception If the record handler throws exception.
+     */
+    public static long forEachLine(final MemorySegment segment, final RecordHandler recordHandler) throws Exception {
+        return forEachRecord(segment, LINE_FEED, true, recordHandler);
+    }
+
+    /**
+     * Maps the file and iterates over its lines without copying them to the heap.
+     * The mapping is released before this method returns, so the
+     * segment must not be retained by the record handler.
+     * @param filePath Path of the file.
+     * @param recordHandler Handler to be invoked for each line.
+     * @return The number of lines handled.
+     * @throws Exception If the file cannot be mapped or the record handler throws exception.
+     */
+    public static long forEachLine(final String filePath, final RecordHandler recordHandler) throws Exception {
+        try (final var arena = Arena.ofConfined()) {
+            return forEachLine(map(filePath, arena), recordHandler);
+        }
+    }
+
+    private static long forEachRecord(
+            final MemorySegment segment,
+            final byte delimiter,
+            final boolean carriageReturnExcluded,
+            final RecordHandler recordHandler) throws Exception {
+        // if segment is null, we shall throw exception...
+        if (segment == null) { throw new IllegalArgumentException("Provided segment is null."); }
+        // if record handler is null, we shall throw exception...
+        if (recordHandler == null) { throw new IllegalArgumentException("Provided record handler is null."); }
+
+        final var size = segment.byteSize();
+        var startIndex = 0L;
+        var recordCount = 0L;
+
+        while (startIndex < size) {
+            var endIndex = indexOf(segment, startIndex, size, delimiter);
+
+            // the last record may not be followed by the delimiter...
+            if (endIndex == -1L) { endIndex = size; }
+
+            var recordEndIndex = endIndex;
+
+            if (carriageReturnExcluded
+                    && recordEndIndex > startIndex
+                    && segment.get(ValueLayout.JAVA_BYTE, recordEndIndex - 1) == CARRIAGE_RETURN) {
+                --recordEndIndex;
+            }
+
+            ++recordCount;
+
+            // if the handler asks to stop, we shall not proceed any further...
+            if (!recordHandler.handle(segment, startIndex, recordEndIndex - startIndex)) { break; }
+
+            startIndex = endIndex + 1;
+        }
+
+        return recordCount;
+    }
 }
@@ -1,20 +1,42 @@
 package com.snowfall.core.utilities;
 
-import com.snowfall.core.text.Encoder;
+import com.snowfall.core.io.BufferPool;
+import com.snowfall.core.io.ChunkProcessor;
+import com.snowfall.core.threading.AsyncTask;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.lang.foreign.Arena;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
 
 public final class StreamUtilities {
 
     private static final Logger logger = LogManager.getLogger(StreamUtilities.class);
     private static final int BUFFER_LENGTH = 8192;
-    private static final int STRING_BUILDER_INITIAL_CAPACITY = 8192;
+    private static final byte LINE_FEED = '\n';
+    private static final int CHAR_BUFFER_INITIAL_CAPACITY = 8192;
+    // NOTE: A PRESIZED CHARACTER BUFFER SHALL NOT EXCEED THIS LENGTH
+    // BECAUSE THE LENGTH REPORTED BY THE STREAM IS ONLY AN ESTIMATE...
+    private static final int CHAR_BUFFER_MAXIMUM_INITIAL_CAPACITY = 64 * 1024 * 1024;
 
     /**
      * Reads bytes into a portion of an array.
@@ -83,6 +105,23 @@ public final class StreamUtilities {
     public static String readString(
             final InputStream inputStream,
             final boolean closeAutomatically) {
+        return readString(inputStream, StandardCharsets.UTF_8, closeAutomatically);
+    }
+
+    /**
+     * Reads data from the input stream as string. The bytes are decoded
+     * incrementally, so multibyte characters that span multiple reads
+     * are decoded correctly. Malformed input is replaced.
+     * @param inputStream Input stream to read from.
+     * @param charset Charset to decode the data with.
+     * @param closeAutomatically Setting this flag to true shall close
+     *                           the input stream after reading or exception.
+     * @return The trimmed string data read from the input stream.
+     */
+    public static String readString(
+            final InputStream inputStream,
+            final Charset charset,
+            final boolean closeAutomatically) {
         // if the input stream is null...
         if (inputStream == null) {
             logger.log(Level.WARN, "Provided input stream is 'null'.");
@@ -91,25 +130,41 @@ public final class StreamUtilities {
             return StringUtilities.getEmptyString();
         }
 
-        final var buffer = new byte[BUFFER_LENGTH];
+        final var decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final var bufferPool = BufferPool.getInstance();
+        final var buffer = bufferPool.rent(BUFFER_LENGTH);
+        final var byteBuffer = ByteBuffer.wrap(buffer);
+        var charBuffer = CharBuffer.allocate(estimateCharacterCount(inputStream, decoder));
         var bytesRead = 0;
-        final var contentBuilder = new StringBuilder(STRING_BUILDER_INITIAL_CAPACITY);
 
-        // NOTE: IF BYTES READ IS EQUAL TO -2, IT MEANS EXCEPTION HAS OCCURRED.
-        // THUS, THIS LOOP SHALL BE BROKEN...
-        while ((bytesRead = read(buffer, 0, buffer.length, inputStream)) > 0) {
-            final var content = Encoder.toUtf8(buffer, 0, bytesRead);
+        try {
+            // NOTE: IF BYTES READ IS EQUAL TO -2, IT MEANS EXCEPTION HAS OCCURRED.
+            // THUS, THIS LOOP SHALL BE BROKEN...
+            while ((bytesRead = read(buffer, byteBuffer.position(), byteBuffer.remaining(), inputStream)) > 0) {
+                byteBuffer.position(byteBuffer.position() + bytesRead);
+                byteBuffer.flip();
+                charBuffer = decode(decoder, byteBuffer, charBuffer, false);
+                // incomplete multibyte sequences are moved to the
+                // beginning of the buffer to be decoded with the next read...
+                byteBuffer.compact();
+            }
 
-            contentBuilder.append(content);
-        }
+            // returns empty string in case of exception...
+            if (bytesRead < -1) { return StringUtilities.getEmptyString(); }
 
-        // if 'closeAutomatically' flag is true,
-        // we shall try to close the input stream...
-        if (closeAutomatically) { CloseableUtilities.tryClose(inputStream); }
-        // returns empty string in case of exception...
-        if (bytesRead < -1) { return StringUtilities.getEmptyString(); }
+            byteBuffer.flip();
+            charBuffer = decode(decoder, byteBuffer, charBuffer, true);
+        } finally {
+            bufferPool.release(buffer);
 
-        return contentBuilder.toString().trim();
+            // if 'closeAutomatically' flag is true,
+            // we shall try to close the input stream...
+            if (closeAutomatically) { CloseableUtilities.tryClose(inputStream); }
+        }
+
+        return toTrimmedString(charBuffer);
     }
 
     /**
@@ -118,12 +173,107 @@ public final class StreamUtilities {
      * @return The entire file content.
      */
     public static String readString(final String filePath) {
-        // trying to create input stream for the specified file path...
-        final var inputStream = tryCreateInputStream(filePath);
-        // reading all the contents of the file...
-        final var content = readString(inputStream);
+        return readString(filePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads data from the file. The file is read at once
+     * into an array of the file's size and decoded once.
+     * @param filePath Path of the file.
+     * @param charset Charset to decode the data with.
+     * @return The trimmed file content. Returns empty string
+     * in case of exception.
+     */
+    public static String readString(final String filePath, final Charset charset) {
+        final byte[] bytes;
 
-        return content;
+        try {
+            // first, we shall retrieve the absolute file path...
+            final var absoluteFilePath = FileSystemUtilities.getAbsolutePath(filePath);
+
+            bytes = Files.readAllBytes(Path.of(absoluteFilePath));
+        } catch (final Exception exception) {
+            logger.log(Level.ERROR, "An exception occurred while reading file '{}'.", filePath, exception);
+
+            return StringUtilities.getEmptyString();
+        }
+
+        // NOTE: String.trim() DOES NOT COPY IF THERE IS NOTHING TO TRIM...
+        return new String(bytes, charset).trim();
+    }
+
+    /**
+     * Estimates the number of characters to be read from the input stream
+     * so that the character buffer rarely needs to grow.
+     */
+    private static int estimateCharacterCount(final InputStream inputStream, final CharsetDecoder decoder) {
+        var availableLength = 0;
+
+        try {
+            // NOTE: FOR FILE INPUT STREAMS, THIS IS THE REMAINING FILE SIZE...
+            availableLength = inputStream.available();
+        } catch (final Exception ignored) { }
+
+        // if the length is unknown, we shall use the default capacity...
+        if (availableLength < 1) { return CHAR_BUFFER_INITIAL_CAPACITY; }
+
+        final var estimatedLength = (long) Math.ceil(availableLength * (double) decoder.averageCharsPerByte()) + 1L;
+
+        return (int) Math.min(estimatedLength, CHAR_BUFFER_MAXIMUM_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Decodes the bytes into the character buffer, growing it when necessary.
+     * @return The character buffer containing the decoded characters
+     * (which may be a new instance).
+     */
+    private static CharBuffer decode(
+            final CharsetDecoder decoder,
+            final ByteBuffer byteBuffer,
+            CharBuffer charBuffer,
+            final boolean endOfInput) {
+        while (decoder.decode(byteBuffer, charBuffer, endOfInput).isOverflow()) {
+            charBuffer = grow(charBuffer, byteBuffer.remaining());
+        }
+
+        // if this is the end of input, we shall flush the decoder...
+        if (!endOfInput) { return charBuffer; }
+
+        while (decoder.flush(charBuffer).isOverflow()) {
+            charBuffer = grow(charBuffer, 0);
+        }
+
+        return charBuffer;
+    }
+
+    private static CharBuffer grow(final CharBuffer charBuffer, final int remainingLength) {
+        final var capacity = charBuffer.capacity();
+        final var newCapacity = (int) Math.min(
+                Math.max((long) capacity * 2, (long) capacity + remainingLength + 1), Integer.MAX_VALUE - 8);
+        final var newCharBuffer = CharBuffer.allocate(newCapacity);
+
+        newCharBuffer.put(charBuffer.flip());
+
+        return newCharBuffer;
+    }
+
+    /**
+     * Creates a string of the decoded characters without leading and
+     * trailing whitespaces (same as {@link String#trim()}) while
+     * copying the characters only once.
+     */
+    private static String toTrimmedString(final CharBuffer charBuffer) {
+        final var characters = charBuffer.array();
+        var startIndex = 0;
+        var endIndex = charBuffer.position();
+
+        while (startIndex < endIndex && characters[startIndex] <= ' ') { ++startIndex; }
+        while (endIndex > startIndex && characters[endIndex - 1] <= ' ') { --endIndex; }
+
+        // if nothing remains, we shall return an empty string...
+        if (startIndex == endIndex) { return StringUtilities.getEmptyString(); }
+
+        return new String(characters, startIndex, endIndex - startIndex);
     }
 
     public static InputStream createInputStream(final String filePath) throws Exception {
@@ -152,4 +302,175 @@ public final class StreamUtilities {
         // otherwise returning null...
         return inputStream;
     }
+
+    /**
+     * Transfers the entire file to the channel. The kernel may transfer
+     * the data directly (e.g. using sendfile) without copying it to the heap.
+     * Note: The channel must be in blocking mode.
+     * @param filePath Path of the file.
+     * @param channel Channel to write the file content to (e.g. a socket channel).
+     * @return The number of bytes transferred.
+     * @throws IllegalArgumentException If the channel is null.
+     * @throws IOException If the file cannot be read or the write fails.
+     */
+    public static long transfer(final String filePath, final WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        return transfer(filePath, 0L, Long.MAX_VALUE, channel);
+    }
+
+    /**
+     * Transfers a region of the file to the channel. The kernel may transfer
+     * the data directly (e.g. using sendfile) without copying it to the heap.
+     * Useful for serving range requests.
+     * Note: The channel must be in blocking mode.
+     * @param filePath Path of the file.
+     * @param position Position of the file to start transferring from.
+     * @param length Maximum number of bytes to transfer. The transfer stops at the end of the file.
+     * @param channel Channel to write the file content to (e.g. a socket channel).
+     * @return The number of bytes transferred.
+     * @throws IllegalArgumentException If the channel is null or the position or length is negative.
+     * @throws IOException If the file cannot be read or the write fails.
+     */
+    public static long transfer(
+            final String filePath,
+            final long position,
+            final long length,
+            final WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        // if channel is null, we shall throw exception...
+        if (channel == null) { throw new IllegalArgumentException("Provided channel is null."); }
+        // if position or length is negative, we shall throw exception...
+        if (position < 0L || length < 0L) { throw new IllegalArgumentException("Invalid position or length provided."); }
+
+        final var absoluteFilePath = FileSystemUtilities.getAbsolutePath(filePath);
+
+        try (final var fileChannel = FileChannel.open(Path.of(absoluteFilePath), StandardOpenOption.READ)) {
+            return transfer(fileChannel, position, length, channel);
+        }
+    }
+
+    /**
+     * Copies the file to the destination. The destination file is created
+     * or truncated. The kernel may copy the data directly (e.g. using
+     * copy_file_range) without copying it to the heap.
+     * @param sourceFilePath Path of the file to copy.
+     * @param destinationFilePath Path of the file to copy to.
+     * @return The number of bytes copied.
+     * @throws IOException If the source cannot be read or the destination cannot be written.
+     */
+    public static long copy(final String sourceFilePath, final String destinationFilePath) throws IOException {
+        final var absoluteSourceFilePath = FileSystemUtilities.getAbsolutePath(sourceFilePath);
+        final var absoluteDestinationFilePath = FileSystemUtilities.getAbsolutePath(destinationFilePath);
+
+        try (final var sourceChannel = FileChannel.open(Path.of(absoluteSourceFilePath), StandardOpenOption.READ);
+             final var destinationChannel = FileChannel.open(Path.of(absoluteDestinationFilePath),
+                     StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return transfer(sourceChannel, 0L, Long.MAX_VALUE, destinationChannel);
+        }
+    }
+
+    /**
+     * Splits the file into chunks aligned to line boundaries and processes
+     * each chunk in parallel on the CPU-bound executor. The file is
+     * memory-mapped, so the chunks are not copied to the heap.
+     * @param filePath Path of the file.
+     * @param chunkCount Desired number of chunks (e.g. the number of processors).
+     * @param chunkProcessor Processor to be invoked for each chunk.
+     * @param combiner Function that combines the results of two (2) chunks.
+     *                 The results are combined in the order of the chunks.
+     * @return An AsyncTask that resolves to the combined result.
+     * @param <ResultType> Type of the result.
+     */
+    public static <ResultType> AsyncTask<ResultType> processInParallel(
+            final String filePath,
+            final int chunkCount,
+            final ChunkProcessor<ResultType> chunkProcessor,
+            final BinaryOperator<ResultType> combiner) {
+        return processInParallel(filePath, LINE_FEED, chunkCount, chunkProcessor, combiner);
+    }
+
+    /**
+     * Splits the file into chunks aligned to record boundaries and processes
+     * each chunk in parallel on the CPU-bound executor. The file is
+     * memory-mapped, so the chunks are not copied to the heap.
+     * @implNote If any of the chunk processors throws exception, awaiting
+     * the returned task throws that exception. The mapping is released
+     * only after all the chunk processors finish.
+     * @param filePath Path of the file.
+     * @param delimiter Byte that separates the records.
+     * @param chunkCount Desired number of chunks (e.g. the number of processors).
+     * @param chunkProcessor Processor to be invoked for each chunk.
+     * @param combiner Function that combines the results of two (2) chunks.
+     *                 The results are combined in the order of the chunks.
+     * @return An AsyncTask that resolves to the combined result.
+     * @param <ResultType> Type of the result.
+     */
+    public static <ResultType> AsyncTask<ResultType> processInParallel(
+            final String filePath,
+            final byte delimiter,
+            final int chunkCount,
+            final ChunkProcessor<ResultType> chunkProcessor,
+            final BinaryOperator<ResultType> combiner) {
+        // if chunk processor is null, we shall throw exception...
+        if (chunkProcessor == null) { throw new IllegalArgumentException("Provided chunk processor is null."); }
+        // if combiner is null, we shall throw exception...
+        if (combiner == null) { throw new IllegalArgumentException("Provided combiner is null."); }
+
+        // NOTE: THIS TASK ONLY WAITS FOR THE CHUNKS, SO IT RUNS ON A VIRTUAL THREAD...
+        return AsyncTask.run(() -> {
+            // NOTE: SHARED ARENA IS REQUIRED BECAUSE THE CHUNKS ARE ACCESSED BY MULTIPLE THREADS...
+            try (final var arena = Arena.ofShared()) {
+                final var segment = FileSystemUtilities.map(filePath, arena);
+                final var chunks = FileSystemUtilities.split(segment, delimiter, chunkCount);
+                final List<AsyncTask<ResultType>> asyncTasks = new ArrayList<>(chunks.size());
+
+                for (final var chunk : chunks) {
+                    // NOTE: CHUNKS ARE PROCESSED ON PLATFORM THREADS BECAUSE
+                    // PAGE FAULTS WOULD OTHERWISE BLOCK THE CARRIER THREADS...
+                    asyncTasks.add(AsyncTask.runCpu(() -> chunkProcessor.process(chunk)));
+                }
+
+                ResultType result = null;
+                RuntimeException exception = null;
+
+                // NOTE: ALL THE TASKS MUST FINISH BEFORE THE MAPPING IS RELEASED...
+                for (var i = 0; i < asyncTasks.size(); ++i) {
+                    try {
+                        final var chunkResult = asyncTasks.get(i).await();
+
+                        result = i == 0 ? chunkResult : combiner.apply(result, chunkResult);
+                    } catch (final RuntimeException runtimeException) {
+                        // we shall keep the first exception...
+                        if (exception == null) { exception = runtimeException; }
+                    }
+                }
+
+                // if any of the chunks failed, we shall throw the exception...
+                if (exception != null) { throw exception; }
+
+                return result;
+            }
+        });
+    }
+
+    private static long transfer(
+            final FileChannel fileChannel,
+            final long position,
+            final long length,
+            final WritableByteChannel channel) throws IOException {
+        final var endPosition = Math.min(fileChannel.size(), position + Math.min(length, Long.MAX_VALUE - position));
+        var currentPosition = position;
+
+        // NOTE: A SINGLE TRANSFER MAY NOT TRANSFER ALL THE BYTES
+        // (E.G. SENDFILE TRANSFERS AT MOST ~2 GB AT ONCE)...
+        while (currentPosition < endPosition) {
+            final var bytesTransferred = fileChannel.transferTo(currentPosition, endPosition - currentPosition, channel);
+
+            // if nothing is transferred, the file might have been truncated.
+            // so we shall stop...
+            if (bytesTransferred < 1L) { break; }
+
+            currentPosition += bytesTransferred;
+        }
+
+        return currentPosition - position;
+    }
 }
@@ -0,0 +1,67 @@
+package com.snowfall.core.caching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+
+    private static final String ROUTE = "/api/reports";
+
+    @Test
+    void invalidateDuringSlowHandlerDiscardsTheStaleResponse() throws Exception {
+        assertStaleResponseDiscarded(responseCache -> responseCache.invalidate(ROUTE, Map.of()));
+    }
+
+    @Test
+    void invalidateAllDuringSlowHandlerDiscardsTheStaleResponse() throws Exception {
+        assertStaleResponseDiscarded(ResponseCache::invalidateAll);
+    }
+
+    private static void assertStaleResponseDiscarded(final Invalidator invalidator) throws Exception {
+        final var responseCache = ResponseCache.create(new ResponseCacheOptions());
+        final var invocationCount = new AtomicInteger();
+        final var handlerStartedLatch = new CountDownLatch(1);
+        final var handlerReleasedLatch = new CountDownLatch(1);
+
+        try (final var executorService = Executors.newSingleThreadExecutor()) {
+            final var future = executorService.submit(() -> responseCache.handle(ROUTE, Map.of(), null, () -> {
+                invocationCount.incrementAndGet();
+                handlerStartedLatch.countDown();
+                handlerReleasedLatch.await();
+
+                return "stale";
+            }));
+
+            assertTrue(handlerStartedLatch.await(5L, TimeUnit.SECONDS));
+
+            // invalidates while the handler is in flight...
+            invalidator.invalidate(responseCache);
+            handlerReleasedLatch.countDown();
+
+            // the in-flight caller still receives the response it waited for...
+            assertEquals("stale", new String(future.get(5L, TimeUnit.SECONDS).getBody()));
+        }
+
+        final var response = responseCache.handle(ROUTE, Map.of(), null, () -> {
+            invocationCount.incrementAndGet();
+
+            return "fresh";
+        });
+
+        assertEquals(2, invocationCount.get());
+        assertEquals("fresh", new String(response.getBody()));
+    }
+
+    private interface Invalidator {
+
+        void invalidate(final ResponseCache responseCache);
+    }
+}
@@ -0,0 +1,57 @@
+package com.snowfall.core.threading;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    @Test
+    void timeoutScheduledAfterIdlePeriodExpiresWithoutReplayingMissedTicks() throws InterruptedException {
+        // NOTE: WITH A ONE (1) NANOSECOND TICK, REPLAYING THE TICKS MISSED WHILE
+        // IDLE WOULD DELAY THE NEXT TIMEOUT BY SECONDS...
+        try (final var timerWheel = new TimerWheel("timer-wheel-test", 1L, TimeUnit.NANOSECONDS, Runnable::run)) {
+            final var warmUpLatch = new CountDownLatch(1);
+
+            timerWheel.schedule(1L, TimeUnit.MILLISECONDS, warmUpLatch::countDown);
+
+            assertTrue(warmUpLatch.await(5L, TimeUnit.SECONDS));
+
+            // lets the timer wheel stay idle...
+            Thread.sleep(2_000L);
+
+            final var latch = new CountDownLatch(1);
+            final var startTime = System.nanoTime();
+
+            timerWheel.schedule(1L, TimeUnit.MILLISECONDS, latch::countDown);
+
+            assertTrue(latch.await(5L, TimeUnit.SECONDS));
+
+            final var latencyInMilliseconds = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+            assertTrue(latencyInMilliseconds < 500L, "Timeout expired after " + latencyInMilliseconds + " ms.");
+        }
+    }
+
+    @Test
+    void closeExecutesDiscardHandlersOfPendingTimeouts() throws InterruptedException {
+        final var timerWheel = new TimerWheel("timer-wheel-test", 1L, TimeUnit.MILLISECONDS, Runnable::run);
+        final var latch = new CountDownLatch(2);
+
+        // NOTE: ONE TIMEOUT IS PLACED IN A BUCKET AND THE OTHER ONE
+        // IS MOST LIKELY STILL WAITING IN THE SCHEDULED QUEUE...
+        timerWheel.schedule(1L, TimeUnit.HOURS, () -> { }, latch::countDown);
+        Thread.sleep(100L);
+        timerWheel.schedule(1L, TimeUnit.HOURS, () -> { }, latch::countDown);
+        timerWheel.close();
+
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertEquals(0L, timerWheel.getPendingTimeoutCount());
+        assertThrows(IllegalStateException.class, () -> timerWheel.schedule(1L, TimeUnit.MILLISECONDS, () -> { }));
+    }
+}